@@ -26,7 +26,7 @@
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.apache.maven.artifact.versioning.OverConstrainedVersionException;
 import org.apache.maven.artifact.versioning.VersionRange;
 
@@ -347,8 +347,7 @@ public int compareTo(Artifact a) {
                     }
                     if (result == 0) {
                         // We don't consider the version range in the comparison, just the resolved version
-                        result = new DefaultArtifactVersion(version)
-                                .compareTo(new DefaultArtifactVersion(a.getVersion()));
+                        result = ComparableVersion.compare(version, a.getVersion());
                     }
                 }
             }
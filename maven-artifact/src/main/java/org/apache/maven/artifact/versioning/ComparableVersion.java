@@ -66,12 +66,27 @@ public class ComparableVersion implements Comparable<ComparableVersion> {
 
     private static final int MAX_LONGITEM_LENGTH = 18;
 
+    private static final int CACHE_CAPACITY = 8192;
+
+    /**
+     * The versions parsed so far, keyed by their string representation.
+     */
+    private static final VersionCache<Tokens> CACHE = new VersionCache<>(CACHE_CAPACITY);
+
+    /**
+     * Whether {@link #compare(String, String)} compares the strings directly, enabled by setting the system property
+     * {@code maven.versioning.compareStrings} to {@code true}.
+     */
+    private static final boolean COMPARE_STRINGS = Boolean.getBoolean("maven.versioning.compareStrings");
+
     private String value;
 
     private String canonical;
 
     private ListItem items;
 
+    private Tokens tokens;
+
     private interface Item {
         int INT_ITEM = 3;
         int LONG_ITEM = 4;
@@ -653,15 +668,260 @@ private String toListString() {
         }
     }
 
+    /**
+     * The items of a parsed version flattened into packed arrays, so that versions are compared without walking the
+     * item tree.
+     * <p>
+     * Parsing only ever nests a list as the last item of its parent list, so the tree is a chain of lists and comparing
+     * two trees item by item, descending into lists as they come, is the same as comparing the items in the order of a
+     * depth-first walk, with a list being a marker token that compares like the list itself. Each token takes two
+     * longs: a header holding the type of the token, the rank of its qualifier and the type of the number of a
+     * combination, followed by the value of its number. Unknown qualifiers and numbers that do not fit in a long are
+     * kept aside in {@link #refs}.
+     * <p>
+     * Instances are immutable and shared by all the versions with the same string representation.
+     */
+    private static final class Tokens {
+        private static final int INT = 0;
+
+        private static final int LONG = 1;
+
+        private static final int BIGINTEGER = 2;
+
+        private static final int STRING = 3;
+
+        private static final int COMBINATION = 4;
+
+        private static final int LIST = 5;
+
+        /**
+         * The rank of unknown qualifiers, which are ordered after all known qualifiers.
+         */
+        private static final int UNKNOWN_RANK = StringItem.QUALIFIERS.size();
+
+        private static final int RELEASE_RANK = StringItem.QUALIFIERS.indexOf("");
+
+        private static final int BITS = 8;
+
+        private static final int MASK = (1 << BITS) - 1;
+
+        private final ListItem items;
+
+        private final int size;
+
+        private final long[] tokens;
+
+        private final Object[] refs;
+
+        Tokens(ListItem items) {
+            List<Item> flat = new ArrayList<>();
+            flatten(items, flat);
+            this.items = items;
+            this.size = flat.size();
+            this.tokens = new long[size * 2];
+            Object[] refs = null;
+            for (int i = 0; i < size; i++) {
+                Item item = flat.get(i);
+                StringItem qualifier = null;
+                Item number = item;
+                int type;
+                switch (item.getType()) {
+                    case Item.STRING_ITEM:
+                        type = STRING;
+                        qualifier = (StringItem) item;
+                        number = null;
+                        break;
+                    case Item.COMBINATION_ITEM:
+                        type = COMBINATION;
+                        qualifier = ((CombinationItem) item).getStringPart();
+                        number = ((CombinationItem) item).getDigitPart();
+                        break;
+                    case Item.LIST_ITEM:
+                        type = LIST;
+                        number = null;
+                        break;
+                    default:
+                        type = numberType(item);
+                }
+                int rank = 0;
+                if (qualifier != null) {
+                    rank = rank(qualifier.value);
+                    if (rank == UNKNOWN_RANK) {
+                        refs = refs != null ? refs : new Object[size * 2];
+                        refs[i * 2] = qualifier.value.intern();
+                    }
+                }
+                int numberType = number != null ? numberType(number) : INT;
+                if (numberType == BIGINTEGER) {
+                    refs = refs != null ? refs : new Object[size * 2];
+                    refs[i * 2 + 1] = ((BigIntegerItem) number).value;
+                } else if (numberType == LONG) {
+                    tokens[i * 2 + 1] = ((LongItem) number).value;
+                } else if (number != null) {
+                    tokens[i * 2 + 1] = ((IntItem) number).value;
+                }
+                tokens[i * 2] = type | (rank << BITS) | (numberType << (2 * BITS));
+            }
+            this.refs = refs;
+        }
+
+        private static void flatten(ListItem list, List<Item> flat) {
+            for (Item item : list) {
+                flat.add(item);
+                if (item.getType() == Item.LIST_ITEM) {
+                    flatten((ListItem) item, flat);
+                }
+            }
+        }
+
+        private static int numberType(Item item) {
+            switch (item.getType()) {
+                case Item.INT_ITEM:
+                    return INT;
+                case Item.LONG_ITEM:
+                    return LONG;
+                case Item.BIGINTEGER_ITEM:
+                    return BIGINTEGER;
+                default:
+                    throw new IllegalStateException("invalid item: " + item.getClass());
+            }
+        }
+
+        /**
+         * Same ordering as {@link StringItem#comparableQualifier(String)}, unknown qualifiers being further ordered
+         * lexically.
+         */
+        private static int rank(String qualifier) {
+            if (StringItem.RELEASE_QUALIFIERS.contains(qualifier)) {
+                return RELEASE_RANK;
+            }
+            int i = StringItem.QUALIFIERS.indexOf(qualifier);
+            return i == -1 ? UNKNOWN_RANK : i;
+        }
+
+        private int type(int i) {
+            return (int) tokens[i * 2] & MASK;
+        }
+
+        private int rank(int i) {
+            return (int) (tokens[i * 2] >>> BITS) & MASK;
+        }
+
+        private int numberType(int i) {
+            return (int) (tokens[i * 2] >>> (2 * BITS)) & MASK;
+        }
+
+        int compareTo(Tokens other) {
+            int n = Math.max(size, other.size);
+            for (int i = 0; i < n; i++) {
+                int result;
+                if (i >= size) {
+                    // if this is shorter, then invert the compare
+                    result = -other.compareToNull(i);
+                } else if (i >= other.size) {
+                    result = compareToNull(i);
+                } else {
+                    result = compare(i, other);
+                }
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+
+        private int compareToNull(int i) {
+            switch (type(i)) {
+                case STRING:
+                case COMBINATION:
+                    // 1-rc < 1, 1-ga > 1
+                    return Integer.signum(rank(i) - RELEASE_RANK);
+                case LIST:
+                    return 0;
+                case BIGINTEGER:
+                    return ((BigInteger) refs[i * 2 + 1]).signum();
+                default:
+                    return tokens[i * 2 + 1] == 0 ? 0 : 1; // 1.0 == 1, 1.1 > 1
+            }
+        }
+
+        private int compare(int i, Tokens other) {
+            int type = type(i);
+            int otherType = other.type(i);
+            int result;
+            switch (type) {
+                case STRING:
+                    if (otherType == STRING) {
+                        return compareQualifiers(i, other);
+                    } else if (otherType == COMBINATION) {
+                        result = compareQualifiers(i, other);
+                        return result == 0 ? -1 : result; // X < X1
+                    }
+                    return -1; // 1.any < 1.1, 1.any < 1-1
+                case COMBINATION:
+                    if (otherType == STRING) {
+                        result = compareQualifiers(i, other);
+                        return result == 0 ? 1 : result; // X1 > X
+                    } else if (otherType == COMBINATION) {
+                        result = compareQualifiers(i, other);
+                        return result == 0 ? compareNumbers(i, numberType(i), other, other.numberType(i)) : result;
+                    }
+                    return -1;
+                case LIST:
+                    if (otherType == LIST) {
+                        return 0;
+                    }
+                    return otherType == STRING || otherType == COMBINATION ? 1 : -1; // 1-1 > 1-sp, 1-1 < 1.0.x
+                default:
+                    if (otherType <= BIGINTEGER) {
+                        return compareNumbers(i, type, other, otherType);
+                    }
+                    return 1; // 1.1 > 1-sp, 1.1 > 1-1
+            }
+        }
+
+        private int compareQualifiers(int i, Tokens other) {
+            int rank = rank(i);
+            int otherRank = other.rank(i);
+            if (rank != otherRank) {
+                return Integer.compare(rank, otherRank);
+            }
+            if (rank != UNKNOWN_RANK || refs[i * 2] == other.refs[i * 2]) {
+                return 0;
+            }
+            return ((String) refs[i * 2]).compareTo((String) other.refs[i * 2]);
+        }
+
+        private int compareNumbers(int i, int type, Tokens other, int otherType) {
+            if (type != otherType) {
+                // the longer the number, the greater it is
+                return Integer.compare(type, otherType);
+            } else if (type == BIGINTEGER) {
+                return ((BigInteger) refs[i * 2 + 1]).compareTo((BigInteger) other.refs[i * 2 + 1]);
+            }
+            return Long.compare(tokens[i * 2 + 1], other.tokens[i * 2 + 1]);
+        }
+    }
+
     public ComparableVersion(String version) {
         parseVersion(version);
     }
 
-    @SuppressWarnings("checkstyle:innerassignment")
     public final void parseVersion(String version) {
         this.value = version;
 
-        items = new ListItem();
+        Tokens parsed = CACHE.get(version);
+        if (parsed == null) {
+            parsed = new Tokens(parseItems(version));
+            CACHE.put(version, parsed);
+        }
+        this.items = parsed.items;
+        this.tokens = parsed;
+    }
+
+    @SuppressWarnings("checkstyle:innerassignment")
+    private static ListItem parseItems(String version) {
+        ListItem items = new ListItem();
 
         version = version.toLowerCase(Locale.ENGLISH);
 
@@ -749,6 +1009,8 @@ public final void parseVersion(String version) {
             list = (ListItem) stack.pop();
             list.normalize();
         }
+
+        return items;
     }
 
     private static Item parseItem(boolean isDigit, String buf) {
@@ -787,7 +1049,27 @@ private static String stripLeadingZeroes(String buf) {
 
     @Override
     public int compareTo(ComparableVersion o) {
-        return items.compareTo(o.items);
+        return tokens.compareTo(o.tokens);
+    }
+
+    /**
+     * Compares two versions given as strings. The result has the same sign as
+     * {@code new ComparableVersion(version1).compareTo(new ComparableVersion(version2))}. By default the versions are
+     * parsed through the cache of parsed versions; when the system property {@code maven.versioning.compareStrings} is
+     * {@code true}, they are instead compared directly on their characters, without creating any object, which avoids
+     * filling the cache with versions that are compared only once.
+     *
+     * @param version1 the first version to compare
+     * @param version2 the second version to compare
+     * @return a negative integer, zero, or a positive integer as the first version is less than, equal to, or greater
+     *         than the second version
+     * @since 4.0.0
+     */
+    public static int compare(String version1, String version2) {
+        if (COMPARE_STRINGS) {
+            return StringVersionComparator.compare(version1, version2);
+        }
+        return new ComparableVersion(version1).compareTo(new ComparableVersion(version2));
     }
 
     @Override
@@ -0,0 +1,580 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+/**
+ * Compares two version strings with the semantics of {@link ComparableVersion}, directly on the characters of the
+ * strings and without creating any object.
+ * <p>
+ * The strings are walked with one cursor each. A cursor is packed into a {@code long} holding the current token (its
+ * type and the positions delimiting it in the string) and the parser state needed to read the next one. Tokens are the
+ * items {@link ComparableVersion} would create, in the order of a depth-first walk of its item tree, a nested list
+ * being a token of its own. The items removed when normalizing the tree, namely runs of zeros followed by a qualifier
+ * or by nothing and lists left empty, are skipped by looking ahead in the string.
+ * <p>
+ * Strings with non-ASCII characters, whose lower case or digits depend on the locale and Unicode tables, and strings
+ * too long for a cursor are compared by {@link ComparableVersion} instead.
+ *
+ * @see ComparableVersion#compare(String, String)
+ */
+final class StringVersionComparator {
+
+    private static final int END = 0;
+
+    private static final int LIST = 1;
+
+    private static final int NUMBER = 2;
+
+    private static final int STRING = 3;
+
+    private static final int COMBINATION = 4;
+
+    private static final int TYPE_BITS = 3;
+
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
+    private static final int POSITION_BITS = 12;
+
+    private static final int MAX_LENGTH = (1 << POSITION_BITS) - 1;
+
+    private static final long POSITION_MASK = MAX_LENGTH;
+
+    // cursor layout: type, start, end, split, next, the two flags, then the type of the first item of a list
+    private static final int START_SHIFT = TYPE_BITS;
+
+    private static final int END_SHIFT = START_SHIFT + POSITION_BITS;
+
+    private static final int SPLIT_SHIFT = END_SHIFT + POSITION_BITS;
+
+    private static final int NEXT_SHIFT = SPLIT_SHIFT + POSITION_BITS;
+
+    /**
+     * Set if no item has been added to the current list yet.
+     */
+    private static final long LIST_EMPTY = 1L << (NEXT_SHIFT + POSITION_BITS);
+
+    /**
+     * Set if the current token is followed by a nested list.
+     */
+    private static final long LIST_PENDING = LIST_EMPTY << 1;
+
+    /**
+     * The position of the type of the first item of a list, stored in the cursor of the list along with the positions
+     * of the item when the item had to be read to find out about the list, so that it is not read twice.
+     */
+    private static final int ITEM_SHIFT = NEXT_SHIFT + POSITION_BITS + 2;
+
+    /**
+     * The cursor before the first token of a string.
+     */
+    private static final long FIRST = LIST_EMPTY;
+
+    private static final int MAX_INT_LENGTH = 9;
+
+    private static final int MAX_LONG_LENGTH = 18;
+
+    // the ranks of the qualifiers, see ComparableVersion.StringItem#comparableQualifier()
+    private static final int ALPHA = 0;
+
+    private static final int BETA = 1;
+
+    private static final int MILESTONE = 2;
+
+    private static final int RC = 3;
+
+    private static final int SNAPSHOT = 4;
+
+    private static final int RELEASE = 5;
+
+    private static final int SP = 6;
+
+    private static final int UNKNOWN = 7;
+
+    private StringVersionComparator() {}
+
+    static int compare(String version1, String version2) {
+        if (version1.equals(version2)) {
+            return 0;
+        }
+
+        // most versions start with non-zero numbers separated by dots: such numbers are never removed by normalization
+        // nor do they start a list, so they can be compared right away, without a cursor
+        int position1 = 0;
+        int position2 = 0;
+        while (true) {
+            int end1 = skipDigits(version1, position1);
+            int end2 = skipDigits(version2, position2);
+            if (isZero(version1, position1, end1)
+                    || isZero(version2, position2, end2)
+                    || !isAscii(version1, end1)
+                    || !isAscii(version2, end2)) {
+                break;
+            }
+            int result = compareNumbers(version1, position1, end1, version2, position2, end2);
+            if (result != 0) {
+                return result;
+            } else if (!isDot(version1, end1) || !isDot(version2, end2)) {
+                break;
+            }
+            position1 = end1 + 1;
+            position2 = end2 + 1;
+        }
+
+        if (!isSupported(version1) || !isSupported(version2)) {
+            return Integer.signum(new ComparableVersion(version1).compareTo(new ComparableVersion(version2)));
+        }
+        long cursor1 = next(version1, position1 == 0 ? FIRST : cursor(END, 0, 0, 0, position1, false, false));
+        long cursor2 = next(version2, position2 == 0 ? FIRST : cursor(END, 0, 0, 0, position2, false, false));
+        while (true) {
+            int result;
+            if (type(cursor1) == END) {
+                if (type(cursor2) == END) {
+                    return 0;
+                }
+                // if this is shorter, then invert the compare
+                result = -compareToNull(version2, cursor2);
+            } else if (type(cursor2) == END) {
+                result = compareToNull(version1, cursor1);
+            } else {
+                result = compare(version1, cursor1, version2, cursor2);
+            }
+            if (result != 0) {
+                return result;
+            }
+            cursor1 = next(version1, cursor1);
+            cursor2 = next(version2, cursor2);
+        }
+    }
+
+    private static boolean isAscii(String s, int position) {
+        return position >= s.length() || s.charAt(position) < 0x80;
+    }
+
+    private static boolean isDot(String s, int position) {
+        return position < s.length() && s.charAt(position) == '.';
+    }
+
+    private static boolean isSupported(String version) {
+        int length = version.length();
+        if (length > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (version.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ----------------------------------------------------------------------
+    // Comparison
+    // ----------------------------------------------------------------------
+
+    private static int compareToNull(String s, long cursor) {
+        switch (type(cursor)) {
+            case STRING:
+            case COMBINATION:
+                // 1-rc < 1, 1-ga > 1
+                return Integer.signum(rank(s, cursor) - RELEASE);
+            case LIST:
+                return 0;
+            default:
+                return isZero(s, start(cursor), end(cursor)) ? 0 : 1; // 1.0 == 1, 1.1 > 1
+        }
+    }
+
+    private static int compare(String s1, long cursor1, String s2, long cursor2) {
+        int type2 = type(cursor2);
+        int result;
+        switch (type(cursor1)) {
+            case NUMBER:
+                if (type2 == NUMBER) {
+                    return compareNumbers(s1, start(cursor1), end(cursor1), s2, start(cursor2), end(cursor2));
+                }
+                return 1; // 1.1 > 1-sp, 1.1 > 1-1
+            case STRING:
+                if (type2 == STRING) {
+                    return compareQualifiers(s1, cursor1, s2, cursor2);
+                } else if (type2 == COMBINATION) {
+                    result = compareQualifiers(s1, cursor1, s2, cursor2);
+                    return result == 0 ? -1 : result; // X < X1
+                }
+                return -1; // 1.any < 1.1, 1.any < 1-1
+            case COMBINATION:
+                if (type2 == STRING) {
+                    result = compareQualifiers(s1, cursor1, s2, cursor2);
+                    return result == 0 ? 1 : result; // X1 > X
+                } else if (type2 == COMBINATION) {
+                    result = compareQualifiers(s1, cursor1, s2, cursor2);
+                    if (result == 0) {
+                        result = compareNumbers(
+                                s1, digits(s1, cursor1), end(cursor1), s2, digits(s2, cursor2), end(cursor2));
+                    }
+                    return result;
+                }
+                return -1;
+            default:
+                if (type2 == LIST) {
+                    return 0;
+                }
+                return type2 == NUMBER ? -1 : 1; // 1-1 < 1.0.x, 1-1 > 1-sp
+        }
+    }
+
+    private static int compareQualifiers(String s1, long cursor1, String s2, long cursor2) {
+        int rank1 = rank(s1, cursor1);
+        int rank2 = rank(s2, cursor2);
+        if (rank1 != rank2) {
+            return Integer.compare(rank1, rank2);
+        } else if (rank1 != UNKNOWN) {
+            return 0;
+        }
+        // unknown qualifiers are never aliased, compare them lexically
+        int start1 = start(cursor1);
+        int end1 = qualifierEnd(cursor1);
+        int start2 = start(cursor2);
+        int end2 = qualifierEnd(cursor2);
+        int length = Math.min(end1 - start1, end2 - start2);
+        for (int i = 0; i < length; i++) {
+            char c1 = lowerCase(s1.charAt(start1 + i));
+            char c2 = lowerCase(s2.charAt(start2 + i));
+            if (c1 != c2) {
+                return Integer.compare(c1, c2);
+            }
+        }
+        return Integer.compare(end1 - start1, end2 - start2);
+    }
+
+    /**
+     * Compares two numbers the way {@code IntItem}, {@code LongItem} and {@code BigIntegerItem} do: a number of a
+     * larger type is greater whatever its value, the type being chosen from the number of digits once leading zeros are
+     * stripped, except that a number made only of zeros keeps all its digits.
+     */
+    private static int compareNumbers(String s1, int start1, int end1, String s2, int start2, int end2) {
+        int significant1 = skipZeros(s1, start1, end1);
+        int significant2 = skipZeros(s2, start2, end2);
+        int type1 = numberType(significant1 < end1 ? end1 - significant1 : end1 - start1);
+        int type2 = numberType(significant2 < end2 ? end2 - significant2 : end2 - start2);
+        if (type1 != type2) {
+            return Integer.compare(type1, type2);
+        }
+        int length1 = end1 - significant1;
+        int length2 = end2 - significant2;
+        if (length1 != length2) {
+            return Integer.compare(length1, length2);
+        }
+        for (int i = 0; i < length1; i++) {
+            char c1 = s1.charAt(significant1 + i);
+            char c2 = s2.charAt(significant2 + i);
+            if (c1 != c2) {
+                return Integer.compare(c1, c2);
+            }
+        }
+        return 0;
+    }
+
+    private static int numberType(int length) {
+        if (length <= MAX_INT_LENGTH) {
+            return 0;
+        }
+        return length <= MAX_LONG_LENGTH ? 1 : 2;
+    }
+
+    private static int skipZeros(String s, int start, int end) {
+        int i = start;
+        while (i < end && s.charAt(i) == '0') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isZero(String s, int start, int end) {
+        return skipZeros(s, start, end) == end;
+    }
+
+    /**
+     * Gets the rank of the qualifier of a string or combination token, applying the same aliases as
+     * {@code StringItem}.
+     */
+    private static int rank(String s, long cursor) {
+        int start = start(cursor);
+        int length = qualifierEnd(cursor) - start;
+        if (length == 1 && type(cursor) == COMBINATION) {
+            // a1 = alpha-1, b1 = beta-1, m1 = milestone-1
+            switch (lowerCase(s.charAt(start))) {
+                case 'a':
+                    return ALPHA;
+                case 'b':
+                    return BETA;
+                case 'm':
+                    return MILESTONE;
+                default:
+            }
+        }
+        if (matches(s, start, length, "alpha")) {
+            return ALPHA;
+        } else if (matches(s, start, length, "beta")) {
+            return BETA;
+        } else if (matches(s, start, length, "milestone")) {
+            return MILESTONE;
+        } else if (matches(s, start, length, "rc") || matches(s, start, length, "cr")) {
+            return RC;
+        } else if (matches(s, start, length, "snapshot")) {
+            return SNAPSHOT;
+        } else if (length == 0
+                || matches(s, start, length, "ga")
+                || matches(s, start, length, "final")
+                || matches(s, start, length, "release")) {
+            return RELEASE;
+        } else if (matches(s, start, length, "sp")) {
+            return SP;
+        }
+        return UNKNOWN;
+    }
+
+    private static boolean matches(String s, int start, int length, String qualifier) {
+        if (length != qualifier.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (lowerCase(s.charAt(start + i)) != qualifier.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char lowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    // ----------------------------------------------------------------------
+    // Tokenization
+    // ----------------------------------------------------------------------
+
+    /**
+     * Moves the cursor to the next token that survives normalization.
+     */
+    private static long next(String s, long cursor) {
+        while (true) {
+            cursor = nextRaw(s, cursor);
+            switch (type(cursor)) {
+                case LIST:
+                    long first = nextRaw(s, cursor);
+                    int type = type(first);
+                    if (type == STRING
+                            || type == COMBINATION
+                            || type == NUMBER && !isZero(s, start(first), end(first))) {
+                        return list(type, start(first), end(first), qualifierEnd(first));
+                    }
+                    // lists left empty are removed, and nothing can follow them
+                    return firstType(s, cursor) == END ? endOf(s) : cursor;
+                case NUMBER:
+                    if (isZero(s, start(cursor), end(cursor)) && !survives(s, cursor)) {
+                        continue;
+                    }
+                    return cursor;
+                default:
+                    return cursor;
+            }
+        }
+    }
+
+    /**
+     * Tells whether the run of zeros starting with the zero at the cursor is kept by normalization, i.e. whether it is
+     * followed in its list by something else than nothing, a qualifier or a list starting with a qualifier.
+     */
+    private static boolean survives(String s, long zero) {
+        long cursor = skipZeros(s, zero);
+        switch (type(cursor)) {
+            case NUMBER:
+            case COMBINATION:
+                return true;
+            case LIST:
+                int first = firstType(s, cursor);
+                return first == NUMBER || first == LIST;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Gets the type of the first token of the list starting at the cursor once normalized, {@link #END} if the list
+     * ends up empty.
+     */
+    private static int firstType(String s, long list) {
+        long cursor = nextRaw(s, list);
+        if (type(cursor) == NUMBER && isZero(s, start(cursor), end(cursor))) {
+            if (survives(s, cursor)) {
+                return NUMBER;
+            }
+            cursor = skipZeros(s, cursor);
+        }
+        if (type(cursor) == LIST) {
+            return firstType(s, cursor) == END ? END : LIST;
+        }
+        return type(cursor);
+    }
+
+    /**
+     * Moves the cursor from a zero past the run of zeros it starts, to the first token that is not a zero.
+     */
+    private static long skipZeros(String s, long zero) {
+        long cursor = zero;
+        do {
+            cursor = nextRaw(s, cursor);
+        } while (type(cursor) == NUMBER && isZero(s, start(cursor), end(cursor)));
+        return cursor;
+    }
+
+    /**
+     * Moves the cursor to the next item {@code ComparableVersion.parseVersion()} creates, before normalization.
+     */
+    private static long nextRaw(String s, long cursor) {
+        int item = (int) (cursor >>> ITEM_SHIFT) & TYPE_MASK;
+        if (item != END) {
+            return item(s, item, start(cursor), end(cursor), qualifierEnd(cursor));
+        }
+        int position = next(cursor);
+        if ((cursor & LIST_PENDING) != 0) {
+            return cursor(LIST, position, position, position, position, true, false);
+        }
+        int length = s.length();
+        if (position >= length) {
+            return endOf(s);
+        }
+        char c = s.charAt(position);
+        if (c == '.' || c == '-') {
+            // an empty component is a zero
+            return cursor(NUMBER, position, position, position, position + 1, false, c == '-');
+        } else if (isDigit(c)) {
+            int end = skipDigits(s, position);
+            return item(s, NUMBER, position, end, end);
+        }
+
+        int end = position;
+        while (end < length && !isDigit(s.charAt(end)) && s.charAt(end) != '.' && s.charAt(end) != '-') {
+            end++;
+        }
+        boolean empty = (cursor & LIST_EMPTY) != 0;
+        int digits = end;
+        if (digits < length && s.charAt(digits) == '-' && digits + 1 < length && isDigit(s.charAt(digits + 1))) {
+            // X-1 is going to be treated as X1
+            digits++;
+        }
+        if (digits < length && isDigit(s.charAt(digits))) {
+            // X1 starts a new list
+            return empty
+                    ? item(s, COMBINATION, position, skipDigits(s, digits), end)
+                    : list(COMBINATION, position, skipDigits(s, digits), end);
+        } else if (end == length && !empty) {
+            // 1.0.0.X1 < 1.0.0-X2, treat .X as -X for any string qualifier X
+            return list(STRING, position, end, end);
+        }
+        return item(s, STRING, position, end, end);
+    }
+
+    /**
+     * Creates the cursor of a list whose first item has already been read.
+     */
+    private static long list(int type, int start, int end, int split) {
+        return cursor(LIST, start, end, split, start, true, false) | (long) type << ITEM_SHIFT;
+    }
+
+    private static long endOf(String s) {
+        int length = s.length();
+        return cursor(END, length, length, length, length, false, false);
+    }
+
+    /**
+     * Creates the cursor of an item ending at the given position, followed by a separator, a transition from digits
+     * to characters or nothing.
+     */
+    private static long item(String s, int type, int start, int end, int split) {
+        if (end == s.length()) {
+            return cursor(type, start, end, split, end, false, false);
+        }
+        char c = s.charAt(end);
+        if (c == '.') {
+            return cursor(type, start, end, split, end + 1, false, false);
+        } else if (c == '-') {
+            return cursor(type, start, end, split, end + 1, false, true);
+        }
+        // a transition from digits to characters starts a new list
+        return cursor(type, start, end, split, end, false, true);
+    }
+
+    private static int skipDigits(String s, int position) {
+        int i = position;
+        while (i < s.length() && isDigit(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // ----------------------------------------------------------------------
+    // Cursor packing
+    // ----------------------------------------------------------------------
+
+    private static long cursor(int type, int start, int end, int split, int next, boolean empty, boolean pending) {
+        return type
+                | (long) start << START_SHIFT
+                | (long) end << END_SHIFT
+                | (long) split << SPLIT_SHIFT
+                | (long) next << NEXT_SHIFT
+                | (empty ? LIST_EMPTY : 0)
+                | (pending ? LIST_PENDING : 0);
+    }
+
+    private static int type(long cursor) {
+        return (int) cursor & TYPE_MASK;
+    }
+
+    private static int start(long cursor) {
+        return (int) ((cursor >>> START_SHIFT) & POSITION_MASK);
+    }
+
+    private static int end(long cursor) {
+        return (int) ((cursor >>> END_SHIFT) & POSITION_MASK);
+    }
+
+    /**
+     * Gets the end of the qualifier of a string or combination token.
+     */
+    private static int qualifierEnd(long cursor) {
+        return (int) ((cursor >>> SPLIT_SHIFT) & POSITION_MASK);
+    }
+
+    /**
+     * Gets the start of the digits of a combination token, skipping the hyphen of {@code X-1}.
+     */
+    private static int digits(String s, long cursor) {
+        int split = qualifierEnd(cursor);
+        return s.charAt(split) == '-' ? split + 1 : split;
+    }
+
+    private static int next(long cursor) {
+        return (int) ((cursor >>> NEXT_SHIFT) & POSITION_MASK);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A concurrent, size-bounded cache of parsed versions and version ranges, keyed by their string representation.
+ * <p>
+ * Entries are kept in two generations: new entries go to the young generation and, once it reaches the capacity, the
+ * young generation becomes the old one and the previous old generation is dropped. Entries found in the old
+ * generation are promoted back to the young one, so that frequently used versions survive. Neither lookups nor
+ * insertions take a lock, and the cache never holds more than about twice its capacity.
+ *
+ * @param <V> the type of the cached values
+ */
+final class VersionCache<V> {
+
+    private final int capacity;
+
+    private final AtomicReference<Generations<V>> generations;
+
+    VersionCache(int capacity) {
+        this.capacity = capacity;
+        this.generations =
+                new AtomicReference<>(new Generations<>(new ConcurrentHashMap<>(), new ConcurrentHashMap<>()));
+    }
+
+    V get(String key) {
+        Generations<V> g = generations.get();
+        V value = g.young.get(key);
+        if (value == null) {
+            value = g.old.get(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    void put(String key, V value) {
+        Generations<V> g = generations.get();
+        g.young.put(key, value);
+        if (g.young.size() >= capacity) {
+            // losing the race means another thread already rotated the generations
+            generations.compareAndSet(g, new Generations<>(new ConcurrentHashMap<>(), g.young));
+        }
+    }
+
+    int size() {
+        Generations<V> g = generations.get();
+        return g.young.size() + g.old.size();
+    }
+
+    private static final class Generations<V> {
+        private final ConcurrentHashMap<String, V> young;
+
+        private final ConcurrentHashMap<String, V> old;
+
+        Generations(ConcurrentHashMap<String, V> young, ConcurrentHashMap<String, V> old) {
+            this.young = young;
+            this.old = old;
+        }
+    }
+}
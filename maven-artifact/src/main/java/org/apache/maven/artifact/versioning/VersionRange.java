@@ -22,9 +22,7 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 
 import org.apache.maven.artifact.Artifact;
 
@@ -33,9 +31,11 @@
  *
  */
 public class VersionRange {
-    private static final Map<String, VersionRange> CACHE_SPEC = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final int CACHE_CAPACITY = 4096;
 
-    private static final Map<String, VersionRange> CACHE_VERSION = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final VersionCache<VersionRange> CACHE_SPEC = new VersionCache<>(CACHE_CAPACITY);
+
+    private static final VersionCache<VersionRange> CACHE_VERSION = new VersionCache<>(CACHE_CAPACITY);
 
     private final ArtifactVersion recommendedVersion;
 
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Differential tests of {@link ComparableVersion#compare(String, String)} against
+ * {@link ComparableVersion#compareTo(ComparableVersion)}.
+ */
+class StringVersionComparatorTest {
+
+    private static final String[] VERSIONS = {
+        "1-alpha-snapshot",
+        "1-alpha",
+        "1-alpha-1",
+        "1-alpha-2",
+        "1-alpha2",
+        "1-alpha-123",
+        "1-beta-2",
+        "1-beta123",
+        "1-m2",
+        "1-m11",
+        "1-rc",
+        "1-cr2",
+        "1-rc123",
+        "1-SNAPSHOT",
+        "1",
+        "1-sp",
+        "1-sp2",
+        "1-sp123",
+        "1-abc",
+        "1-def",
+        "1-pom-1",
+        "1-1-snapshot",
+        "1-1",
+        "1-2",
+        "1-123",
+        "1.0.RC2",
+        "1.0-RC3",
+        "1.0.1",
+        "1.0.0.X1",
+        "1.0.0-X2",
+        "1-0.ga",
+        "1.0-final",
+        "1.0-release",
+        "1.0.0.0.0.0.0",
+        "1-0-0.0.0-0",
+        "1.0-0.1",
+        "1..1",
+        "1--1",
+        "1-",
+        "1.",
+        ".1",
+        "-1",
+        "",
+        "0",
+        "0.0",
+        "0-0",
+        "a",
+        "a1",
+        "a-1",
+        "b1",
+        "m1",
+        "1a",
+        "1a1b",
+        "2.0.0.v200706041905-7C78EK9E_EkMNfNOd2d8qq",
+        "2147483647",
+        "2147483648",
+        "9223372036854775807",
+        "9223372036854775808",
+        "0000000000",
+        "000000000000000000000",
+        "1.0000000000.1",
+        "1.000000000000000000000.1",
+        "1-ALPHA-1",
+        "1-Beta-2",
+        "1-CR2",
+        "1.0-GA",
+        "1-Final",
+        "1.SP",
+        "1-x-1-2",
+        "1-x1.y",
+        "1.2.3-0-x",
+        "1-0-x",
+        "1.0.0-0.0.0-rc",
+        "1.0-0-0-1",
+        "1.x",
+        "1.x.2",
+        "1.0.x-1",
+        "1-1.foo-bar1baz-.1"
+    };
+
+    private static final String ALPHABET = "01aAmxc.-";
+
+    private static final String[] PARTS = {
+        "0",
+        "1",
+        "2",
+        "10",
+        "00",
+        "012",
+        "1234567890",
+        "12345678901234567890",
+        "a",
+        "b",
+        "m",
+        "alpha",
+        "beta",
+        "rc",
+        "cr",
+        "snapshot",
+        "SNAPSHOT",
+        "ga",
+        "final",
+        "release",
+        "sp",
+        "foo",
+        "x",
+        "",
+        "-",
+        "."
+    };
+
+    private static final String[] SEPARATORS = {".", "-", "", ".", "-"};
+
+    @Test
+    void testKnownVersions() {
+        assertSameOrdering(Arrays.asList(VERSIONS));
+    }
+
+    @Test
+    void testShortVersions() {
+        List<String> versions = new ArrayList<>();
+        versions.add("");
+        for (int i = 0; i < versions.size(); i++) {
+            String version = versions.get(i);
+            if (version.length() < 3) {
+                for (char c : ALPHABET.toCharArray()) {
+                    versions.add(version + c);
+                }
+            }
+        }
+        assertSameOrdering(versions);
+    }
+
+    @Test
+    void testRandomVersions() {
+        Random random = new Random(0);
+        List<String> versions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int parts = 1 + random.nextInt(6);
+            for (int j = 0; j < parts; j++) {
+                if (j > 0) {
+                    sb.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+                }
+                sb.append(PARTS[random.nextInt(PARTS.length)]);
+            }
+            versions.add(sb.toString());
+        }
+        assertSameOrdering(versions);
+    }
+
+    @Test
+    void testFallback() {
+        String longVersion = "1." + String.join(".", Collections.nCopies(3000, "1"));
+        assertSameOrdering(Arrays.asList(
+                "1-\u0130", "1-i", "1-I", "\u0661.\u0662", "1.2", "1-\u00e9", longVersion, longVersion + ".1"));
+    }
+
+    private static void assertSameOrdering(List<String> versions) {
+        ComparableVersion[] parsed = new ComparableVersion[versions.size()];
+        for (int i = 0; i < parsed.length; i++) {
+            parsed[i] = new ComparableVersion(versions.get(i));
+        }
+        for (int i = 0; i < parsed.length; i++) {
+            for (int j = 0; j < parsed.length; j++) {
+                int expected = Integer.signum(parsed[i].compareTo(parsed[j]));
+                int actual = Integer.signum(StringVersionComparator.compare(versions.get(i), versions.get(j)));
+                if (expected != actual) {
+                    assertEquals(
+                            expected,
+                            actual,
+                            "compare(\"" + versions.get(i) + "\", \"" + versions.get(j) + "\") with canonical forms "
+                                    + parsed[i].getCanonical() + " and " + parsed[j].getCanonical());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VersionCacheTest {
+
+    @Test
+    void testBounded() {
+        VersionCache<String> cache = new VersionCache<>(10);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("1." + i, "1." + i);
+            assertTrue(cache.size() <= 20, "cache holds " + cache.size() + " entries");
+        }
+        assertEquals("1.999", cache.get("1.999"));
+        assertNull(cache.get("1.0"));
+    }
+
+    @Test
+    void testPromotion() {
+        VersionCache<String> cache = new VersionCache<>(10);
+        cache.put("1.0", "1.0");
+        for (int i = 0; i < 100; i++) {
+            cache.put("2." + i, "2." + i);
+            // looking the entry up keeps it alive
+            assertEquals("1.0", cache.get("1.0"));
+        }
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String version = "1." + (1 + i % 500);
+                        ComparableVersion parsed = new ComparableVersion(version);
+                        assertEquals(version, parsed.getCanonical());
+                        assertEquals(0, parsed.compareTo(new ComparableVersion(version + ".0")));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testVersionRangeCached() throws InvalidVersionSpecificationException {
+        assertSame(VersionRange.createFromVersionSpec("[1.0,2.0)"), VersionRange.createFromVersionSpec("[1.0,2.0)"));
+        assertSame(VersionRange.createFromVersion("1.0"), VersionRange.createFromVersion("1.0"));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses and compares synthetic versions with {@link ComparableVersion}, and compares them as strings with
+ * {@link ComparableVersion#compare(String, String)}, with the string comparator enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ComparableVersionBenchmark {
+
+    private static final int VERSIONS = 1000;
+
+    private List<String> versions;
+
+    private ComparableVersion[] parsed;
+
+    @Setup
+    public void setup() {
+        versions = new SyntheticPoms().versions(VERSIONS);
+        parsed = versions.stream().map(ComparableVersion::new).toArray(ComparableVersion[]::new);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (String version : versions) {
+            blackhole.consume(new ComparableVersion(version));
+        }
+    }
+
+    @Benchmark
+    public int compare() {
+        int result = 0;
+        for (int i = 1; i < parsed.length; i++) {
+            result += parsed[i - 1].compareTo(parsed[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int parseAndCompare() {
+        int result = 0;
+        for (int i = 1; i < versions.size(); i++) {
+            result += new ComparableVersion(versions.get(i - 1)).compareTo(new ComparableVersion(versions.get(i)));
+        }
+        return result;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dmaven.versioning.compareStrings=true")
+    public int compareStrings() {
+        int result = 0;
+        for (int i = 1; i < versions.size(); i++) {
+            result += ComparableVersion.compare(versions.get(i - 1), versions.get(i));
+        }
+        return result;
+    }
+}
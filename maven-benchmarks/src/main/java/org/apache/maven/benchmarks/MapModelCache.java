@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.maven.building.Source;
+import org.apache.maven.model.building.ModelCache;
+
+/**
+ * A session-like {@link ModelCache} backed by a map, so that benchmarks can share cached data between models.
+ */
+class MapModelCache implements ModelCache {
+
+    private final Map<Object, Supplier<?>> data = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String groupId, String artifactId, String version, String tag, Object data) {
+        this.data.put(Arrays.asList(groupId, artifactId, version, tag), () -> data);
+    }
+
+    @Override
+    public Object get(String groupId, String artifactId, String version, String tag) {
+        Supplier<?> s = data.get(Arrays.asList(groupId, artifactId, version, tag));
+        return s != null ? s.get() : null;
+    }
+
+    @Override
+    public Object computeIfAbsent(
+            String groupId, String artifactId, String version, String tag, Supplier<Supplier<?>> data) {
+        return this.data
+                .computeIfAbsent(Arrays.asList(groupId, artifactId, version, tag), k -> data.get())
+                .get();
+    }
+
+    @Override
+    public Object computeIfAbsent(Source path, String tag, Supplier<Supplier<?>> data) {
+        return this.data
+                .computeIfAbsent(Arrays.asList(path, tag), k -> data.get())
+                .get();
+    }
+
+    @Override
+    public Object computeIfAbsent(String tag, Supplier<Supplier<?>> data) {
+        return this.data.computeIfAbsent(Arrays.asList(tag), k -> data.get()).get();
+    }
+}
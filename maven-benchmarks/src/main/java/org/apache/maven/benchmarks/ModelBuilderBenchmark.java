@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.building.DefaultModelBuilderFactory;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.ModelBuilder;
+import org.apache.maven.model.building.ModelBuildingException;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Builds the effective models of all the projects of a synthetic reactor with {@code DefaultModelBuilder}. The
+ * reactor is written to a temporary directory and only needs its own POMs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ModelBuilderBenchmark {
+
+    @Param({"10", "100"})
+    private int modules;
+
+    private Path basedir;
+
+    private List<Path> poms;
+
+    private ModelBuilder builder;
+
+    @Setup
+    public void setup() throws IOException {
+        basedir = Files.createTempDirectory("maven-benchmarks");
+        poms = new SyntheticPoms().reactor(basedir, modules);
+        builder = new DefaultModelBuilderFactory().newInstance();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(basedir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public void build(Blackhole blackhole) throws ModelBuildingException {
+        for (Path pom : poms) {
+            DefaultModelBuildingRequest request = new DefaultModelBuildingRequest();
+            request.setPomFile(pom.toFile());
+            request.setProcessPlugins(true);
+            blackhole.consume(builder.build(request).getEffectiveModel());
+        }
+    }
+
+    @Benchmark
+    public void buildDependencyModel(Blackhole blackhole) throws ModelBuildingException {
+        buildDependencyModels(blackhole, false);
+    }
+
+    @Benchmark
+    public void buildDescriptor(Blackhole blackhole) throws ModelBuildingException {
+        buildDependencyModels(blackhole, true);
+    }
+
+    /**
+     * Builds the models the way the artifact descriptor reader does, with or without the descriptor building mode.
+     */
+    private void buildDependencyModels(Blackhole blackhole, boolean descriptorBuilding) throws ModelBuildingException {
+        for (Path pom : poms) {
+            DefaultModelBuildingRequest request = new DefaultModelBuildingRequest();
+            request.setPomFile(pom.toFile());
+            request.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL);
+            request.setDescriptorBuilding(descriptorBuilding);
+            blackhole.consume(builder.build(request).getEffectiveModel());
+        }
+    }
+}
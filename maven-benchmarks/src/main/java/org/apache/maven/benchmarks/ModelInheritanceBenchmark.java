@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.model.inheritance.DefaultInheritanceAssembler;
+import org.apache.maven.model.v4.MavenStaxReader;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Assembles the modules of a synthetic reactor with their parent using the {@link DefaultInheritanceAssembler}. The
+ * {@code retained} benchmark also reports, as its {@code objects} counter, the number of distinct objects held by all
+ * the assembled models, which shows how much of the parent is shared rather than copied into each module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ModelInheritanceBenchmark {
+
+    @Param({"100"})
+    private int modules;
+
+    private Model parent;
+
+    private List<Model> children;
+
+    private DefaultInheritanceAssembler assembler;
+
+    @Setup
+    public void setup() throws IOException, XMLStreamException {
+        Path basedir = Files.createTempDirectory("maven-benchmarks");
+        try {
+            List<Path> poms = new SyntheticPoms().reactor(basedir, modules);
+            parent = read(poms.get(0));
+            children = new ArrayList<>(modules);
+            for (Path pom : poms.subList(1, poms.size())) {
+                children.add(read(pom));
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(basedir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        assembler = new DefaultInheritanceAssembler();
+    }
+
+    private static Model read(Path pom) throws IOException, XMLStreamException {
+        try (Reader reader = Files.newBufferedReader(pom)) {
+            return new MavenStaxReader().read(reader);
+        }
+    }
+
+    @Benchmark
+    public List<Model> assemble() {
+        List<Model> models = new ArrayList<>(children.size());
+        for (Model child : children) {
+            models.add(assembler.assembleModelInheritance(child, parent, null, new ProblemCounter()));
+        }
+        return models;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public List<Model> retained(Retained retained) {
+        List<Model> models = assemble();
+        retained.objects = new ObjectGraph().count(models.toArray());
+        return models;
+    }
+
+    /**
+     * Reports the number of objects retained by the assembled models of one invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retained {
+
+        private long objects;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            objects = 0;
+        }
+
+        public long objects() {
+            return objects;
+        }
+    }
+}
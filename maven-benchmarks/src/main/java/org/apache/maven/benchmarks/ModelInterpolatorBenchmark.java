@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.interpolation.StringVisitorModelInterpolator;
+import org.apache.maven.model.path.DefaultPathTranslator;
+import org.apache.maven.model.path.DefaultUrlNormalizer;
+import org.apache.maven.model.root.DefaultRootLocator;
+import org.apache.maven.model.v4.MavenStaxReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Interpolates synthetic models with the {@link StringVisitorModelInterpolator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ModelInterpolatorBenchmark {
+
+    private static final int POMS = 50;
+
+    @Param({"false", "true"})
+    private boolean modelCache;
+
+    private List<Model> models;
+
+    private StringVisitorModelInterpolator interpolator;
+
+    private ModelBuildingRequest request;
+
+    private File projectDir;
+
+    @Setup
+    public void setup() throws XMLStreamException {
+        SyntheticPoms generator = new SyntheticPoms();
+        models = new ArrayList<>(POMS);
+        for (int i = 0; i < POMS; i++) {
+            models.add(new Model(new MavenStaxReader().read(new StringReader(generator.pom(i)))));
+        }
+        interpolator = new StringVisitorModelInterpolator(
+                new DefaultPathTranslator(), new DefaultUrlNormalizer(), new DefaultRootLocator());
+        request = new DefaultModelBuildingRequest();
+        request.getUserProperties().setProperty("benchmark", "true");
+        if (modelCache) {
+            request.setModelCache(new MapModelCache());
+        }
+        projectDir = new File("project").getAbsoluteFile();
+    }
+
+    @Benchmark
+    public void interpolate(Blackhole blackhole) {
+        ProblemCounter problems = new ProblemCounter();
+        for (Model model : models) {
+            blackhole.consume(interpolator.interpolateModel(model, projectDir, request, problems));
+        }
+        blackhole.consume(problems.getProblems());
+    }
+}
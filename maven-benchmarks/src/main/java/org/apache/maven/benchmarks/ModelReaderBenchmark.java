@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.model.InputSource;
+import org.apache.maven.model.v4.MavenStaxReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses synthetic POMs with the {@link MavenStaxReader}, with and without input location tracking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ModelReaderBenchmark {
+
+    private static final int POMS = 100;
+
+    @Param({"false", "true"})
+    private boolean locations;
+
+    private List<byte[]> poms;
+
+    @Setup
+    public void setup() {
+        SyntheticPoms generator = new SyntheticPoms();
+        poms = new ArrayList<>(POMS);
+        for (int i = 0; i < POMS; i++) {
+            poms.add(generator.pom(i).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) throws XMLStreamException {
+        InputSource source = locations ? new InputSource("benchmark", "pom.xml") : null;
+        for (byte[] pom : poms) {
+            MavenStaxReader reader = new MavenStaxReader();
+            reader.setAddLocationInformation(locations);
+            blackhole.consume(reader.read(new ByteArrayInputStream(pom), true, source));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Counts the distinct objects reachable from some roots, so that benchmarks can report how much of the heap a data
+ * structure retains. Objects shared between several roots are counted once. Only the fields of Maven classes and the
+ * elements of object arrays are followed, JDK objects like strings are counted but not traversed.
+ */
+final class ObjectGraph {
+
+    private static final String MAVEN_PACKAGE = "org.apache.maven.";
+
+    private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+
+    long count(Object root) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (!seen.add(object)) {
+                continue;
+            }
+            if (object instanceof Object[]) {
+                for (Object element : (Object[]) object) {
+                    if (element != null) {
+                        pending.push(element);
+                    }
+                }
+            } else {
+                for (Field field : fields(object.getClass())) {
+                    Object value = get(field, object);
+                    if (value != null) {
+                        pending.push(value);
+                    }
+                }
+            }
+        }
+        return seen.size();
+    }
+
+    private List<Field> fields(Class<?> type) {
+        return fields.computeIfAbsent(type, t -> {
+            List<Field> result = new ArrayList<>();
+            for (Class<?> c = t; c != null && c.getName().startsWith(MAVEN_PACKAGE); c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())
+                            && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        result.add(field);
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    private static Object get(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
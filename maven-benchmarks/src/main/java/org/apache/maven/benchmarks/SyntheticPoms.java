@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates the POMs, reactors, versions and ranges used by the benchmarks. Everything is derived from a
+ * {@link Random} seeded with {@link #SEED}, so that two runs of a benchmark work on the very same input and do not
+ * need anything but the generated files.
+ */
+public final class SyntheticPoms {
+
+    /**
+     * The seed of all generated data.
+     */
+    public static final long SEED = 0x4d6176656eL;
+
+    private static final String[] GROUP_IDS = {
+        "org.apache.commons", "org.apache.maven", "org.slf4j", "com.google.guava", "org.junit.jupiter", "org.ow2.asm"
+    };
+
+    private static final String[] QUALIFIERS = {"", "-SNAPSHOT", "-alpha-1", "-beta-2", "-RC3", ".Final", "-jre"};
+
+    private static final String[] SCOPES = {"compile", "test", "provided", "runtime"};
+
+    private static final int MAX_VERSION_PART = 20;
+
+    private static final int MAX_DEPENDENCIES = 10;
+
+    private static final int PLUGINS = 4;
+
+    private final Random random;
+
+    public SyntheticPoms() {
+        this(new Random(SEED));
+    }
+
+    public SyntheticPoms(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Generates a version made of up to four numeric parts and a qualifier.
+     *
+     * @return the version
+     */
+    public String version() {
+        StringBuilder sb = new StringBuilder();
+        int parts = 1 + random.nextInt(4);
+        for (int i = 0; i < parts; i++) {
+            if (i > 0) {
+                sb.append('.');
+            }
+            sb.append(random.nextInt(MAX_VERSION_PART));
+        }
+        return sb.append(QUALIFIERS[random.nextInt(QUALIFIERS.length)]).toString();
+    }
+
+    /**
+     * Generates the given number of versions.
+     *
+     * @param count the number of versions
+     * @return the versions
+     */
+    public List<String> versions(int count) {
+        List<String> versions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            versions.add(version());
+        }
+        return versions;
+    }
+
+    /**
+     * Generates a version range, either bounded on one or two sides, a soft requirement or a union of ranges.
+     *
+     * @return the version range specification
+     */
+    public String range() {
+        int major = random.nextInt(MAX_VERSION_PART);
+        String lower = numeric(major);
+        String upper = numeric(major + 1 + random.nextInt(MAX_VERSION_PART));
+        switch (random.nextInt(5)) {
+            case 0:
+                return "[" + lower + "," + upper + ")";
+            case 1:
+                return "[" + lower + ",)";
+            case 2:
+                return "(," + upper + "]";
+            case 3:
+                return "[" + lower + "],[" + upper + "," + numeric(major + MAX_VERSION_PART + 1) + ")";
+            default:
+                return lower;
+        }
+    }
+
+    /**
+     * Generates a POM without parent, using properties, dependency management, plugins with configuration, profiles
+     * and reporting, with expressions for the interpolator to resolve.
+     *
+     * @param index the index of the project, used in its coordinates
+     * @return the POM
+     */
+    public String pom(int index) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n");
+        sb.append("  <modelVersion>4.0.0</modelVersion>\n");
+        coordinates(sb, "  ", "org.apache.maven.benchmarks", "project-" + index, "1.0-SNAPSHOT");
+        sb.append("  <packaging>jar</packaging>\n");
+        sb.append("  <name>Project ${project.artifactId}</name>\n");
+        sb.append("  <url>https://maven.apache.org/${project.artifactId}</url>\n");
+        body(sb, index);
+        sb.append("</project>\n");
+        return sb.toString();
+    }
+
+    /**
+     * Writes a reactor made of an aggregator POM, which is also the parent of all modules, and the given number of
+     * modules. Each module depends on up to three earlier modules and on dependencies managed by the parent.
+     *
+     * @param basedir the directory to write the reactor to
+     * @param modules the number of modules
+     * @return the POM files of the modules, the aggregator POM being the first one
+     * @throws IOException if a POM could not be written
+     */
+    public List<Path> reactor(Path basedir, int modules) throws IOException {
+        List<Path> poms = new ArrayList<>(modules + 1);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n");
+        sb.append("  <modelVersion>4.0.0</modelVersion>\n");
+        coordinates(sb, "  ", "org.apache.maven.benchmarks", "reactor", "1.0-SNAPSHOT");
+        sb.append("  <packaging>pom</packaging>\n");
+        sb.append("  <modules>\n");
+        for (int i = 0; i < modules; i++) {
+            sb.append("    <module>module-").append(i).append("</module>\n");
+        }
+        sb.append("  </modules>\n");
+        body(sb, -1);
+        sb.append("</project>\n");
+        poms.add(write(basedir.resolve("pom.xml"), sb));
+
+        for (int i = 0; i < modules; i++) {
+            sb.setLength(0);
+            sb.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n");
+            sb.append("  <modelVersion>4.0.0</modelVersion>\n");
+            sb.append("  <parent>\n");
+            coordinates(sb, "    ", "org.apache.maven.benchmarks", "reactor", "1.0-SNAPSHOT");
+            sb.append("  </parent>\n");
+            sb.append("  <artifactId>module-").append(i).append("</artifactId>\n");
+            sb.append("  <dependencies>\n");
+            for (int j = Math.max(0, i - 3); j < i; j++) {
+                dependency(sb, "org.apache.maven.benchmarks", "module-" + j, "${project.version}", null);
+            }
+            libraries(sb, false);
+            sb.append("  </dependencies>\n");
+            sb.append("</project>\n");
+            poms.add(write(basedir.resolve("module-" + i).resolve("pom.xml"), sb));
+        }
+
+        return Collections.unmodifiableList(poms);
+    }
+
+    private void body(StringBuilder sb, int index) {
+        sb.append("  <properties>\n");
+        sb.append("    <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>\n");
+        for (int i = 0; i < MAX_DEPENDENCIES; i++) {
+            sb.append("    <library.").append(i).append(".version>");
+            sb.append(numeric());
+            sb.append("</library.").append(i).append(".version>\n");
+        }
+        sb.append("  </properties>\n");
+
+        sb.append("  <dependencyManagement>\n    <dependencies>\n");
+        for (String groupId : GROUP_IDS) {
+            for (int i = 0; i < MAX_DEPENDENCIES; i++) {
+                dependency(sb, groupId, "library-" + i, "${library." + i + ".version}", null);
+            }
+        }
+        sb.append("    </dependencies>\n  </dependencyManagement>\n");
+
+        if (index >= 0) {
+            sb.append("  <dependencies>\n");
+            libraries(sb, true);
+            sb.append("  </dependencies>\n");
+        }
+
+        sb.append("  <build>\n    <plugins>\n");
+        for (int i = 0; i < PLUGINS; i++) {
+            sb.append("      <plugin>\n");
+            coordinates(sb, "        ", "org.apache.maven.plugins", "maven-plugin-" + i, numeric());
+            sb.append("        <configuration>\n");
+            sb.append("          <encoding>${project.build.sourceEncoding}</encoding>\n");
+            sb.append("          <outputDirectory>${project.build.directory}/plugin-")
+                    .append(i)
+                    .append("</outputDirectory>\n");
+            sb.append("          <includes>\n");
+            for (int j = random.nextInt(4); j >= 0; j--) {
+                sb.append("            <include>**/*").append(j).append(".java</include>\n");
+            }
+            sb.append("          </includes>\n");
+            sb.append("        </configuration>\n");
+            sb.append("        <executions>\n          <execution>\n");
+            sb.append("            <id>default-").append(i).append("</id>\n");
+            sb.append("            <phase>verify</phase>\n");
+            sb.append("            <goals><goal>run</goal></goals>\n");
+            sb.append("          </execution>\n        </executions>\n");
+            sb.append("      </plugin>\n");
+        }
+        sb.append("    </plugins>\n  </build>\n");
+
+        sb.append("  <profiles>\n    <profile>\n      <id>ci</id>\n");
+        sb.append("      <activation><property><name>env.CI</name></property></activation>\n");
+        sb.append("      <properties><skipTests>true</skipTests></properties>\n");
+        sb.append("    </profile>\n  </profiles>\n");
+
+        sb.append("  <reporting>\n    <plugins>\n      <plugin>\n");
+        coordinates(sb, "        ", "org.apache.maven.plugins", "maven-project-info-reports-plugin", numeric());
+        sb.append("      </plugin>\n    </plugins>\n  </reporting>\n");
+    }
+
+    /**
+     * Appends up to {@link #MAX_DEPENDENCIES} distinct dependencies on libraries managed by {@link #body}.
+     */
+    private void libraries(StringBuilder sb, boolean scoped) {
+        Set<String> keys = new HashSet<>();
+        for (int i = random.nextInt(MAX_DEPENDENCIES); i >= 0; i--) {
+            String groupId = groupId();
+            String artifactId = "library-" + random.nextInt(MAX_DEPENDENCIES);
+            if (keys.add(groupId + ':' + artifactId)) {
+                dependency(sb, groupId, artifactId, null, scoped ? scope() : null);
+            }
+        }
+    }
+
+    private static void coordinates(
+            StringBuilder sb, String indent, String groupId, String artifactId, String version) {
+        sb.append(indent).append("<groupId>").append(groupId).append("</groupId>\n");
+        sb.append(indent).append("<artifactId>").append(artifactId).append("</artifactId>\n");
+        sb.append(indent).append("<version>").append(version).append("</version>\n");
+    }
+
+    private static void dependency(StringBuilder sb, String groupId, String artifactId, String version, String scope) {
+        sb.append("      <dependency>\n");
+        sb.append("        <groupId>").append(groupId).append("</groupId>\n");
+        sb.append("        <artifactId>").append(artifactId).append("</artifactId>\n");
+        if (version != null) {
+            sb.append("        <version>").append(version).append("</version>\n");
+        }
+        if (scope != null) {
+            sb.append("        <scope>").append(scope).append("</scope>\n");
+        }
+        sb.append("      </dependency>\n");
+    }
+
+    private String numeric() {
+        return numeric(random.nextInt(MAX_VERSION_PART));
+    }
+
+    private String numeric(int major) {
+        return major + "." + random.nextInt(MAX_VERSION_PART) + "." + random.nextInt(MAX_VERSION_PART);
+    }
+
+    private String groupId() {
+        return GROUP_IDS[random.nextInt(GROUP_IDS.length)];
+    }
+
+    private String scope() {
+        return SCOPES[random.nextInt(SCOPES.length)];
+    }
+
+    private static Path write(Path file, CharSequence content) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses synthetic version ranges and checks which synthetic versions they contain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VersionRangeBenchmark {
+
+    private static final int RANGES = 100;
+
+    private static final int VERSIONS = 100;
+
+    private List<String> specs;
+
+    private List<VersionRange> ranges;
+
+    private List<ArtifactVersion> versions;
+
+    @Setup
+    public void setup() throws InvalidVersionSpecificationException {
+        SyntheticPoms generator = new SyntheticPoms();
+        specs = new ArrayList<>(RANGES);
+        ranges = new ArrayList<>(RANGES);
+        for (int i = 0; i < RANGES; i++) {
+            String spec = generator.range();
+            specs.add(spec);
+            ranges.add(VersionRange.createFromVersionSpec(spec));
+        }
+        versions = new ArrayList<>(VERSIONS);
+        for (String version : generator.versions(VERSIONS)) {
+            versions.add(new DefaultArtifactVersion(version));
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws InvalidVersionSpecificationException {
+        for (String spec : specs) {
+            blackhole.consume(VersionRange.createFromVersionSpec(spec));
+        }
+    }
+
+    @Benchmark
+    public int containsVersion() {
+        int contained = 0;
+        for (VersionRange range : ranges) {
+            for (ArtifactVersion version : versions) {
+                if (range.containsVersion(version)) {
+                    contained++;
+                }
+            }
+        }
+        return contained;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.benchmarks;
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Plugin;
+import org.apache.maven.api.xml.XmlNode;
+import org.apache.maven.internal.xml.XmlNodeImpl;
+import org.apache.maven.model.v4.MavenStaxReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Merges the plugin configurations of pairs of synthetic POMs with {@link XmlNodeImpl#merge(XmlNode, XmlNode)}, as
+ * done when a plugin configuration is inherited or injected from the plugin management.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class XmlNodeMergeBenchmark {
+
+    private static final int POMS = 50;
+
+    private List<XmlNode> dominants;
+
+    private List<XmlNode> recessives;
+
+    @Setup
+    public void setup() throws XMLStreamException {
+        SyntheticPoms generator = new SyntheticPoms();
+        dominants = new ArrayList<>();
+        recessives = new ArrayList<>();
+        for (int i = 0; i < POMS; i++) {
+            List<Plugin> dominant = read(generator.pom(i)).getBuild().getPlugins();
+            List<Plugin> recessive = read(generator.pom(i)).getBuild().getPlugins();
+            for (int j = 0; j < dominant.size(); j++) {
+                dominants.add(dominant.get(j).getConfiguration());
+                recessives.add(recessive.get(j).getConfiguration());
+            }
+        }
+    }
+
+    private static Model read(String pom) throws XMLStreamException {
+        return new MavenStaxReader().read(new StringReader(pom));
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) {
+        for (int i = 0; i < dominants.size(); i++) {
+            blackhole.consume(XmlNodeImpl.merge(dominants.get(i), recessives.get(i)));
+        }
+    }
+}
@@ -21,8 +21,7 @@
 import javax.inject.Named;
 import javax.inject.Singleton;
 
-import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.codehaus.plexus.component.annotations.Configuration;
 
 /**
@@ -49,14 +48,13 @@ public MetadataGraphEdge apply(MetadataGraphEdge e1, MetadataGraphEdge e2) {
         int depth2 = e2.getDepth();
 
         if (depth1 == depth2) {
-            ArtifactVersion v1 = new DefaultArtifactVersion(e1.getVersion());
-            ArtifactVersion v2 = new DefaultArtifactVersion(e2.getVersion());
+            int result = ComparableVersion.compare(e1.getVersion(), e2.getVersion());
 
             if (newerFirst) {
-                return v1.compareTo(v2) > 0 ? e1 : e2;
+                return result > 0 ? e1 : e2;
             }
 
-            return v1.compareTo(v2) > 0 ? e2 : e1;
+            return result > 0 ? e2 : e1;
         }
 
         if (closerFirst) {
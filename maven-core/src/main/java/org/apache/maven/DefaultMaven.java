@@ -44,6 +44,7 @@
 import org.apache.maven.api.model.Prerequisites;
 import org.apache.maven.api.model.Profile;
 import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.classrealm.RealmReusePolicy;
 import org.apache.maven.execution.BuildResumptionAnalyzer;
 import org.apache.maven.execution.BuildResumptionDataRepository;
 import org.apache.maven.execution.BuildResumptionPersistenceException;
@@ -71,6 +72,7 @@
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.session.scope.internal.SessionScope;
+import org.apache.maven.utils.StringInterner;
 import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 import org.eclipse.aether.RepositorySystemSession;
@@ -115,6 +117,8 @@ public class DefaultMaven implements Maven {
 
     private final ProjectSelector projectSelector;
 
+    private final RealmReusePolicy realmReusePolicy;
+
     @Inject
     @SuppressWarnings("checkstyle:ParameterNumber")
     public DefaultMaven(
@@ -129,7 +133,8 @@ public DefaultMaven(
             BuildResumptionAnalyzer buildResumptionAnalyzer,
             BuildResumptionDataRepository buildResumptionDataRepository,
             SuperPomProvider superPomProvider,
-            DefaultSessionFactory defaultSessionFactory) {
+            DefaultSessionFactory defaultSessionFactory,
+            RealmReusePolicy realmReusePolicy) {
         this.projectBuilder = projectBuilder;
         this.lifecycleStarter = lifecycleStarter;
         this.container = container;
@@ -143,11 +148,14 @@ public DefaultMaven(
         this.superPomProvider = superPomProvider;
         this.defaultSessionFactory = defaultSessionFactory;
         this.projectSelector = new ProjectSelector(); // if necessary switch to DI
+        this.realmReusePolicy = realmReusePolicy;
     }
 
     @Override
     public MavenExecutionResult execute(MavenExecutionRequest request) {
         MavenExecutionResult result;
+        long duplicates = StringInterner.getDuplicates();
+        long bytesSaved = StringInterner.getBytesSaved();
 
         try {
             result = doExecute(request);
@@ -165,6 +173,11 @@ public MavenExecutionResult execute(MavenExecutionRequest request) {
             legacySupport.setSession(null);
         }
 
+        logger.debug(
+                "Interned {} duplicate coordinate strings, saving about {} bytes",
+                StringInterner.getDuplicates() - duplicates,
+                StringInterner.getBytesSaved() - bytesSaved);
+
         return result;
     }
 
@@ -225,7 +238,12 @@ private MavenExecutionResult doExecute(MavenExecutionRequest request) {
 
             legacySupport.setSession(session);
 
-            return doExecute(request, session, result, chainedWorkspaceReader);
+            realmReusePolicy.sessionStarted(session.getRepositorySession());
+            try {
+                return doExecute(request, session, result, chainedWorkspaceReader);
+            } finally {
+                realmReusePolicy.sessionEnded();
+            }
         } finally {
             sessionScope.exit();
         }
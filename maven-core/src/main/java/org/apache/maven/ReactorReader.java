@@ -37,6 +37,7 @@
 import org.apache.maven.eventspy.EventSpy;
 import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.internal.PipelinedBuild;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.artifact.ProjectArtifact;
@@ -73,6 +74,8 @@ class ReactorReader implements MavenWorkspaceReader {
     private Path projectLocalRepository;
     // projectId -> Deque<lifecycle>
     private final Map<String, Deque<String>> lifecycles = new ConcurrentHashMap<>();
+    // projectId of the projects being built, only tracked if downstream projects may start before they finish
+    private final Set<String> projectsInProgress = ConcurrentHashMap.newKeySet();
 
     @Inject
     ReactorReader(MavenSession session) {
@@ -163,8 +166,9 @@ && isPackagedArtifactUpToDate(project, packagedArtifactFile)) {
             }
         }
 
-        if (!hasBeenPackagedDuringThisSession(project)) {
-            // fallback to loose class files only if artifacts haven't been packaged yet
+        if (!hasBeenPackagedDuringThisSession(project) || projectsInProgress.contains(project.getId())) {
+            // fallback to loose class files only if artifacts haven't been packaged yet, or are being packaged by
+            // a project whose downstream projects have been started before its build finished,
             // and only for plain old jars. Not war files, not ear files, not anything else.
             return determineBuildOutputDirectoryForArtifact(project, artifact);
         }
@@ -330,10 +334,22 @@ private void processEvent(ExecutionEvent event) {
                     }
                 }
                 break;
+            case ProjectStarted:
+                if (PipelinedBuild.isPipelined(session)) {
+                    projectsInProgress.add(project.getId());
+                }
+                break;
             case ProjectSucceeded:
+                projectsInProgress.remove(project.getId());
+                installIntoProjectLocalRepository(project);
+                break;
             case ForkedProjectSucceeded:
                 installIntoProjectLocalRepository(project);
                 break;
+            case ProjectFailed:
+            case ProjectSkipped:
+                projectsInProgress.remove(project.getId());
+                break;
             default:
                 break;
         }
@@ -34,6 +34,7 @@
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
+import org.apache.maven.utils.StringInterner;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
@@ -92,12 +93,12 @@ public static org.apache.maven.artifact.Artifact toArtifact(Artifact artifact) {
          * plugins only check for null, so be sure to nullify an empty classifier.
          */
         org.apache.maven.artifact.Artifact result = new org.apache.maven.artifact.DefaultArtifact(
-                artifact.getGroupId(),
-                artifact.getArtifactId(),
-                artifact.getVersion(),
+                StringInterner.intern(artifact.getGroupId()),
+                StringInterner.intern(artifact.getArtifactId()),
+                StringInterner.intern(artifact.getVersion()),
                 null,
-                artifact.getProperty(ArtifactProperties.TYPE, artifact.getExtension()),
-                nullify(artifact.getClassifier()),
+                StringInterner.intern(artifact.getProperty(ArtifactProperties.TYPE, artifact.getExtension())),
+                StringInterner.intern(nullify(artifact.getClassifier())),
                 handler);
 
         result.setFile(artifact.getFile());
@@ -148,11 +149,11 @@ public static Artifact toArtifact(org.apache.maven.artifact.Artifact artifact) {
         }
 
         Artifact result = new DefaultArtifact(
-                artifact.getGroupId(),
-                artifact.getArtifactId(),
-                artifact.getClassifier(),
-                artifact.getArtifactHandler().getExtension(),
-                version,
+                StringInterner.intern(artifact.getGroupId()),
+                StringInterner.intern(artifact.getArtifactId()),
+                StringInterner.intern(artifact.getClassifier()),
+                StringInterner.intern(artifact.getArtifactHandler().getExtension()),
+                StringInterner.intern(version),
                 props,
                 newArtifactType(artifact.getType(), artifact.getArtifactHandler()));
         result = result.setFile(artifact.getFile());
@@ -171,7 +172,7 @@ public static Dependency toDependency(
         List<Exclusion> excl = Optional.ofNullable(exclusions).orElse(Collections.emptyList()).stream()
                 .map(RepositoryUtils::toExclusion)
                 .collect(Collectors.toList());
-        return new Dependency(result, artifact.getScope(), artifact.isOptional(), excl);
+        return new Dependency(result, StringInterner.intern(artifact.getScope()), artifact.isOptional(), excl);
     }
 
     public static List<RemoteRepository> toRepos(List<ArtifactRepository> repos) {
@@ -283,11 +284,11 @@ public static Dependency toDependency(
         }
 
         Artifact artifact = new DefaultArtifact(
-                dependency.getGroupId(),
-                dependency.getArtifactId(),
-                dependency.getClassifier(),
+                StringInterner.intern(dependency.getGroupId()),
+                StringInterner.intern(dependency.getArtifactId()),
+                StringInterner.intern(dependency.getClassifier()),
                 null,
-                dependency.getVersion(),
+                StringInterner.intern(dependency.getVersion()),
                 props,
                 stereotype);
 
@@ -297,7 +298,7 @@ public static Dependency toDependency(
 
         return new Dependency(
                 artifact,
-                dependency.getScope(),
+                StringInterner.intern(dependency.getScope()),
                 dependency.getOptional() != null ? dependency.isOptional() : null,
                 exclusions);
     }
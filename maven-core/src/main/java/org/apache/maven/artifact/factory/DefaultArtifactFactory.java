@@ -27,6 +27,7 @@
 import org.apache.maven.artifact.handler.ArtifactHandler;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
 import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.utils.StringInterner;
 
 /**
  * DefaultArtifactFactory
@@ -182,6 +183,13 @@ private Artifact createArtifact(
         ArtifactHandler handler = artifactHandlerManager.getArtifactHandler(type);
 
         return new DefaultArtifact(
-                groupId, artifactId, versionRange, desiredScope, type, classifier, handler, optional);
+                StringInterner.intern(groupId),
+                StringInterner.intern(artifactId),
+                versionRange,
+                StringInterner.intern(desiredScope),
+                StringInterner.intern(type),
+                StringInterner.intern(classifier),
+                handler,
+                optional);
     }
 }
@@ -26,6 +26,7 @@
 import java.net.MalformedURLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -180,7 +181,7 @@ private ClassRealm createRealm(
 
         callDelegates(classRealm, type, parent, parentImports, foreignImports, constituents);
 
-        wireRealm(classRealm, parentImports, foreignImports);
+        wireRealm(classRealm, type, parentImports, foreignImports);
 
         populateRealm(classRealm, constituents);
 
@@ -305,17 +306,37 @@ private void populateRealm(ClassRealm classRealm, List<ClassRealmConstituent> co
         }
     }
 
-    private void wireRealm(ClassRealm classRealm, List<String> parentImports, Map<String, ClassLoader> foreignImports) {
+    private void wireRealm(
+            ClassRealm classRealm,
+            RealmType type,
+            List<String> parentImports,
+            Map<String, ClassLoader> foreignImports) {
         if (foreignImports != null && !foreignImports.isEmpty()) {
             logger.debug("Importing foreign packages into class realm {}", classRealm.getId());
 
+            // the core realm imports all exported packages, every lookup of the other realms goes through them
+            boolean indexed = type == RealmType.Core;
+
             for (Map.Entry<String, ClassLoader> entry : foreignImports.entrySet()) {
                 ClassLoader importedRealm = entry.getValue();
                 String imp = entry.getKey();
 
                 logger.debug("  Imported: {} < {}", imp, getId(importedRealm));
 
-                classRealm.importFrom(importedRealm, imp);
+                if (!indexed) {
+                    classRealm.importFrom(importedRealm, imp);
+                }
+            }
+
+            if (indexed) {
+                classRealm.importFrom(new IndexedImportClassLoader(foreignImports), "");
+
+                // component lookups only see the realms listed as imports, a package with a slash matches nothing
+                for (ClassLoader importedRealm : new LinkedHashSet<>(foreignImports.values())) {
+                    if (importedRealm instanceof ClassRealm) {
+                        classRealm.importFrom(importedRealm, "/" + ((ClassRealm) importedRealm).getId() + ".*");
+                    }
+                }
             }
         }
 
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves classes and resources against a set of foreign imports using hash lookups. A {@code ClassRealm} probes its
+ * imports one by one, in descending order of their names, until one matches. This loader finds the same import by only
+ * looking up the names that could match a given class or resource name: its package with a {@code .*} suffix, the
+ * name itself and its prefixes ending at a package, path or nested class separator. Among those, the greatest name
+ * wins, just like in the realm. Names not matching any import fail fast, without a stack trace.
+ * <p>
+ * The maven api realm imports the many packages exported by the core and the core extensions through a single
+ * instance of this loader, so that the lookups of all plugin, extension and project realms, which go through that
+ * realm first, no longer depend on the number of exports.
+ *
+ * @since 4.0.0
+ */
+final class IndexedImportClassLoader extends ClassLoader {
+
+    private static final String WILDCARD = ".*";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * The imports by name, as given to {@code ClassRealm.importFrom()}.
+     */
+    private final Map<String, ClassLoader> imports;
+
+    /**
+     * The names of the imports that are not package wildcards, by their path form.
+     */
+    private final Map<String, String> paths;
+
+    IndexedImportClassLoader(Map<String, ClassLoader> imports) {
+        super(null);
+        this.imports = new HashMap<>(imports);
+        this.paths = new HashMap<>();
+        for (String imp : imports.keySet()) {
+            if (!imp.isEmpty() && !imp.endsWith(WILDCARD)) {
+                paths.merge(imp.replace('.', '/'), imp, (a, b) -> a.compareTo(b) > 0 ? a : b);
+            }
+        }
+    }
+
+    /**
+     * Returns the class loader of the import matching the given class or resource name, or {@code null} if none.
+     */
+    ClassLoader getImportClassLoader(String name) {
+        String match = getImport(name);
+        return match != null ? imports.get(match) : null;
+    }
+
+    private String getImport(String name) {
+        String match = imports.containsKey("") ? "" : null;
+        int slash = name.lastIndexOf('/');
+        if (slash < 0) {
+            int dot = name.lastIndexOf('.');
+            match = max(match, (dot < 0 ? "" : name.substring(0, dot)) + WILDCARD);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == '.' || c == '$') {
+                    match = max(match, name.substring(0, i));
+                }
+            }
+            match = max(match, name);
+        } else {
+            match = max(match, name.substring(0, slash).replace('/', '.') + WILDCARD);
+            if (!name.endsWith(WILDCARD)) {
+                match = max(match, name);
+            }
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == '/' || c == '$') {
+                    match = maxPath(match, name.substring(0, i));
+                }
+            }
+            if (name.endsWith(CLASS_SUFFIX)) {
+                match = maxPath(match, name.substring(0, name.length() - CLASS_SUFFIX.length()));
+            }
+        }
+        return match;
+    }
+
+    private String max(String match, String candidate) {
+        if (imports.containsKey(candidate) && (match == null || candidate.compareTo(match) > 0)) {
+            return candidate;
+        }
+        return match;
+    }
+
+    private String maxPath(String match, String path) {
+        String candidate = paths.get(path);
+        if (candidate != null && (match == null || candidate.compareTo(match) > 0)) {
+            return candidate;
+        }
+        return match;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        ClassLoader importClassLoader = getImportClassLoader(name);
+        if (importClassLoader == null) {
+            throw new NotImportedException(name);
+        }
+        return importClassLoader.loadClass(name);
+    }
+
+    @Override
+    public URL getResource(String name) {
+        ClassLoader importClassLoader = getImportClassLoader(name);
+        return importClassLoader != null ? importClassLoader.getResource(name) : null;
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        ClassLoader importClassLoader = getImportClassLoader(name);
+        return importClassLoader != null ? importClassLoader.getResources(name) : Collections.emptyEnumeration();
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedImportClassLoader[" + imports.size() + " imports]";
+    }
+
+    /**
+     * Thrown for names not matching any import. The realm importing this loader swallows it, so it is not worth the
+     * cost of filling in a stack trace.
+     */
+    private static final class NotImportedException extends ClassNotFoundException {
+        NotImportedException(String name) {
+            super(name);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Supports the opt-in reuse of plugin, extension and project realms by the builds that an embedder runs one after the
+ * other in the same container, enabled by setting the {@value #REALM_REUSE} property to {@code true}. The realm
+ * caches then report the records used by each build to a {@link Tracker}:
+ * <ul>
+ * <li>a record is only handed out to a later build if the files it was created from still have the same size and
+ * modification time, and none of them was resolved from the reactor of another build;</li>
+ * <li>at the end of each build, the least recently used records exceeding {@value #REALM_REUSE_MAX_REALMS} realms
+ * (default {@value #DEFAULT_MAX_REALMS}) are disposed, as well as all records the build did not use if the heap is
+ * more than {@value #MEMORY_PRESSURE_PERCENT}% full.</li>
+ * </ul>
+ * Without the property, the caches keep all records until the container is disposed.
+ * <p>
+ * The caches are shared by the whole container, so builds running at the same time share one generation: a build
+ * starting while another one is still running neither invalidates the records validated so far nor changes the
+ * configuration of the policy, and the records are only evicted once the last of these builds ended.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+public class RealmReusePolicy {
+
+    public static final String REALM_REUSE = "maven.realmCache.reuse";
+
+    public static final String REALM_REUSE_MAX_REALMS = "maven.realmCache.reuse.maxRealms";
+
+    static final int DEFAULT_MAX_REALMS = 256;
+
+    static final int MEMORY_PRESSURE_PERCENT = 80;
+
+    private static final int PERCENT = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RealmReusePolicy.class);
+
+    private final List<Tracker<?>> trackers = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private volatile boolean enabled;
+
+    private volatile int maxRealms = DEFAULT_MAX_REALMS;
+
+    private volatile long session;
+
+    private int activeSessions;
+
+    public static boolean isEnabled(RepositorySystemSession session) {
+        return ConfigUtils.getBoolean(session, false, REALM_REUSE);
+    }
+
+    /**
+     * Creates a tracker for the records of a realm cache, the given callback removes a record from the cache and
+     * disposes its realm.
+     */
+    public <K> Tracker<K> newTracker(Consumer<K> evictor) {
+        Tracker<K> tracker = new Tracker<>(evictor);
+        trackers.add(tracker);
+        return tracker;
+    }
+
+    /**
+     * Notifies the start of a build, records validated during previous builds have to be validated again. A build
+     * starting while others are running joins them, as they may be using any of the records.
+     */
+    public synchronized void sessionStarted(RepositorySystemSession session) {
+        if (activeSessions++ > 0) {
+            LOGGER.debug("Builds overlap, the cached realms are shared until the last one ends");
+            return;
+        }
+        enabled = isEnabled(session);
+        maxRealms = ConfigUtils.getInteger(session, DEFAULT_MAX_REALMS, REALM_REUSE_MAX_REALMS);
+        this.session = clock.incrementAndGet();
+    }
+
+    /**
+     * Notifies the end of a build, and evicts the records that should not be kept for the next one once no other build
+     * is running.
+     */
+    public synchronized void sessionEnded() {
+        if (--activeSessions == 0 && enabled) {
+            evict(isMemoryLow());
+        }
+    }
+
+    static boolean isMemoryLow() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return used > runtime.maxMemory() / PERCENT * MEMORY_PRESSURE_PERCENT;
+    }
+
+    void evict(boolean memoryLow) {
+        List<Tracker<?>.Usage> candidates = new ArrayList<>();
+        int evicted = 0;
+        for (Tracker<?> tracker : trackers) {
+            for (Tracker<?>.Usage usage : tracker.usages.values()) {
+                if (usage.stamps == null || (memoryLow && usage.session != session)) {
+                    evicted += usage.evict() ? 1 : 0;
+                } else {
+                    candidates.add(usage);
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingLong(usage -> usage.lastUsed));
+        for (int i = 0; i < candidates.size() - maxRealms; i++) {
+            evicted += candidates.get(i).evict() ? 1 : 0;
+        }
+
+        LOGGER.debug("Evicted {} cached realms{}", evicted, memoryLow ? " (memory is low)" : "");
+    }
+
+    /**
+     * Tracks the usage of the records of a realm cache.
+     *
+     * @param <K> The type of the cache keys.
+     */
+    public final class Tracker<K> {
+
+        private final Map<K, Usage> usages = new ConcurrentHashMap<>();
+
+        private final Consumer<K> evictor;
+
+        Tracker(Consumer<K> evictor) {
+            this.evictor = evictor;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Tells whether the record of the given key can be used by the current build, the cache has to remove the
+         * record otherwise.
+         */
+        public boolean isReusable(K key) {
+            Usage usage = usages.get(key);
+            return usage == null || usage.validate();
+        }
+
+        /**
+         * Registers the usage of the record of the given key by the current build.
+         *
+         * @param files The files the record was created from, or {@code null} if the record is specific to the
+         *            current build.
+         */
+        public void used(K key, List<File> files) {
+            if (enabled) {
+                Usage usage = usages.computeIfAbsent(key, k -> new Usage(k, files));
+                usage.session = session;
+                usage.lastUsed = clock.incrementAndGet();
+            }
+        }
+
+        /**
+         * Stops tracking the record of the given key, after the cache removed it.
+         */
+        public void removed(K key) {
+            usages.remove(key);
+        }
+
+        final class Usage {
+            private final K key;
+
+            private final List<Stamp> stamps;
+
+            private volatile long session;
+
+            private volatile long lastUsed;
+
+            Usage(K key, List<File> files) {
+                this.key = key;
+                if (files != null) {
+                    this.stamps = new ArrayList<>(files.size());
+                    for (File file : files) {
+                        stamps.add(new Stamp(file));
+                    }
+                } else {
+                    this.stamps = null;
+                }
+            }
+
+            synchronized boolean validate() {
+                if (session == RealmReusePolicy.this.session) {
+                    return true;
+                }
+                if (stamps == null) {
+                    return false;
+                }
+                for (Stamp stamp : stamps) {
+                    if (!stamp.isCurrent()) {
+                        return false;
+                    }
+                }
+                session = RealmReusePolicy.this.session;
+                return true;
+            }
+
+            boolean evict() {
+                if (usages.remove(key, this)) {
+                    evictor.accept(key);
+                    return true;
+                }
+                return false;
+            }
+        }
+    }
+
+    private static final class Stamp {
+        private final File file;
+
+        private final long size;
+
+        private final long lastModified;
+
+        Stamp(File file) {
+            this.file = file;
+            this.size = file.length();
+            this.lastModified = file.lastModified();
+        }
+
+        boolean isCurrent() {
+            return file.length() == size && file.lastModified() == lastModified;
+        }
+    }
+}
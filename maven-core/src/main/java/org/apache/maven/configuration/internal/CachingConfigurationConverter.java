@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.configuration.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.inject.TypeLiteral;
+import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
+import org.codehaus.plexus.component.configurator.ConfigurationListener;
+import org.codehaus.plexus.component.configurator.converters.ConfigurationConverter;
+import org.codehaus.plexus.component.configurator.converters.ParameterizedConfigurationConverter;
+import org.codehaus.plexus.component.configurator.converters.composite.ObjectWithFieldsConverter;
+import org.codehaus.plexus.component.configurator.converters.lookup.ConverterLookup;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.eclipse.sisu.plexus.CompositeBeanHelper;
+import org.eclipse.sisu.plexus.TypeArguments;
+
+/**
+ * An {@link ObjectWithFieldsConverter} which sets the properties of a bean like the {@link CompositeBeanHelper} does,
+ * but only looks up the setter and the field of each property once per bean class. The helper scans all public
+ * methods of the class and walks its field hierarchy for each configured parameter of each mojo execution, this
+ * converter reuses the members found, their generic types and the method handles to set them. The values are still
+ * converted and evaluated by the converters of the lookup, for each execution.
+ */
+class CachingConfigurationConverter extends ObjectWithFieldsConverter {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * The properties of each bean class, by name. The cache is attached to the class itself so that it does not keep
+     * the realms of the plugins alive.
+     */
+    private static final ClassValue<Map<String, Property>> PROPERTIES = new ClassValue<Map<String, Property>>() {
+        @Override
+        protected Map<String, Property> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Override
+    public void processConfiguration(
+            final ConverterLookup lookup,
+            final Object object,
+            final ClassLoader loader,
+            final PlexusConfiguration configuration,
+            final ExpressionEvaluator evaluator,
+            final ConfigurationListener listener)
+            throws ComponentConfigurationException {
+        final Class<?> beanType = object.getClass();
+        final Map<String, Property> properties = PROPERTIES.get(beanType);
+        for (int i = 0, size = configuration.getChildCount(); i < size; i++) {
+            final PlexusConfiguration element = configuration.getChild(i);
+            final String propertyName = fromXML(element.getName());
+            Class<?> valueType;
+            try {
+                valueType = getClassForImplementationHint(null, element, loader);
+            } catch (final ComponentConfigurationException e) {
+                valueType = null;
+            }
+            Property property = properties.get(propertyName);
+            if (property == null) {
+                property = properties.computeIfAbsent(propertyName, name -> new Property(beanType, name));
+            }
+            setProperty(lookup, object, property, valueType, element, loader, evaluator, listener);
+        }
+    }
+
+    /**
+     * Mirrors {@link CompositeBeanHelper#setProperty(Object, String, Class, PlexusConfiguration)}: the setter is
+     * preferred, the field is used when the setter is missing, fails or gets no value.
+     */
+    private static void setProperty(
+            final ConverterLookup lookup,
+            final Object bean,
+            final Property property,
+            final Class<?> valueType,
+            final PlexusConfiguration configuration,
+            final ClassLoader loader,
+            final ExpressionEvaluator evaluator,
+            final ConfigurationListener listener)
+            throws ComponentConfigurationException {
+        final Class<?> beanType = bean.getClass();
+        Object value = null;
+        Throwable problem = null;
+
+        if (property.setter != null) {
+            try {
+                final TypeLiteral<?> paramType = property.getSetterType();
+                Class<?> rawPropertyType = paramType.getRawType();
+                if (null != valueType && rawPropertyType.isAssignableFrom(valueType)) {
+                    rawPropertyType = valueType; // pick more specific type
+                }
+                value = convertProperty(
+                        lookup,
+                        beanType,
+                        rawPropertyType,
+                        paramType.getType(),
+                        configuration,
+                        loader,
+                        evaluator,
+                        listener);
+                if (null != value) {
+                    if (null != listener) {
+                        listener.notifyFieldChangeUsingSetter(property.name, value, bean);
+                    }
+                    property.invokeSetter(bean, value);
+                    return;
+                }
+            } catch (final Exception | LinkageError e) {
+                problem = e;
+            }
+        }
+
+        if (property.field != null) {
+            try {
+                final TypeLiteral<?> fieldType = property.getFieldType();
+                if (!fieldType.getRawType().isInstance(value)) {
+                    Class<?> rawFieldType = fieldType.getRawType();
+                    if (null != valueType && rawFieldType.isAssignableFrom(valueType)) {
+                        rawFieldType = valueType; // pick more specific type
+                    }
+                    value = convertProperty(
+                            lookup,
+                            beanType,
+                            rawFieldType,
+                            fieldType.getType(),
+                            configuration,
+                            loader,
+                            evaluator,
+                            listener);
+                }
+                if (null != value) {
+                    if (null != listener) {
+                        listener.notifyFieldChangeUsingReflection(property.name, value, bean);
+                    }
+                    property.setField(bean, value);
+                    return;
+                }
+            } catch (final Exception | LinkageError e) {
+                if (null == problem) {
+                    problem = e;
+                }
+            }
+        }
+
+        if (problem instanceof ComponentConfigurationException) {
+            throw (ComponentConfigurationException) problem;
+        } else if (null != problem) {
+            final String reason = "Cannot set '" + property.name + "' in " + beanType;
+            throw new ComponentConfigurationException(configuration, reason, problem);
+        } else if (null == property.setter && null == property.field) {
+            final String reason = "Cannot find '" + property.name + "' in " + beanType;
+            throw new ComponentConfigurationException(configuration, reason);
+        }
+    }
+
+    private static Object convertProperty(
+            final ConverterLookup lookup,
+            final Class<?> beanType,
+            final Class<?> rawPropertyType,
+            final Type genericPropertyType,
+            final PlexusConfiguration configuration,
+            final ClassLoader loader,
+            final ExpressionEvaluator evaluator,
+            final ConfigurationListener listener)
+            throws ComponentConfigurationException {
+        final ConfigurationConverter converter = lookup.lookupConverterForType(rawPropertyType);
+        if (!(genericPropertyType instanceof Class<?>) && converter instanceof ParameterizedConfigurationConverter) {
+            final Type[] propertyTypeArgs = TypeArguments.get(genericPropertyType);
+            return ((ParameterizedConfigurationConverter) converter)
+                    .fromConfiguration(
+                            lookup,
+                            configuration,
+                            rawPropertyType,
+                            propertyTypeArgs,
+                            beanType,
+                            loader,
+                            evaluator,
+                            listener);
+        }
+        return converter.fromConfiguration(
+                lookup, configuration, rawPropertyType, beanType, loader, evaluator, listener);
+    }
+
+    /**
+     * The setter and the field of a bean property, found the way the {@link CompositeBeanHelper} finds them. Their
+     * types and handles are only resolved on first use, so that failures are reported like the helper does.
+     */
+    private static final class Property {
+
+        final String name;
+
+        final Method setter;
+
+        final Type setterParameterType;
+
+        final Field field;
+
+        private volatile TypeLiteral<?> setterType;
+
+        private volatile TypeLiteral<?> fieldType;
+
+        private volatile Setter setterHandle;
+
+        private volatile Setter fieldHandle;
+
+        Property(Class<?> beanType, String name) {
+            this.name = name;
+            String title = Character.toTitleCase(name.charAt(0)) + name.substring(1);
+            Method method = findMethod(beanType, "set" + title);
+            if (method == null) {
+                method = findMethod(beanType, "add" + title);
+            }
+            this.setter = method;
+            this.setterParameterType = method != null ? method.getGenericParameterTypes()[0] : null;
+            this.field = findField(beanType, name);
+        }
+
+        private static Method findMethod(Class<?> beanType, String methodName) {
+            for (Method method : beanType.getMethods()) {
+                if (methodName.equals(method.getName()) && !Modifier.isStatic(method.getModifiers())) {
+                    if (method.getGenericParameterTypes().length == 1) {
+                        return method;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static Field findField(Class<?> beanType, String fieldName) {
+            for (Class<?> type = beanType; type != null; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (fieldName.equals(field.getName()) && !Modifier.isStatic(field.getModifiers())) {
+                        return field;
+                    }
+                }
+            }
+            return null;
+        }
+
+        TypeLiteral<?> getSetterType() {
+            TypeLiteral<?> type = setterType;
+            if (type == null) {
+                type = TypeLiteral.get(setterParameterType);
+                setterType = type;
+            }
+            return type;
+        }
+
+        TypeLiteral<?> getFieldType() {
+            TypeLiteral<?> type = fieldType;
+            if (type == null) {
+                type = TypeLiteral.get(field.getGenericType());
+                fieldType = type;
+            }
+            return type;
+        }
+
+        void invokeSetter(Object bean, Object value) throws Exception {
+            Setter handle = setterHandle;
+            if (handle == null) {
+                handle = new Setter(unreflect(setter), setter.getParameterTypes()[0]);
+                setterHandle = handle;
+            }
+            if (!handle.set(bean, value)) {
+                setter.invoke(bean, value);
+            }
+        }
+
+        void setField(Object bean, Object value) throws Exception {
+            Setter handle = fieldHandle;
+            if (handle == null) {
+                if (!field.isAccessible()) {
+                    field.setAccessible(true);
+                }
+                handle = new Setter(unreflectSetter(field), field.getType());
+                fieldHandle = handle;
+            }
+            if (!handle.set(bean, value)) {
+                field.set(bean, value);
+            }
+        }
+
+        private static MethodHandle unreflect(Method method) {
+            try {
+                // the same access checks as an invocation through the reflection api
+                return MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle unreflectSetter(Field field) {
+            try {
+                return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * A method handle setting a value of the exact type of a property. Values that would need a widening conversion
+     * and members that cannot be unreflected are left to the reflection api, which also reports their errors.
+     */
+    private static final class Setter {
+
+        private final MethodHandle handle;
+
+        private final Class<?> valueType;
+
+        Setter(MethodHandle handle, Class<?> type) {
+            this.handle = handle;
+            this.valueType = MethodType.methodType(type).wrap().returnType();
+        }
+
+        boolean set(Object bean, Object value) throws InvocationTargetException {
+            if (handle == null || !valueType.isInstance(value)) {
+                return false;
+            }
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+            return true;
+        }
+    }
+}
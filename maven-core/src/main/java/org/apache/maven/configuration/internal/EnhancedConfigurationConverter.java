@@ -32,7 +32,7 @@
  * An enhanced {@link ObjectWithFieldsConverter} leveraging the {@link TypeAwareExpressionEvaluator}
  * interface.
  */
-class EnhancedConfigurationConverter extends ObjectWithFieldsConverter {
+class EnhancedConfigurationConverter extends CachingConfigurationConverter {
     protected Object fromExpression(
             final PlexusConfiguration configuration, final ExpressionEvaluator evaluator, final Class<?> type)
             throws ComponentConfigurationException {
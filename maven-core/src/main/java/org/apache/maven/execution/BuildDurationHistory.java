@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.execution;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * The wall times observed for the projects of a reactor and for their mojo executions during earlier invocations of
+ * Maven. The recorded duration of a project or mojo execution is an exponentially smoothed average of its observed
+ * durations, so that a single unusually slow or fast build does not dominate the predictions.
+ * <p>
+ * Instances of this class are immutable, the history of the current session is available through
+ * {@link #get(MavenSession)}.
+ *
+ * @see BuildDurationRepository
+ * @since 4.0.0
+ */
+public class BuildDurationHistory {
+
+    /**
+     * A history without any recorded duration.
+     */
+    public static final BuildDurationHistory EMPTY =
+            new BuildDurationHistory(Collections.emptyMap(), Collections.emptyMap());
+
+    /**
+     * The weight given to the latest observed duration when updating a recorded duration.
+     */
+    private static final double SMOOTHING_FACTOR = 0.5;
+
+    private final Map<String, Long> projectDurations;
+
+    private final Map<String, Long> mojoDurations;
+
+    /**
+     * Creates a new history.
+     *
+     * @param projectDurations The recorded durations in milliseconds, keyed by {@link #getProjectKey(MavenProject)}.
+     * @param mojoDurations The recorded durations in milliseconds, keyed by
+     *            {@link #getMojoKey(MavenProject, MojoExecution)}.
+     */
+    public BuildDurationHistory(Map<String, Long> projectDurations, Map<String, Long> mojoDurations) {
+        this.projectDurations = Collections.unmodifiableMap(new HashMap<>(projectDurations));
+        this.mojoDurations = Collections.unmodifiableMap(new HashMap<>(mojoDurations));
+    }
+
+    /**
+     * Gets the history loaded for the given session.
+     *
+     * @param session The session, may be {@code null}.
+     * @return The history, never {@code null}.
+     */
+    public static BuildDurationHistory get(MavenSession session) {
+        if (session != null && session.getRepositorySession() != null) {
+            Object history = session.getRepositorySession().getData().get(BuildDurationHistory.class);
+            if (history instanceof BuildDurationHistory) {
+                return (BuildDurationHistory) history;
+            }
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Makes the given history available to the components of the given session.
+     *
+     * @param session The session, must not be {@code null}.
+     * @param history The history, must not be {@code null}.
+     */
+    public static void set(MavenSession session, BuildDurationHistory history) {
+        session.getRepositorySession().getData().set(BuildDurationHistory.class, history);
+    }
+
+    public static String getProjectKey(MavenProject project) {
+        return project.getGroupId() + ':' + project.getArtifactId();
+    }
+
+    public static String getMojoKey(MavenProject project, MojoExecution mojoExecution) {
+        return getProjectKey(project)
+                + '/'
+                + mojoExecution.getArtifactId()
+                + ':'
+                + mojoExecution.getGoal()
+                + '@'
+                + mojoExecution.getExecutionId();
+    }
+
+    /**
+     * Gets the recorded duration of the given project.
+     *
+     * @param project The project, must not be {@code null}.
+     * @return The recorded duration in milliseconds, empty if the project has never been built.
+     */
+    public OptionalLong getProjectDuration(MavenProject project) {
+        Long duration = projectDurations.get(getProjectKey(project));
+        return duration != null ? OptionalLong.of(duration) : OptionalLong.empty();
+    }
+
+    /**
+     * Gets the recorded duration of the given mojo execution.
+     *
+     * @param project The project the mojo execution belongs to, must not be {@code null}.
+     * @param mojoExecution The mojo execution, must not be {@code null}.
+     * @return The recorded duration in milliseconds, empty if the mojo execution has never run.
+     */
+    public OptionalLong getMojoDuration(MavenProject project, MojoExecution mojoExecution) {
+        Long duration = mojoDurations.get(getMojoKey(project, mojoExecution));
+        return duration != null ? OptionalLong.of(duration) : OptionalLong.empty();
+    }
+
+    public Map<String, Long> getProjectDurations() {
+        return projectDurations;
+    }
+
+    public Map<String, Long> getMojoDurations() {
+        return mojoDurations;
+    }
+
+    public boolean isEmpty() {
+        return projectDurations.isEmpty() && mojoDurations.isEmpty();
+    }
+
+    /**
+     * Creates a new history which accounts for newly observed durations. The durations of projects and mojo executions
+     * which have not been observed again are kept unchanged.
+     *
+     * @param observedProjectDurations The observed project durations in milliseconds, must not be {@code null}.
+     * @param observedMojoDurations The observed mojo execution durations in milliseconds, must not be {@code null}.
+     * @return The updated history, never {@code null}.
+     */
+    public BuildDurationHistory update(
+            Map<String, Long> observedProjectDurations, Map<String, Long> observedMojoDurations) {
+        return new BuildDurationHistory(
+                smooth(projectDurations, observedProjectDurations), smooth(mojoDurations, observedMojoDurations));
+    }
+
+    private static Map<String, Long> smooth(Map<String, Long> recorded, Map<String, Long> observed) {
+        Map<String, Long> result = new HashMap<>(recorded);
+        observed.forEach((key, duration) -> result.merge(
+                key,
+                duration,
+                (previous, latest) -> Math.round(previous * (1 - SMOOTHING_FACTOR) + latest * SMOOTHING_FACTOR)));
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.execution;
+
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Instances of this interface retrieve and store the {@link BuildDurationHistory} of a reactor, so that builds can
+ * predict how long each project and mojo execution will take and report the ones that became slower.
+ *
+ * @since 4.0.0
+ */
+public interface BuildDurationRepository {
+    /**
+     * Loads the previously stored history.
+     *
+     * @param rootProject The root project that is being built.
+     * @return The history, or {@link BuildDurationHistory#EMPTY} if none has been stored or it cannot be read.
+     */
+    BuildDurationHistory load(MavenProject rootProject);
+
+    /**
+     * Stores the given history, replacing any previously stored history.
+     *
+     * @param rootProject The root project that is being built.
+     * @param history The history to store.
+     */
+    void persist(MavenProject rootProject, BuildDurationHistory history);
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.execution;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.project.MavenProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This implementation of {@link BuildDurationRepository} persists the history in a properties file. The file is
+ * stored in the build output directory under the Maven execution root, next to the data of the --resume / -r feature.
+ */
+@Named
+@Singleton
+public class DefaultBuildDurationRepository implements BuildDurationRepository {
+    private static final String DURATIONS_PROPERTIES_FILENAME = "build-durations.properties";
+    private static final String PROJECT_PREFIX = "project.";
+    private static final String MOJO_PREFIX = "mojo.";
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultBuildDurationRepository.class);
+
+    @Override
+    public BuildDurationHistory load(MavenProject rootProject) {
+        Path path = Paths.get(rootProject.getBuild().getDirectory(), DURATIONS_PROPERTIES_FILENAME);
+        if (!Files.exists(path)) {
+            return BuildDurationHistory.EMPTY;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read {}, build durations of earlier builds will be ignored.", path);
+            return BuildDurationHistory.EMPTY;
+        }
+        return convertFromProperties(properties);
+    }
+
+    @Override
+    public void persist(MavenProject rootProject, BuildDurationHistory history) {
+        Path path = Paths.get(rootProject.getBuild().getDirectory(), DURATIONS_PROPERTIES_FILENAME);
+        try {
+            Files.createDirectories(path.getParent());
+            try (Writer writer = Files.newBufferedWriter(path)) {
+                convertToProperties(history).store(writer, null);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write {} file.", DURATIONS_PROPERTIES_FILENAME, e);
+        }
+    }
+
+    // This method is made package-private for testing purposes
+    Properties convertToProperties(BuildDurationHistory history) {
+        Properties properties = new Properties();
+        history.getProjectDurations()
+                .forEach((key, duration) -> properties.setProperty(PROJECT_PREFIX + key, Long.toString(duration)));
+        history.getMojoDurations()
+                .forEach((key, duration) -> properties.setProperty(MOJO_PREFIX + key, Long.toString(duration)));
+        return properties;
+    }
+
+    // This method is made package-private for testing purposes
+    BuildDurationHistory convertFromProperties(Properties properties) {
+        Map<String, Long> projectDurations = new HashMap<>();
+        Map<String, Long> mojoDurations = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            long duration;
+            try {
+                duration = Long.parseLong(properties.getProperty(name));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            if (name.startsWith(PROJECT_PREFIX)) {
+                projectDurations.put(name.substring(PROJECT_PREFIX.length()), duration);
+            } else if (name.startsWith(MOJO_PREFIX)) {
+                mojoDurations.put(name.substring(MOJO_PREFIX.length()), duration);
+            }
+        }
+        return new BuildDurationHistory(projectDurations, mojoDurations);
+    }
+}
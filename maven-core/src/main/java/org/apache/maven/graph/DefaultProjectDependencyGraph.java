@@ -19,16 +19,13 @@
 package org.apache.maven.graph;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.maven.execution.ProjectDependencyGraph;
 import org.apache.maven.project.CycleDetectedException;
@@ -46,9 +43,20 @@ public class DefaultProjectDependencyGraph implements ProjectDependencyGraph {
 
     private final List<MavenProject> allProjects;
 
-    private final Map<MavenProject, Integer> order;
+    /**
+     * The sorted projects, the index of a project in this list is also its index in the bit sets below.
+     */
+    private final List<MavenProject> sortedProjects;
+
+    private final Map<String, Integer> indexes;
+
+    private final BitSet[] directUpstream;
+
+    private final BitSet[] transitiveUpstream;
+
+    private final BitSet[] directDownstream;
 
-    private final Map<String, MavenProject> projects;
+    private final BitSet[] transitiveDownstream;
 
     /**
      * Creates a new project dependency graph based on the specified projects.
@@ -91,14 +99,43 @@ public DefaultProjectDependencyGraph(Collection<MavenProject> allProjects, Colle
             throws CycleDetectedException, DuplicateProjectException {
         this.allProjects = Collections.unmodifiableList(new ArrayList<>(allProjects));
         this.sorter = new ProjectSorter(projects);
-        this.order = new HashMap<>();
-        this.projects = new HashMap<>();
-        List<MavenProject> sorted = this.sorter.getSortedProjects();
-        for (int index = 0; index < sorted.size(); index++) {
-            MavenProject project = sorted.get(index);
-            String id = ProjectSorter.getId(project);
-            this.projects.put(id, project);
-            this.order.put(project, index);
+        this.sortedProjects = sorter.getSortedProjects();
+        int size = sortedProjects.size();
+        this.indexes = new HashMap<>(size * 2);
+        for (int index = 0; index < size; index++) {
+            indexes.put(ProjectSorter.getId(sortedProjects.get(index)), index);
+        }
+
+        directUpstream = new BitSet[size];
+        directDownstream = new BitSet[size];
+        for (int index = 0; index < size; index++) {
+            directUpstream[index] = new BitSet(size);
+            directDownstream[index] = new BitSet(size);
+        }
+        for (int index = 0; index < size; index++) {
+            for (String id : sorter.getDependencies(ProjectSorter.getId(sortedProjects.get(index)))) {
+                int upstream = indexes.get(id);
+                directUpstream[index].set(upstream);
+                directDownstream[upstream].set(index);
+            }
+        }
+
+        // the projects are sorted so that upstream projects come first
+        transitiveUpstream = new BitSet[size];
+        for (int index = 0; index < size; index++) {
+            BitSet upstream = (BitSet) directUpstream[index].clone();
+            for (int i = directUpstream[index].nextSetBit(0); i >= 0; i = directUpstream[index].nextSetBit(i + 1)) {
+                upstream.or(transitiveUpstream[i]);
+            }
+            transitiveUpstream[index] = upstream;
+        }
+        transitiveDownstream = new BitSet[size];
+        for (int index = size - 1; index >= 0; index--) {
+            BitSet downstream = (BitSet) directDownstream[index].clone();
+            for (int i = directDownstream[index].nextSetBit(0); i >= 0; i = directDownstream[index].nextSetBit(i + 1)) {
+                downstream.or(transitiveDownstream[i]);
+            }
+            transitiveDownstream[index] = downstream;
         }
     }
 
@@ -110,54 +147,44 @@ public List<MavenProject> getAllProjects() {
     }
 
     public List<MavenProject> getSortedProjects() {
-        return new ArrayList<>(sorter.getSortedProjects());
+        return new ArrayList<>(sortedProjects);
     }
 
     public List<MavenProject> getDownstreamProjects(MavenProject project, boolean transitive) {
         Objects.requireNonNull(project, "project cannot be null");
 
-        Set<String> projectIds = new HashSet<>();
+        int index = getIndex(project);
 
-        getDownstreamProjects(ProjectSorter.getId(project), projectIds, transitive);
-
-        return getSortedProjects(projectIds);
-    }
-
-    private void getDownstreamProjects(String projectId, Set<String> projectIds, boolean transitive) {
-        for (String id : sorter.getDependents(projectId)) {
-            if (projectIds.add(id) && transitive) {
-                getDownstreamProjects(id, projectIds, transitive);
-            }
-        }
+        return getSortedProjects(transitive ? transitiveDownstream[index] : directDownstream[index]);
     }
 
     public List<MavenProject> getUpstreamProjects(MavenProject project, boolean transitive) {
         Objects.requireNonNull(project, "project cannot be null");
 
-        Set<String> projectIds = new HashSet<>();
-
-        getUpstreamProjects(ProjectSorter.getId(project), projectIds, transitive);
+        int index = getIndex(project);
 
-        return getSortedProjects(projectIds);
+        return getSortedProjects(transitive ? transitiveUpstream[index] : directUpstream[index]);
     }
 
-    private void getUpstreamProjects(String projectId, Collection<String> projectIds, boolean transitive) {
-        for (String id : sorter.getDependencies(projectId)) {
-            if (projectIds.add(id) && transitive) {
-                getUpstreamProjects(id, projectIds, transitive);
-            }
+    private int getIndex(MavenProject project) {
+        String id = ProjectSorter.getId(project);
+        Integer index = indexes.get(id);
+        if (index == null) {
+            throw new IllegalArgumentException("Project " + id + " is not part of the dependency graph");
         }
+        return index;
     }
 
-    private List<MavenProject> getSortedProjects(Set<String> projectIds) {
-        return projectIds.stream()
-                .map(projects::get)
-                .sorted(Comparator.comparingInt(order::get))
-                .collect(Collectors.toList());
+    private List<MavenProject> getSortedProjects(BitSet projectIndexes) {
+        List<MavenProject> result = new ArrayList<>(projectIndexes.cardinality());
+        for (int i = projectIndexes.nextSetBit(0); i >= 0; i = projectIndexes.nextSetBit(i + 1)) {
+            result.add(sortedProjects.get(i));
+        }
+        return result;
     }
 
     @Override
     public String toString() {
-        return sorter.getSortedProjects().toString();
+        return sortedProjects.toString();
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Helper class to use virtual threads when running on a JDK which supports them (JDK 21+), while still running on
+ * older JDKs. Virtual threads are opt-in, using the {@value #VIRTUAL_THREADS} property.
+ */
+public class VirtualThreads {
+
+    public static final String VIRTUAL_THREADS = "maven.virtualThreads";
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+    private static MethodHandle findNewVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findStatic(
+                            Executors.class,
+                            "newVirtualThreadPerTaskExecutor",
+                            MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the running JDK supports virtual threads.
+     *
+     * @return {@code true} if virtual threads are supported.
+     */
+    public static boolean isAvailable() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Checks whether virtual threads have been requested, either through the user or system properties.
+     *
+     * @param userProperties The user properties, may be {@code null}.
+     * @param systemProperties The system properties, may be {@code null}.
+     * @return {@code true} if virtual threads have been requested.
+     */
+    public static boolean isRequested(Properties userProperties, Properties systemProperties) {
+        String str = userProperties != null ? userProperties.getProperty(VIRTUAL_THREADS) : null;
+        if (str == null && systemProperties != null) {
+            str = systemProperties.getProperty(VIRTUAL_THREADS);
+        }
+        return Boolean.parseBoolean(str);
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return The executor, never {@code null}.
+     * @throws UnsupportedOperationException If the running JDK does not support virtual threads.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.eventspy.AbstractEventSpy;
+import org.apache.maven.execution.BuildDurationHistory;
+import org.apache.maven.execution.BuildDurationRepository;
+import org.apache.maven.execution.BuildSuccess;
+import org.apache.maven.execution.BuildSummary;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Records the wall time of each project and mojo execution of the build, and maintains the
+ * {@link BuildDurationHistory} of the reactor across builds. The history of the earlier builds is made available to
+ * the session when it starts, the updated history is persisted when it ends. Recording can be disabled by setting the
+ * {@value #BUILD_DURATIONS} property to {@code false}.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+public class BuildDurationRecorder extends AbstractEventSpy {
+
+    public static final String BUILD_DURATIONS = "maven.build.durations";
+
+    private final BuildDurationRepository buildDurationRepository;
+
+    @Inject
+    public BuildDurationRecorder(BuildDurationRepository buildDurationRepository) {
+        this.buildDurationRepository = buildDurationRepository;
+    }
+
+    @Override
+    public void onEvent(Object event) {
+        if (event instanceof ExecutionEvent) {
+            ExecutionEvent executionEvent = (ExecutionEvent) event;
+            switch (executionEvent.getType()) {
+                case SessionStarted:
+                    sessionStarted(executionEvent.getSession());
+                    break;
+                case MojoStarted:
+                    mojoStarted(executionEvent);
+                    break;
+                case MojoSucceeded:
+                    mojoSucceeded(executionEvent);
+                    break;
+                case SessionEnded:
+                    sessionEnded(executionEvent.getSession());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void sessionStarted(MavenSession session) {
+        MavenProject rootProject = getRootProject(session);
+        if (rootProject != null && ConfigUtils.getBoolean(session.getRepositorySession(), true, BUILD_DURATIONS)) {
+            BuildDurationHistory.set(session, buildDurationRepository.load(rootProject));
+            session.getRepositorySession().getData().set(Recording.class, new Recording());
+        }
+    }
+
+    private void mojoStarted(ExecutionEvent event) {
+        Recording recording = getRecording(event.getSession());
+        if (recording != null) {
+            recording.startTimes.put(event.getMojoExecution(), System.nanoTime());
+        }
+    }
+
+    private void mojoSucceeded(ExecutionEvent event) {
+        Recording recording = getRecording(event.getSession());
+        if (recording != null) {
+            Long startTime = recording.startTimes.remove(event.getMojoExecution());
+            if (startTime != null) {
+                long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                recording.mojoDurations.merge(
+                        BuildDurationHistory.getMojoKey(event.getProject(), event.getMojoExecution()),
+                        duration,
+                        Long::sum);
+            }
+        }
+    }
+
+    private void sessionEnded(MavenSession session) {
+        Recording recording = getRecording(session);
+        MavenProject rootProject = getRootProject(session);
+        if (recording == null || rootProject == null) {
+            return;
+        }
+        session.getRepositorySession().getData().set(Recording.class, null);
+
+        Map<String, Long> projectDurations = new HashMap<>();
+        for (MavenProject project : session.getProjects()) {
+            BuildSummary summary = session.getResult().getBuildSummary(project);
+            // failed builds end early and would make the project look faster than it is
+            if (summary instanceof BuildSuccess) {
+                projectDurations.put(BuildDurationHistory.getProjectKey(project), summary.getTime());
+            }
+        }
+        if (!projectDurations.isEmpty() || !recording.mojoDurations.isEmpty()) {
+            BuildDurationHistory history =
+                    BuildDurationHistory.get(session).update(projectDurations, recording.mojoDurations);
+            buildDurationRepository.persist(rootProject, history);
+        }
+    }
+
+    private static MavenProject getRootProject(MavenSession session) {
+        MavenProject rootProject = session.getTopLevelProject();
+        return rootProject != null && rootProject.getFile() != null ? rootProject : null;
+    }
+
+    private static Recording getRecording(MavenSession session) {
+        return session != null && session.getRepositorySession() != null
+                ? (Recording) session.getRepositorySession().getData().get(Recording.class)
+                : null;
+    }
+
+    private static class Recording {
+        private final Map<MojoExecution, Long> startTimes = new ConcurrentHashMap<>();
+
+        private final Map<String, Long> mojoDurations = new ConcurrentHashMap<>();
+    }
+}
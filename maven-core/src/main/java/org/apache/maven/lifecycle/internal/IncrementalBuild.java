@@ -0,0 +1,568 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.DefaultLifecycles;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
+import org.apache.maven.model.Resource;
+import org.apache.maven.model.v4.MavenBinaryWriter;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectHelper;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Supports the opt-in incremental build mode, enabled by setting the {@value #INCREMENTAL_BUILD} property to
+ * {@code true}. Before its execution plan runs, a project is fingerprinted from its inputs, and when the fingerprint
+ * matches the one recorded by the last successful build of the project, the plan is skipped and the outputs of that
+ * build are kept as they are and attached to the project again. The inputs of a project are:
+ * <ul>
+ * <li>its effective POM,</li>
+ * <li>the size and last modification time of the files below its base directory, except those below its build,
+ * output and test output directories, below hidden directories and below the base directories of the other projects
+ * of the reactor,</li>
+ * <li>the same stamps of the files below its compile and test source roots and its resource directories which are
+ * not below its base directory,</li>
+ * <li>the configuration of its mojo executions,</li>
+ * <li>the values of the user and system properties referenced by {@code ${...}} expressions of the configuration of
+ * its mojo executions, the properties referenced by the POM being already part of the effective POM,</li>
+ * <li>its resolved dependencies: the fingerprint of the project for a dependency built in the reactor, or the stamp of
+ * the file of any other dependency.</li>
+ * </ul>
+ * Files outside of these locations, like a shared descriptor referenced by a relative path from the configuration of
+ * a plugin, and properties read by mojos without being referenced from their configuration are not taken into
+ * account: projects relying on them should not use this mode.
+ * <p>
+ * Besides the artifact files, the record holds the compile and test compile source roots and the properties of the
+ * project, which mojos like source generators add to, so that the downstream projects see the same project state as
+ * after an actual build. Any other state mojos may leave on the project is not restored.
+ * <p>
+ * The record lives in the build directory of the project, so cleaning the project also forces it to be built again.
+ * Plans executing the clean lifecycle or goals invoked directly from the command line are never skipped.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+public class IncrementalBuild {
+
+    public static final String INCREMENTAL_BUILD = "maven.build.incremental";
+
+    static final String RECORD_FILENAME = "incremental-build.properties";
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    private static final String ARTIFACT_FILE = "artifact.file";
+
+    private static final String ATTACHED_PREFIX = "attached.";
+
+    private static final String COMPILE_SOURCE_ROOT_PREFIX = "compileSourceRoot.";
+
+    private static final String TEST_COMPILE_SOURCE_ROOT_PREFIX = "testCompileSourceRoot.";
+
+    private static final String PROPERTY_PREFIX = "property.";
+
+    private static final String EXPRESSION_START = "${";
+
+    private static final String EXPRESSION_END = "}";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final int HEX_DIGIT_BITS = 4;
+
+    private static final int HEX_DIGIT_MASK = 0xF;
+
+    private static final String CLEAN_LIFECYCLE = "clean";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalBuild.class);
+
+    private final MojoExecutor mojoExecutor;
+
+    private final LifecycleDependencyResolver dependencyResolver;
+
+    private final DefaultLifecycles defaultLifecycles;
+
+    private final MavenProjectHelper projectHelper;
+
+    @Inject
+    public IncrementalBuild(
+            MojoExecutor mojoExecutor,
+            LifecycleDependencyResolver dependencyResolver,
+            DefaultLifecycles defaultLifecycles,
+            MavenProjectHelper projectHelper) {
+        this.mojoExecutor = mojoExecutor;
+        this.dependencyResolver = dependencyResolver;
+        this.defaultLifecycles = defaultLifecycles;
+        this.projectHelper = projectHelper;
+    }
+
+    public boolean isEnabled(MavenSession session) {
+        return ConfigUtils.getBoolean(session.getRepositorySession(), false, INCREMENTAL_BUILD);
+    }
+
+    /**
+     * Computes the fingerprint of the inputs of the given project for the given execution plan, and remembers it for
+     * the fingerprints of the downstream projects.
+     *
+     * @return The fingerprint, or {@code null} if the plan must always be executed.
+     */
+    public String fingerprint(MavenSession session, MavenProject project, List<MojoExecution> mojoExecutions) {
+        if (project.getBasedir() == null || !isSkippable(mojoExecutions)) {
+            return null;
+        }
+
+        MessageDigest digest = newDigest();
+        try {
+            update(digest, "model");
+            MavenBinaryWriter writer = new MavenBinaryWriter();
+            writer.setAddLocationInformation(false);
+            writer.write(
+                    new DigestOutputStream(NullOutputStream.INSTANCE, digest),
+                    project.getModel().getDelegate());
+
+            for (String name : getReferencedProperties(mojoExecutions)) {
+                String value = session.getUserProperties().getProperty(name);
+                update(
+                        digest,
+                        "property",
+                        name,
+                        value != null ? value : session.getSystemProperties().getProperty(name));
+            }
+
+            Path basedir = getBasedir(project);
+            update(digest, "files");
+            stamp(digest, basedir, getExcludedDirectories(session, project));
+            for (String root : getSourceRoots(project)) {
+                Path path = Paths.get(root).toAbsolutePath().normalize();
+                if (!path.startsWith(basedir)) {
+                    update(digest, "sources", root);
+                    stamp(digest, path);
+                }
+            }
+
+            for (MojoExecution mojoExecution : mojoExecutions) {
+                update(
+                        digest,
+                        "mojo",
+                        mojoExecution.getMojoDescriptor().getId(),
+                        mojoExecution.getExecutionId(),
+                        mojoExecution.getLifecyclePhase(),
+                        String.valueOf(mojoExecution.getConfiguration()));
+            }
+
+            Map<String, String> fingerprints = getFingerprints(session);
+            for (Artifact artifact : resolveDependencies(session, project, mojoExecutions)) {
+                update(digest, "dependency", artifact.getId(), artifact.getScope());
+                String upstream = fingerprints.get(
+                        ArtifactUtils.key(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion()));
+                if (upstream != null) {
+                    update(digest, upstream);
+                } else if (artifact.getFile() != null) {
+                    stamp(digest, artifact.getFile().toPath());
+                }
+            }
+        } catch (IOException | LifecycleExecutionException e) {
+            LOGGER.debug("Unable to fingerprint {}, it will be built: {}", project.getId(), e.toString());
+            return null;
+        }
+
+        String fingerprint = toHexString(digest.digest());
+        getFingerprints(session).put(getKey(project), fingerprint);
+        return fingerprint;
+    }
+
+    /**
+     * Restores the outputs recorded by the last successful build of the given project if its fingerprint matches the
+     * given one and all the recorded outputs still exist.
+     *
+     * @return {@code true} if the outputs have been restored and the execution plan can be skipped.
+     */
+    public boolean restore(MavenProject project, String fingerprint) {
+        if (fingerprint == null) {
+            return false;
+        }
+        Path path = getRecordPath(project);
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+
+        Properties record = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            record.load(reader);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to read {}, {} will be built: {}", path, project.getId(), e.toString());
+            return false;
+        }
+        if (!fingerprint.equals(record.getProperty(FINGERPRINT))) {
+            return false;
+        }
+
+        // artifacts attached before the execution plan runs, like the consumer POM, are attached again anyway
+        List<String[]> attached = new ArrayList<>();
+        for (int i = 0; record.getProperty(ATTACHED_PREFIX + i + ".file") != null; i++) {
+            String prefix = ATTACHED_PREFIX + i + '.';
+            String type = record.getProperty(prefix + "type");
+            String classifier = record.getProperty(prefix + "classifier");
+            if (!isAttached(project, type, classifier)) {
+                attached.add(new String[] {type, classifier, record.getProperty(prefix + "file")});
+            }
+        }
+        String artifactFile = record.getProperty(ARTIFACT_FILE);
+        if (artifactFile != null && !new File(artifactFile).exists()
+                || attached.stream().anyMatch(a -> !new File(a[2]).exists())) {
+            return false;
+        }
+
+        if (artifactFile != null) {
+            project.getArtifact().setFile(new File(artifactFile));
+        }
+        for (String[] a : attached) {
+            projectHelper.attachArtifact(project, a[0], a[1], new File(a[2]));
+        }
+        for (String root : getList(record, COMPILE_SOURCE_ROOT_PREFIX)) {
+            project.addCompileSourceRoot(root);
+        }
+        for (String root : getList(record, TEST_COMPILE_SOURCE_ROOT_PREFIX)) {
+            project.addTestCompileSourceRoot(root);
+        }
+        for (String name : record.stringPropertyNames()) {
+            if (name.startsWith(PROPERTY_PREFIX)) {
+                project.getProperties().setProperty(name.substring(PROPERTY_PREFIX.length()), record.getProperty(name));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forgets the outputs of the last build of the given project, before they get overwritten.
+     */
+    public void invalidate(MavenProject project) {
+        try {
+            Files.deleteIfExists(getRecordPath(project));
+        } catch (IOException e) {
+            LOGGER.debug("Unable to delete {}: {}", getRecordPath(project), e.toString());
+        }
+    }
+
+    /**
+     * Records the given fingerprint and the outputs of the given project, which has just been built successfully.
+     */
+    public void record(MavenProject project, String fingerprint) {
+        Properties record = new Properties();
+        record.setProperty(FINGERPRINT, fingerprint);
+        File artifactFile = project.getArtifact().getFile();
+        if (artifactFile != null) {
+            record.setProperty(ARTIFACT_FILE, artifactFile.getAbsolutePath());
+        }
+        int i = 0;
+        for (Artifact artifact : project.getAttachedArtifacts()) {
+            if (artifact.getFile() != null) {
+                String prefix = ATTACHED_PREFIX + i++ + '.';
+                record.setProperty(prefix + "type", artifact.getType());
+                if (artifact.getClassifier() != null) {
+                    record.setProperty(prefix + "classifier", artifact.getClassifier());
+                }
+                record.setProperty(prefix + "file", artifact.getFile().getAbsolutePath());
+            }
+        }
+        setList(record, COMPILE_SOURCE_ROOT_PREFIX, project.getCompileSourceRoots());
+        setList(record, TEST_COMPILE_SOURCE_ROOT_PREFIX, project.getTestCompileSourceRoots());
+        for (String name : project.getProperties().stringPropertyNames()) {
+            record.setProperty(PROPERTY_PREFIX + name, project.getProperties().getProperty(name));
+        }
+
+        Path path = getRecordPath(project);
+        try {
+            Files.createDirectories(path.getParent());
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                record.store(writer, null);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write {} file.", path, e);
+        }
+    }
+
+    private static void setList(Properties record, String prefix, List<String> values) {
+        for (int i = 0; i < values.size(); i++) {
+            record.setProperty(prefix + i, values.get(i));
+        }
+    }
+
+    private static List<String> getList(Properties record, String prefix) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; record.getProperty(prefix + i) != null; i++) {
+            values.add(record.getProperty(prefix + i));
+        }
+        return values;
+    }
+
+    private static boolean isAttached(MavenProject project, String type, String classifier) {
+        return project.getAttachedArtifacts().stream()
+                .anyMatch(a -> Objects.equals(type, a.getType()) && Objects.equals(classifier, a.getClassifier()));
+    }
+
+    private boolean isSkippable(List<MojoExecution> mojoExecutions) {
+        for (MojoExecution mojoExecution : mojoExecutions) {
+            String phase = mojoExecution.getLifecyclePhase();
+            if (phase == null
+                    || defaultLifecycles.get(phase) == null
+                    || CLEAN_LIFECYCLE.equals(defaultLifecycles.get(phase).getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Collection<Artifact> resolveDependencies(
+            MavenSession session, MavenProject project, List<MojoExecution> mojoExecutions)
+            throws LifecycleExecutionException {
+        DependencyContext context = mojoExecutor.newDependencyContext(session, mojoExecutions);
+        Collection<String> scopesToCollect = context.getScopesToCollectForCurrentProject();
+        Collection<String> scopesToResolve = context.getScopesToResolveForCurrentProject();
+        if (scopesToCollect.isEmpty() && scopesToResolve.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // the resolved artifacts are cached, the mojo executor will reuse them if the plan gets executed
+        return dependencyResolver
+                .resolveProjectArtifacts(
+                        project, scopesToCollect, scopesToResolve, session, false, Collections.emptySet())
+                .stream()
+                .sorted(Comparator.comparing(Artifact::getId))
+                .collect(Collectors.toList());
+    }
+
+    static List<String> getSourceRoots(MavenProject project) {
+        List<String> roots = new ArrayList<>();
+        roots.addAll(project.getCompileSourceRoots());
+        roots.addAll(project.getTestCompileSourceRoots());
+        for (Resource resource : project.getResources()) {
+            roots.add(resource.getDirectory());
+        }
+        for (Resource resource : project.getTestResources()) {
+            roots.add(resource.getDirectory());
+        }
+        return roots;
+    }
+
+    private static Path getBasedir(MavenProject project) {
+        return project.getBasedir().toPath().toAbsolutePath().normalize();
+    }
+
+    private static Set<Path> getExcludedDirectories(MavenSession session, MavenProject project) {
+        Set<Path> excluded = new HashSet<>();
+        excluded.add(
+                Paths.get(project.getBuild().getDirectory()).toAbsolutePath().normalize());
+        if (project.getBuild().getOutputDirectory() != null) {
+            excluded.add(Paths.get(project.getBuild().getOutputDirectory())
+                    .toAbsolutePath()
+                    .normalize());
+        }
+        if (project.getBuild().getTestOutputDirectory() != null) {
+            excluded.add(Paths.get(project.getBuild().getTestOutputDirectory())
+                    .toAbsolutePath()
+                    .normalize());
+        }
+        if (session.getProjects() != null) {
+            for (MavenProject other : session.getProjects()) {
+                if (other.getBasedir() != null && !getBasedir(other).equals(getBasedir(project))) {
+                    excluded.add(getBasedir(other));
+                }
+            }
+        }
+        return excluded;
+    }
+
+    /**
+     * Gets the names of the properties referenced by {@code ${...}} expressions in the configuration of the given mojo
+     * executions, including the expressions of the parameters of the mojos which are not explicitly configured.
+     */
+    static Set<String> getReferencedProperties(List<MojoExecution> mojoExecutions) {
+        Set<String> names = new TreeSet<>();
+        for (MojoExecution mojoExecution : mojoExecutions) {
+            if (mojoExecution.getConfiguration() != null) {
+                addReferencedProperties(names, mojoExecution.getConfiguration());
+            }
+        }
+        return names;
+    }
+
+    private static void addReferencedProperties(Set<String> names, Xpp3Dom dom) {
+        addReferencedProperties(names, dom.getValue());
+        for (String attribute : dom.getAttributeNames()) {
+            addReferencedProperties(names, dom.getAttribute(attribute));
+        }
+        for (Xpp3Dom child : dom.getChildren()) {
+            addReferencedProperties(names, child);
+        }
+    }
+
+    private static void addReferencedProperties(Set<String> names, String value) {
+        if (value == null) {
+            return;
+        }
+        int start = value.indexOf(EXPRESSION_START);
+        while (start >= 0) {
+            int end = value.indexOf(EXPRESSION_END, start + EXPRESSION_START.length());
+            if (end < 0) {
+                break;
+            }
+            names.add(value.substring(start + EXPRESSION_START.length(), end));
+            start = value.indexOf(EXPRESSION_START, end);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX_DIGITS[(bytes[i] >> HEX_DIGIT_BITS) & HEX_DIGIT_MASK];
+            chars[2 * i + 1] = HEX_DIGITS[bytes[i] & HEX_DIGIT_MASK];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Updates the digest with the size and last modification time of the given file, or of all the files below the
+     * given directory.
+     */
+    static void stamp(MessageDigest digest, Path path) throws IOException {
+        stamp(digest, path, Collections.emptySet());
+    }
+
+    /**
+     * Updates the digest with the size and last modification time of the given file, or of all the files below the
+     * given directory except those below hidden directories and the given excluded directories.
+     */
+    static void stamp(MessageDigest digest, Path path, Set<Path> excluded) throws IOException {
+        if (Files.isRegularFile(path)) {
+            update(
+                    digest,
+                    Long.toString(Files.size(path)),
+                    Long.toString(Files.getLastModifiedTime(path).toMillis()));
+        } else if (Files.isDirectory(path)) {
+            List<Path> files = new ArrayList<>();
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (!dir.equals(path)
+                            && (dir.getFileName().toString().startsWith(".")
+                                    || excluded.contains(dir.toAbsolutePath().normalize()))) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile()) {
+                        files.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            Collections.sort(files);
+            for (Path file : files) {
+                update(digest, path.relativize(file).toString());
+                stamp(digest, file);
+            }
+        } else {
+            update(digest, "-");
+        }
+    }
+
+    static void update(MessageDigest digest, String... values) {
+        for (String value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Path getRecordPath(MavenProject project) {
+        return Paths.get(project.getBuild().getDirectory(), RECORD_FILENAME);
+    }
+
+    private static String getKey(MavenProject project) {
+        return ArtifactUtils.key(project.getGroupId(), project.getArtifactId(), project.getVersion());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> getFingerprints(MavenSession session) {
+        return (Map<String, String>) session.getRepositorySession()
+                .getData()
+                .computeIfAbsent(IncrementalBuild.class, ConcurrentHashMap::new);
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {}
+
+        @Override
+        public void write(byte[] b, int off, int len) {}
+    }
+}
@@ -22,6 +22,7 @@
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 
@@ -36,6 +37,8 @@
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.session.scope.internal.SessionScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * <p>
@@ -49,12 +52,15 @@
 @Singleton
 public class LifecycleModuleBuilder {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(LifecycleModuleBuilder.class);
+
     private final MojoExecutor mojoExecutor;
     private final BuilderCommon builderCommon;
     private final ExecutionEventCatapult eventCatapult;
     private final ProjectExecutionListener projectExecutionListener;
     private final ConsumerPomArtifactTransformer consumerPomArtifactTransformer;
     private final SessionScope sessionScope;
+    private final IncrementalBuild incrementalBuild;
 
     @Inject
     public LifecycleModuleBuilder(
@@ -63,13 +69,15 @@ public LifecycleModuleBuilder(
             ExecutionEventCatapult eventCatapult,
             List<ProjectExecutionListener> listeners,
             ConsumerPomArtifactTransformer consumerPomArtifactTransformer,
-            SessionScope sessionScope) {
+            SessionScope sessionScope,
+            IncrementalBuild incrementalBuild) {
         this.mojoExecutor = mojoExecutor;
         this.builderCommon = builderCommon;
         this.eventCatapult = eventCatapult;
         this.projectExecutionListener = new CompoundProjectExecutionListener(listeners);
         this.consumerPomArtifactTransformer = consumerPomArtifactTransformer;
         this.sessionScope = sessionScope;
+        this.incrementalBuild = incrementalBuild;
     }
 
     public void buildProject(
@@ -83,6 +91,32 @@ public void buildProject(
             ReactorContext reactorContext,
             MavenProject currentProject,
             TaskSegment taskSegment) {
+        buildProject(session, rootSession, reactorContext, currentProject, taskSegment, null, null, null);
+    }
+
+    /**
+     * Builds the given project, notifying the given callback as soon as the mojos bound to the given phases have been
+     * executed. The callback is only notified if the execution plan of the project has mojos bound to these phases
+     * followed by other mojos, otherwise the end of the build is the only relevant notification.
+     * <p>
+     * If the project has been started before some of its upstream projects finished, the given barrier waits for them
+     * once the mojos bound to the given phases have been executed. The project is then skipped if an upstream project
+     * failed, as it would have been if it had been started after it.
+     *
+     * @param pipelinePhases The phases after which the callback is notified, may be {@code null}.
+     * @param pipelineCallback The callback to notify, may be {@code null}.
+     * @param upstreamBarrier The barrier waiting for the unfinished upstream projects, may be {@code null}.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public void buildProject(
+            MavenSession session,
+            MavenSession rootSession,
+            ReactorContext reactorContext,
+            MavenProject currentProject,
+            TaskSegment taskSegment,
+            Collection<String> pipelinePhases,
+            Runnable pipelineCallback,
+            Runnable upstreamBarrier) {
         session.setCurrentProject(currentProject);
 
         long buildStartTime = System.currentTimeMillis();
@@ -108,10 +142,60 @@ public void buildProject(
 
             projectExecutionListener.beforeProjectLifecycleExecution(
                     new ProjectExecutionEvent(session, currentProject, mojoExecutions));
-            mojoExecutor.execute(session, mojoExecutions, reactorContext.getProjectIndex());
+
+            String fingerprint = incrementalBuild.isEnabled(session)
+                    ? incrementalBuild.fingerprint(session, currentProject, mojoExecutions)
+                    : null;
+            if (incrementalBuild.restore(currentProject, fingerprint)) {
+                LOGGER.info("Skipping {}: its inputs did not change since its last build", currentProject.getName());
+
+                projectExecutionListener.afterProjectExecutionSuccess(
+                        new ProjectExecutionEvent(session, currentProject, mojoExecutions));
+
+                reactorContext
+                        .getResult()
+                        .addBuildSummary(new BuildSuccess(currentProject, System.currentTimeMillis() - buildStartTime));
+
+                eventCatapult.fire(ExecutionEvent.Type.ProjectSucceeded, session, null);
+                return;
+            }
+            if (fingerprint != null) {
+                incrementalBuild.invalidate(currentProject);
+            }
+
+            int pipelineIndex = getPipelineIndex(mojoExecutions, pipelinePhases);
+            boolean pipelined = pipelineCallback != null && pipelineIndex > 0 && pipelineIndex < mojoExecutions.size();
+            if (pipelined || upstreamBarrier != null) {
+                if (pipelineIndex > 0) {
+                    mojoExecutor.execute(
+                            session, mojoExecutions.subList(0, pipelineIndex), reactorContext.getProjectIndex());
+                }
+                if (pipelined) {
+                    pipelineCallback.run();
+                }
+                if (upstreamBarrier != null) {
+                    upstreamBarrier.run();
+                    if (reactorContext.getReactorBuildStatus().isHaltedOrBlacklisted(currentProject)) {
+                        eventCatapult.fire(ExecutionEvent.Type.ProjectSkipped, session, null);
+                        return;
+                    }
+                }
+                if (pipelineIndex < mojoExecutions.size()) {
+                    mojoExecutor.execute(
+                            session,
+                            mojoExecutions.subList(pipelineIndex, mojoExecutions.size()),
+                            reactorContext.getProjectIndex());
+                }
+            } else {
+                mojoExecutor.execute(session, mojoExecutions, reactorContext.getProjectIndex());
+            }
 
             long buildEndTime = System.currentTimeMillis();
 
+            if (fingerprint != null) {
+                incrementalBuild.record(currentProject, fingerprint);
+            }
+
             projectExecutionListener.afterProjectExecutionSuccess(
                     new ProjectExecutionEvent(session, currentProject, mojoExecutions));
 
@@ -137,4 +221,19 @@ public void buildProject(
             Thread.currentThread().setContextClassLoader(reactorContext.getOriginalContextClassLoader());
         }
     }
+
+    /**
+     * Returns the index of the first mojo execution following the last one bound to any of the given phases.
+     */
+    static int getPipelineIndex(List<MojoExecution> mojoExecutions, Collection<String> pipelinePhases) {
+        if (pipelinePhases == null) {
+            return mojoExecutions.size();
+        }
+        for (int i = mojoExecutions.size() - 1; i >= 0; i--) {
+            if (pipelinePhases.contains(mojoExecutions.get(i).getLifecyclePhase())) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
 }
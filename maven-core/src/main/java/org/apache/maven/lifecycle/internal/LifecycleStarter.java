@@ -60,6 +60,8 @@ public class LifecycleStarter {
 
     private final SessionScope sessionScope;
 
+    private final PluginPrefetcher pluginPrefetcher;
+
     @Inject
     public LifecycleStarter(
             ExecutionEventCatapult eventCatapult,
@@ -68,7 +70,8 @@ public LifecycleStarter(
             LifecycleDebugLogger lifecycleDebugLogger,
             LifecycleTaskSegmentCalculator lifecycleTaskSegmentCalculator,
             Map<String, Builder> builders,
-            SessionScope sessionScope) {
+            SessionScope sessionScope,
+            PluginPrefetcher pluginPrefetcher) {
         this.eventCatapult = eventCatapult;
         this.defaultLifeCycles = defaultLifeCycles;
         this.buildListCalculator = buildListCalculator;
@@ -76,6 +79,7 @@ public LifecycleStarter(
         this.lifecycleTaskSegmentCalculator = lifecycleTaskSegmentCalculator;
         this.builders = builders;
         this.sessionScope = sessionScope;
+        this.pluginPrefetcher = pluginPrefetcher;
     }
 
     public void execute(MavenSession session) {
@@ -119,6 +123,10 @@ public void execute(MavenSession session) {
                         String.format("The builder requested using id = %s cannot be" + " found", builderId));
             }
 
+            if (pluginPrefetcher.isEnabled(session)) {
+                pluginPrefetcher.prefetch(session, projectBuilds);
+            }
+
             int degreeOfConcurrency = session.getRequest().getDegreeOfConcurrency();
             if (degreeOfConcurrency > 1) {
                 logger.info("");
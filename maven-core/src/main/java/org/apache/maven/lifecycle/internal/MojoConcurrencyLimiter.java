@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.Semaphore;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+
+/**
+ * Limits the number of mojos executing concurrently, independently of the number of projects being built
+ * concurrently. This allows a builder to run many more projects than there are cores when their threads mostly block
+ * on I/O, while CPU-bound mojos still only run on as many threads as requested. Mojos bound to the phases which mostly
+ * transfer artifacts ({@code install}, {@code deploy}) are not limited.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+public class MojoConcurrencyLimiter {
+
+    private static final Collection<String> IO_BOUND_PHASES =
+            new HashSet<>(Arrays.asList("install", "deploy", "site-deploy"));
+
+    private static final Permit NO_PERMIT = () -> {};
+
+    private final Semaphore permits;
+
+    public MojoConcurrencyLimiter(int permits) {
+        this.permits = new Semaphore(permits, true);
+    }
+
+    /**
+     * Makes the given limiter apply to the mojos executed in the given session.
+     *
+     * @param session The session, must not be {@code null}.
+     * @param limiter The limiter, may be {@code null} to execute mojos without limit.
+     */
+    public static void set(MavenSession session, MojoConcurrencyLimiter limiter) {
+        session.getRepositorySession().getData().set(MojoConcurrencyLimiter.class, limiter);
+    }
+
+    /**
+     * Waits until the given mojo execution can run according to the limiter of the given session, if any.
+     *
+     * @param session The session, must not be {@code null}.
+     * @param mojoExecution The mojo execution about to run, must not be {@code null}.
+     * @return The permit to close once the mojo execution is done, never {@code null}.
+     */
+    public static Permit acquire(MavenSession session, MojoExecution mojoExecution) {
+        if (session.getRepositorySession() == null) {
+            return NO_PERMIT;
+        }
+        Object limiter = session.getRepositorySession().getData().get(MojoConcurrencyLimiter.class);
+        if (limiter instanceof MojoConcurrencyLimiter && !IO_BOUND_PHASES.contains(mojoExecution.getLifecyclePhase())) {
+            Semaphore semaphore = ((MojoConcurrencyLimiter) limiter).permits;
+            semaphore.acquireUninterruptibly();
+            return semaphore::release;
+        }
+        return NO_PERMIT;
+    }
+
+    /**
+     * A permit to execute a mojo.
+     */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -314,7 +314,8 @@ private void doExecute(
 
         ensureDependenciesAreResolved(mojoDescriptor, session, dependencyContext);
 
-        try (ProjectLock lock = new ProjectLock(session, mojoDescriptor)) {
+        try (ProjectLock lock = new ProjectLock(session, mojoDescriptor);
+                MojoConcurrencyLimiter.Permit permit = MojoConcurrencyLimiter.acquire(session, mojoExecution)) {
             doExecute2(session, mojoExecution);
         } finally {
             for (MavenProject forkedProject : forkedProjects) {
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Tells whether the builder of a session lets downstream projects start before their upstream projects finish, so
+ * that components resolving reactor artifacts, like the reactor reader, know some projects are still in progress
+ * while their dependents run. The builder sets the state for the duration of the build.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+public final class PipelinedBuild {
+
+    private PipelinedBuild() {}
+
+    /**
+     * Sets whether the projects of the given session are built pipelined.
+     *
+     * @param session The session, must not be {@code null}.
+     * @param pipelined {@code true} if downstream projects may start before their upstream projects finish.
+     */
+    public static void set(MavenSession session, boolean pipelined) {
+        if (session.getRepositorySession() != null) {
+            session.getRepositorySession().getData().set(PipelinedBuild.class, pipelined ? Boolean.TRUE : null);
+        }
+    }
+
+    /**
+     * Tells whether the projects of the given session are built pipelined.
+     *
+     * @param session The session, must not be {@code null}.
+     * @return {@code true} if downstream projects may start before their upstream projects finish.
+     */
+    public static boolean isPipelined(MavenSession session) {
+        return session.getRepositorySession() != null
+                && Boolean.TRUE.equals(session.getRepositorySession().getData().get(PipelinedBuild.class));
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.MavenExecutionPlan;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.BuildPluginManager;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Supports the opt-in plugin prefetch stage, enabled by setting the {@value #PLUGIN_PREFETCH} property to
+ * {@code true}. Before the reactor starts executing, the execution plans of all projects are calculated and the
+ * realms of all distinct plugins they use are set up in parallel, so that resolving the plugin descriptors and
+ * dependencies and creating the class realms no longer happens one plugin at a time on the critical path of the
+ * first project using each plugin. The build then finds everything in the plugin descriptor and realm caches.
+ * <p>
+ * The stage is best effort: failures are only logged at debug level, and reported by the build as usual. Projects
+ * using a plugin built by the reactor are left alone, as that plugin is not available yet.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+public class PluginPrefetcher {
+
+    public static final String PLUGIN_PREFETCH = "maven.plugin.prefetch";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PluginPrefetcher.class);
+
+    private final LifecycleExecutionPlanCalculator executionPlanCalculator;
+
+    private final BuildPluginManager buildPluginManager;
+
+    @Inject
+    public PluginPrefetcher(
+            LifecycleExecutionPlanCalculator executionPlanCalculator, BuildPluginManager buildPluginManager) {
+        this.executionPlanCalculator = executionPlanCalculator;
+        this.buildPluginManager = buildPluginManager;
+    }
+
+    public boolean isEnabled(MavenSession session) {
+        return ConfigUtils.getBoolean(session.getRepositorySession(), false, PLUGIN_PREFETCH);
+    }
+
+    /**
+     * Calculates the execution plans of the given project builds and sets up the realms of the plugins they use.
+     */
+    public void prefetch(MavenSession session, ProjectBuildList projectBuilds) {
+        List<MavenProject> allProjects =
+                session.getAllProjects() != null ? session.getAllProjects() : session.getProjects();
+        Set<String> reactorPlugins = new HashSet<>();
+        for (MavenProject project : allProjects) {
+            reactorPlugins.add(project.getGroupId() + ':' + project.getArtifactId());
+        }
+
+        int nThreads = Math.max(
+                session.getRequest().getDegreeOfConcurrency(),
+                Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
+        try {
+            List<Future<List<PluginRealmSetup>>> plans = new ArrayList<>();
+            for (ProjectSegment projectBuild : projectBuilds) {
+                MavenProject project = projectBuild.getProject();
+                if (!usesReactorPlugin(project, reactorPlugins)) {
+                    MavenSession projectSession = cloneWithCurrentProject(session, project);
+                    plans.add(executor.submit(() -> calculatePlan(projectSession, projectBuild.getTaskSegment())));
+                }
+            }
+
+            // the first project using a plugin sets its realm up, the others will find it in the cache
+            Map<String, PluginRealmSetup> realms = new LinkedHashMap<>();
+            for (Future<List<PluginRealmSetup>> plan : plans) {
+                for (PluginRealmSetup realm : plan.get()) {
+                    realms.putIfAbsent(realm.pluginId, realm);
+                }
+            }
+            executor.invokeAll(realms.values());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.debug("Unable to prefetch plugins", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Clones the session for the given project. The current project of a session is thread-local, the clone takes the
+     * one of this thread as the default for all threads.
+     */
+    private static MavenSession cloneWithCurrentProject(MavenSession session, MavenProject project) {
+        MavenProject currentProject = session.getCurrentProject();
+        try {
+            session.setCurrentProject(project);
+            return session.clone();
+        } finally {
+            session.setCurrentProject(currentProject);
+        }
+    }
+
+    private static boolean usesReactorPlugin(MavenProject project, Set<String> reactorPlugins) {
+        for (Plugin plugin : project.getBuildPlugins()) {
+            if (reactorPlugins.contains(plugin.getGroupId() + ':' + plugin.getArtifactId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calculates the execution plan of the current project and returns the tasks setting up the realms of the plugins
+     * it uses.
+     */
+    private List<PluginRealmSetup> calculatePlan(MavenSession session, TaskSegment taskSegment) {
+        MavenProject project = session.getCurrentProject();
+        MavenExecutionPlan executionPlan;
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        try {
+            BuilderCommon.attachToThread(project);
+            executionPlan = executionPlanCalculator.calculateExecutionPlan(session, project, taskSegment.getTasks());
+        } catch (Exception e) {
+            LOGGER.debug("Unable to prefetch the plugins of {}: {}", project.getId(), e.toString());
+            return Collections.emptyList();
+        } finally {
+            Thread.currentThread().setContextClassLoader(tccl);
+        }
+
+        Map<String, PluginDescriptor> pluginDescriptors = new LinkedHashMap<>();
+        collectPluginDescriptors(executionPlan.getMojoExecutions(), pluginDescriptors);
+
+        List<PluginRealmSetup> realms = new ArrayList<>(pluginDescriptors.size());
+        for (Map.Entry<String, PluginDescriptor> entry : pluginDescriptors.entrySet()) {
+            realms.add(new PluginRealmSetup(session, entry.getKey(), entry.getValue()));
+        }
+        return realms;
+    }
+
+    private static void collectPluginDescriptors(
+            List<MojoExecution> mojoExecutions, Map<String, PluginDescriptor> pluginDescriptors) {
+        for (MojoExecution mojoExecution : mojoExecutions) {
+            if (mojoExecution.getMojoDescriptor() != null) {
+                PluginDescriptor pluginDescriptor =
+                        mojoExecution.getMojoDescriptor().getPluginDescriptor();
+                pluginDescriptors.putIfAbsent(pluginDescriptor.getPlugin().getId(), pluginDescriptor);
+            }
+            for (List<MojoExecution> forkedExecutions :
+                    mojoExecution.getForkedExecutions().values()) {
+                collectPluginDescriptors(forkedExecutions, pluginDescriptors);
+            }
+        }
+    }
+
+    private final class PluginRealmSetup implements Callable<Void> {
+        private final MavenSession session;
+
+        private final String pluginId;
+
+        private final PluginDescriptor pluginDescriptor;
+
+        PluginRealmSetup(MavenSession session, String pluginId, PluginDescriptor pluginDescriptor) {
+            this.session = session;
+            this.pluginId = pluginId;
+            this.pluginDescriptor = pluginDescriptor;
+        }
+
+        @Override
+        public Void call() {
+            ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+            try {
+                BuilderCommon.attachToThread(session.getCurrentProject());
+                buildPluginManager.getPluginRealm(session, pluginDescriptor);
+            } catch (Exception e) {
+                LOGGER.debug("Unable to prefetch plugin {}: {}", pluginId, e.toString());
+            } finally {
+                Thread.currentThread().setContextClassLoader(tccl);
+            }
+            return null;
+        }
+    }
+}
@@ -23,6 +23,7 @@
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.apache.maven.execution.ProjectDependencyGraph;
 import org.apache.maven.lifecycle.internal.ProjectBuildList;
@@ -45,6 +46,10 @@ public class ConcurrencyDependencyGraph {
 
     private final Set<MavenProject> finishedProjects = new HashSet<>();
 
+    private final Set<MavenProject> pipelinedProjects = new HashSet<>();
+
+    private final Set<MavenProject> scheduledProjects = new HashSet<>();
+
     public ConcurrencyDependencyGraph(ProjectBuildList projectBuilds, ProjectDependencyGraph projectDependencyGraph) {
         this.projectDependencyGraph = projectDependencyGraph;
         this.projectBuilds = projectBuilds;
@@ -72,6 +77,7 @@ public List<MavenProject> getRootSchedulableBuilds() {
             // Must return at least one project
             result.add(projectBuilds.get(0).getProject());
         }
+        scheduledProjects.addAll(result);
         return new ArrayList<>(result);
     }
 
@@ -86,19 +92,69 @@ public List<MavenProject> markAsFinished(MavenProject mavenProject) {
         return getSchedulableNewProcesses(mavenProject);
     }
 
+    /**
+     * Marks the provided project as pipelined, i.e. its outputs are available to downstream projects even though its
+     * build is not finished yet. Returns the projects which can be started now that the provided project is
+     * pipelined.
+     *
+     * @param mavenProject The project
+     * @param pipelineConsumers The downstream projects which can start before their upstream projects are finished
+     * @return The list of builds that are eligible for starting now that the provided project is pipelined
+     */
+    public List<MavenProject> markAsPipelined(MavenProject mavenProject, Predicate<MavenProject> pipelineConsumers) {
+        pipelinedProjects.add(mavenProject);
+        return getSchedulableNewProcesses(mavenProject, pipelineConsumers);
+    }
+
     private List<MavenProject> getSchedulableNewProcesses(MavenProject finishedProject) {
+        return getSchedulableNewProcesses(finishedProject, p -> true);
+    }
+
+    private List<MavenProject> getSchedulableNewProcesses(
+            MavenProject finishedProject, Predicate<MavenProject> pipelineConsumers) {
         List<MavenProject> result = new ArrayList<>();
         // schedule dependent projects, if all of their requirements are met
         for (MavenProject dependentProject : projectDependencyGraph.getDownstreamProjects(finishedProject, false)) {
+            if (scheduledProjects.contains(dependentProject)) {
+                continue;
+            }
             final List<MavenProject> upstreamProjects =
                     projectDependencyGraph.getUpstreamProjects(dependentProject, false);
-            if (finishedProjects.containsAll(upstreamProjects)) {
+            if (isAvailable(upstreamProjects, pipelineConsumers.test(dependentProject))) {
+                scheduledProjects.add(dependentProject);
                 result.add(dependentProject);
             }
         }
         return result;
     }
 
+    private boolean isAvailable(List<MavenProject> upstreamProjects, boolean pipelineConsumer) {
+        for (MavenProject upstreamProject : upstreamProjects) {
+            if (!finishedProjects.contains(upstreamProject)
+                    && !(pipelineConsumer && pipelinedProjects.contains(upstreamProject))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * For the given {@link MavenProject} {@code p}, return the prerequisite projects which are pipelined but not
+     * finished yet. These may still fail after {@code p} has been started.
+     *
+     * @param p
+     * @return List of pipelined prerequisite projects
+     */
+    public List<MavenProject> getPipelinedDependencies(MavenProject p) {
+        List<MavenProject> pipelinedDependencies = new ArrayList<>();
+        for (MavenProject upstreamProject : projectDependencyGraph.getUpstreamProjects(p, false)) {
+            if (pipelinedProjects.contains(upstreamProject) && !finishedProjects.contains(upstreamProject)) {
+                pipelinedDependencies.add(upstreamProject);
+            }
+        }
+        return pipelinedDependencies;
+    }
+
     /**
      * @return set of projects that have yet to be processed successfully by the build.
      */
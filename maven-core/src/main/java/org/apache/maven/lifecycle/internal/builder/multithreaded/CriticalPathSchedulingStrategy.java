@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import org.apache.maven.execution.BuildDurationHistory;
+import org.apache.maven.execution.BuildSummary;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Starts first the ready projects which head the longest chain of downstream projects, so that long dependency chains
+ * are not starved by leaf projects.
+ * <p>
+ * The length of a chain is the sum of the expected durations of its projects. The expected duration of a project is
+ * the time it took to build in an earlier task segment of the current session if known, its duration recorded in the
+ * {@link BuildDurationHistory} otherwise, or else the mean of the known durations. If no duration is known at all, all
+ * projects get a unit weight and the length of a chain is simply the number of its projects.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+@Named(CriticalPathSchedulingStrategy.NAME)
+@Singleton
+public class CriticalPathSchedulingStrategy implements ProjectSchedulingStrategy {
+
+    public static final String NAME = "critical-path";
+
+    @Override
+    public Comparator<MavenProject> getComparator(MavenSession session, ProjectBuildList projectBuilds) {
+        Map<MavenProject, Long> pathLengths = getPathLengths(session, projectBuilds);
+        return Comparator.comparingLong((MavenProject p) -> pathLengths.getOrDefault(p, 0L))
+                .reversed();
+    }
+
+    /**
+     * Computes, for each project of the given build list, the expected duration of the longest chain of projects
+     * starting with it and only made of projects of the build list.
+     */
+    Map<MavenProject, Long> getPathLengths(MavenSession session, ProjectBuildList projectBuilds) {
+        ProjectDependencyGraph graph = session.getProjectDependencyGraph();
+        Set<MavenProject> projects = projectBuilds.getProjects();
+        Map<MavenProject, Long> durations = getDurations(session, projects);
+
+        // visit downstream projects before their upstream projects
+        List<MavenProject> sortedProjects = new ArrayList<>(graph.getSortedProjects());
+        sortedProjects.retainAll(projects);
+        Collections.reverse(sortedProjects);
+
+        Map<MavenProject, Long> pathLengths = new HashMap<>();
+        for (MavenProject project : sortedProjects) {
+            long longestDownstream = 0;
+            for (MavenProject downstream : graph.getDownstreamProjects(project, false)) {
+                longestDownstream = Math.max(longestDownstream, pathLengths.getOrDefault(downstream, 0L));
+            }
+            pathLengths.put(project, durations.get(project) + longestDownstream);
+        }
+        return pathLengths;
+    }
+
+    private Map<MavenProject, Long> getDurations(MavenSession session, Set<MavenProject> projects) {
+        BuildDurationHistory history = BuildDurationHistory.get(session);
+        Map<MavenProject, Long> durations = new HashMap<>();
+        long total = 0;
+        for (MavenProject project : projects) {
+            BuildSummary summary = session.getResult().getBuildSummary(project);
+            OptionalLong recorded = history.getProjectDuration(project);
+            if (summary != null || recorded.isPresent()) {
+                long duration = Math.max(1, summary != null ? summary.getTime() : recorded.getAsLong());
+                durations.put(project, duration);
+                total += duration;
+            }
+        }
+        long defaultDuration = durations.isEmpty() ? 1 : Math.max(1, total / durations.size());
+        for (MavenProject project : projects) {
+            durations.putIfAbsent(project, defaultDuration);
+        }
+        return durations;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.Comparator;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Starts ready projects in the order they became ready, which was the behavior of the {@link MultiThreadedBuilder}
+ * before scheduling strategies were introduced.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+@Named(FifoSchedulingStrategy.NAME)
+@Singleton
+public class FifoSchedulingStrategy implements ProjectSchedulingStrategy {
+
+    public static final String NAME = "fifo";
+
+    @Override
+    public Comparator<MavenProject> getComparator(MavenSession session, ProjectBuildList projectBuilds) {
+        return (p1, p2) -> 0;
+    }
+}
@@ -22,22 +22,39 @@
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.internal.VirtualThreads;
+import org.apache.maven.lifecycle.DefaultLifecycles;
+import org.apache.maven.lifecycle.Lifecycle;
 import org.apache.maven.lifecycle.internal.BuildThreadFactory;
 import org.apache.maven.lifecycle.internal.LifecycleModuleBuilder;
+import org.apache.maven.lifecycle.internal.MojoConcurrencyLimiter;
+import org.apache.maven.lifecycle.internal.PipelinedBuild;
 import org.apache.maven.lifecycle.internal.ProjectBuildList;
 import org.apache.maven.lifecycle.internal.ProjectSegment;
 import org.apache.maven.lifecycle.internal.ReactorBuildStatus;
@@ -55,6 +72,28 @@
  * set with <code>-T</code> on the command-line) and the number of projects to build. As such, building a single project
  * will always result in a sequential build, regardless of the thread count.
  * </p>
+ * <p>
+ * Projects that are ready to be built are started in the order chosen by the {@link ProjectSchedulingStrategy}
+ * selected with the {@value ProjectSchedulingStrategy#SCHEDULING_STRATEGY} user property, by default the
+ * {@link CriticalPathSchedulingStrategy}.
+ * </p>
+ * <p>
+ * By default a project is started once all its upstream projects are finished. If a phase is given with the
+ * {@value #PIPELINE_PHASE} user property (e.g. {@code process-classes}), projects are started as soon as their
+ * upstream projects have executed the mojos bound to this phase and the phases before it, the reactor serving the
+ * build output directories of the upstream projects until they are packaged. Only projects with the {@code jar}
+ * packaging are pipelined this way, both upstream and downstream: other projects may provide plugins, extensions or
+ * artifacts which are only usable once packaged, or may package the artifacts of their dependencies. The phase must be
+ * late enough for the outputs used by downstream projects to be available, e.g. {@code process-test-classes} if test
+ * jars are used. A downstream project started this way does not go past the pipeline phase before its upstream
+ * projects are finished, and is skipped if one of them failed, just like any other downstream project.
+ * </p>
+ * <p>
+ * When running on Java 21 or later with the {@value VirtualThreads#VIRTUAL_THREADS} property set to {@code true}, each
+ * project is built in its own virtual thread and all the ready projects are started, while a
+ * {@link MojoConcurrencyLimiter} only lets as many mojos execute concurrently as the degree of concurrency. Dependency
+ * resolution and the mojos which mostly transfer artifacts are not limited.
+ * </p>
  * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
  *
  * @since 3.0
@@ -64,13 +103,29 @@
 @Named("multithreaded")
 @Singleton
 public class MultiThreadedBuilder implements Builder {
+    /**
+     * The user property giving the phase after which downstream projects can be started.
+     */
+    public static final String PIPELINE_PHASE = "maven.builder.pipelinePhase";
+
+    private static final String PIPELINED_PACKAGING = "jar";
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final LifecycleModuleBuilder lifecycleModuleBuilder;
 
+    private final Map<String, ProjectSchedulingStrategy> schedulingStrategies;
+
+    private final DefaultLifecycles defaultLifecycles;
+
     @Inject
-    public MultiThreadedBuilder(LifecycleModuleBuilder lifecycleModuleBuilder) {
+    public MultiThreadedBuilder(
+            LifecycleModuleBuilder lifecycleModuleBuilder,
+            Map<String, ProjectSchedulingStrategy> schedulingStrategies,
+            DefaultLifecycles defaultLifecycles) {
         this.lifecycleModuleBuilder = lifecycleModuleBuilder;
+        this.schedulingStrategies = schedulingStrategies;
+        this.defaultLifecycles = defaultLifecycles;
     }
 
     @Override
@@ -90,8 +145,20 @@ public void build(
         for (ProjectSegment segment : projectBuilds) {
             segment.getSession().setParallel(parallel);
         }
-        ExecutorService executor = Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
-        CompletionService<ProjectSegment> service = new ExecutorCompletionService<>(executor);
+        ExecutorService executor;
+        if (parallel && useVirtualThreads(session)) {
+            // projects mostly block on I/O outside of mojo executions, only limit the mojos to the requested threads
+            executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            MojoConcurrencyLimiter.set(session, new MojoConcurrencyLimiter(nThreads));
+            nThreads = session.getProjects().size();
+        } else {
+            executor = Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
+        }
+        BlockingQueue<Future<ProjectSegment>> completionQueue = new LinkedBlockingQueue<>();
+        CompletionService<ProjectSegment> service = new ExecutorCompletionService<>(executor, completionQueue);
+        ProjectSchedulingStrategy schedulingStrategy = getSchedulingStrategy(session);
+        Collection<String> pipelinePhases = getPipelinePhases(session);
+        PipelinedBuild.set(session, pipelinePhases != null);
 
         // Currently disabled
         ThreadOutputMuxer muxer = null; // new ThreadOutputMuxer( analyzer.getProjectBuilds(), System.out );
@@ -102,8 +169,20 @@ public void build(
             try {
                 ConcurrencyDependencyGraph analyzer =
                         new ConcurrencyDependencyGraph(segmentProjectBuilds, session.getProjectDependencyGraph());
+                ReadyProjects readyProjects =
+                        new ReadyProjects(schedulingStrategy.getComparator(session, segmentProjectBuilds));
+                Pipeline pipeline = new Pipeline(pipelinePhases, completionQueue);
                 multiThreadedProjectTaskSegmentBuild(
-                        analyzer, reactorContext, session, service, taskSegment, projectBuildMap, muxer);
+                        analyzer,
+                        reactorContext,
+                        session,
+                        service,
+                        nThreads,
+                        readyProjects,
+                        pipeline,
+                        taskSegment,
+                        projectBuildMap,
+                        muxer);
                 if (reactorContext.getReactorBuildStatus().isHalted()) {
                     break;
                 }
@@ -115,13 +194,68 @@ public void build(
 
         executor.shutdown();
         executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        MojoConcurrencyLimiter.set(session, null);
+        PipelinedBuild.set(session, false);
     }
 
+    private boolean useVirtualThreads(MavenSession session) {
+        if (!VirtualThreads.isRequested(session.getUserProperties(), session.getSystemProperties())) {
+            return false;
+        }
+        if (!VirtualThreads.isAvailable()) {
+            logger.warn("Virtual threads require Java 21 or later, using platform threads");
+            return false;
+        }
+        return true;
+    }
+
+    private ProjectSchedulingStrategy getSchedulingStrategy(MavenSession session) {
+        String name = session.getUserProperties().getProperty(ProjectSchedulingStrategy.SCHEDULING_STRATEGY);
+        if (name != null) {
+            ProjectSchedulingStrategy strategy = schedulingStrategies.get(name);
+            if (strategy != null) {
+                return strategy;
+            }
+            logger.warn(
+                    "Unknown scheduling strategy '{}', available strategies are {}, using '{}'",
+                    name,
+                    schedulingStrategies.keySet(),
+                    ProjectSchedulingStrategy.DEFAULT_SCHEDULING_STRATEGY);
+        }
+        ProjectSchedulingStrategy strategy =
+                schedulingStrategies.get(ProjectSchedulingStrategy.DEFAULT_SCHEDULING_STRATEGY);
+        return strategy != null ? strategy : new CriticalPathSchedulingStrategy();
+    }
+
+    /**
+     * Gets the phases after which downstream projects can be started, i.e. the pipeline phase and all the phases
+     * before it in its lifecycle.
+     *
+     * @return The phases, or {@code null} if downstream projects must wait for their upstream projects to finish.
+     */
+    private Collection<String> getPipelinePhases(MavenSession session) {
+        String phase = session.getUserProperties().getProperty(PIPELINE_PHASE);
+        if (phase == null || phase.isEmpty()) {
+            return null;
+        }
+        Lifecycle lifecycle = defaultLifecycles.get(phase);
+        if (lifecycle == null) {
+            logger.warn("Unknown pipeline phase '{}', downstream projects will wait for upstream projects", phase);
+            return null;
+        }
+        List<String> phases = lifecycle.getPhases();
+        return new HashSet<>(phases.subList(0, phases.indexOf(phase) + 1));
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
     private void multiThreadedProjectTaskSegmentBuild(
             ConcurrencyDependencyGraph analyzer,
             ReactorContext reactorContext,
             MavenSession rootSession,
             CompletionService<ProjectSegment> service,
+            int nThreads,
+            ReadyProjects readyProjects,
+            Pipeline pipeline,
             TaskSegment taskSegment,
             Map<MavenProject, ProjectSegment> projectBuildList,
             ThreadOutputMuxer muxer) {
@@ -135,39 +269,60 @@ private void multiThreadedProjectTaskSegmentBuild(
                 .map(Map.Entry::getKey)
                 .collect(Collectors.toSet());
 
+        // Only hand as many projects to the executor as it has threads, so that the projects which are ready to be
+        // built wait in the priority queue rather than in the FIFO queue of the executor
+        int running = 0;
+
         // schedule independent projects
-        for (MavenProject mavenProject : analyzer.getRootSchedulableBuilds()) {
-            ProjectSegment projectSegment = projectBuildList.get(mavenProject);
-            logger.debug("Scheduling: {}", projectSegment.getProject());
-            Callable<ProjectSegment> cb = createBuildCallable(
-                    rootSession, projectSegment, reactorContext, taskSegment, muxer, duplicateArtifactIds);
-            service.submit(cb);
-        }
+        readyProjects.addAll(analyzer.getRootSchedulableBuilds());
+        running += submitReadyProjects(
+                analyzer,
+                readyProjects,
+                nThreads - running,
+                rootSession,
+                service,
+                pipeline,
+                reactorContext,
+                taskSegment,
+                projectBuildList,
+                muxer,
+                duplicateArtifactIds);
 
-        // for each finished project
-        for (int i = 0; i < analyzer.getNumberOfBuilds(); i++) {
+        // for each finished or pipelined project
+        int finished = 0;
+        while (finished < analyzer.getNumberOfBuilds()) {
             try {
-                ProjectSegment projectBuild = service.take().get();
+                Future<ProjectSegment> future = service.take();
+                MavenProject project;
+                if (future == Pipeline.NOTIFICATION) {
+                    project = pipeline.pipelinedProjects.poll();
+                } else {
+                    project = future.get().getProject();
+                    finished++;
+                    running--;
+                }
                 if (reactorContext.getReactorBuildStatus().isHalted()) {
                     break;
                 }
 
                 // MNG-6170: Only schedule other modules from reactor if we have more modules to build than one.
                 if (analyzer.getNumberOfBuilds() > 1) {
-                    final List<MavenProject> newItemsThatCanBeBuilt =
-                            analyzer.markAsFinished(projectBuild.getProject());
-                    for (MavenProject mavenProject : newItemsThatCanBeBuilt) {
-                        ProjectSegment scheduledDependent = projectBuildList.get(mavenProject);
-                        logger.debug("Scheduling: {}", scheduledDependent);
-                        Callable<ProjectSegment> cb = createBuildCallable(
-                                rootSession,
-                                scheduledDependent,
-                                reactorContext,
-                                taskSegment,
-                                muxer,
-                                duplicateArtifactIds);
-                        service.submit(cb);
-                    }
+                    readyProjects.addAll(
+                            future == Pipeline.NOTIFICATION
+                                    ? analyzer.markAsPipelined(project, MultiThreadedBuilder::isPipelined)
+                                    : analyzer.markAsFinished(project));
+                    running += submitReadyProjects(
+                            analyzer,
+                            readyProjects,
+                            nThreads - running,
+                            rootSession,
+                            service,
+                            pipeline,
+                            reactorContext,
+                            taskSegment,
+                            projectBuildList,
+                            muxer,
+                            duplicateArtifactIds);
                 }
             } catch (InterruptedException e) {
                 rootSession.getResult().addException(e);
@@ -180,11 +335,47 @@ private void multiThreadedProjectTaskSegmentBuild(
         }
     }
 
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private int submitReadyProjects(
+            ConcurrencyDependencyGraph analyzer,
+            ReadyProjects readyProjects,
+            int available,
+            MavenSession rootSession,
+            CompletionService<ProjectSegment> service,
+            Pipeline pipeline,
+            ReactorContext reactorContext,
+            TaskSegment taskSegment,
+            Map<MavenProject, ProjectSegment> projectBuildList,
+            ThreadOutputMuxer muxer,
+            Set<String> duplicateArtifactIds) {
+        int submitted = 0;
+        while (submitted < available && !readyProjects.isEmpty()) {
+            ProjectSegment projectSegment = projectBuildList.get(readyProjects.poll());
+            logger.debug("Scheduling: {}", projectSegment.getProject());
+            List<MavenProject> pipelinedUpstreamProjects =
+                    analyzer.getPipelinedDependencies(projectSegment.getProject());
+            Callable<ProjectSegment> cb = createBuildCallable(
+                    rootSession,
+                    projectSegment,
+                    reactorContext,
+                    taskSegment,
+                    pipeline,
+                    pipelinedUpstreamProjects,
+                    muxer,
+                    duplicateArtifactIds);
+            service.submit(cb);
+            submitted++;
+        }
+        return submitted;
+    }
+
     private Callable<ProjectSegment> createBuildCallable(
             final MavenSession rootSession,
             final ProjectSegment projectBuild,
             final ReactorContext reactorContext,
             final TaskSegment taskSegment,
+            final Pipeline pipeline,
+            final List<MavenProject> pipelinedUpstreamProjects,
             final ThreadOutputMuxer muxer,
             final Set<String> duplicateArtifactIds) {
         return () -> {
@@ -199,14 +390,122 @@ private Callable<ProjectSegment> createBuildCallable(
 
             try {
                 // muxer.associateThreadWithProjectSegment( projectBuild );
-                lifecycleModuleBuilder.buildProject(
-                        projectBuild.getSession(), rootSession, reactorContext, project, taskSegment);
+                if (pipeline.phases != null && isPipelined(project)) {
+                    lifecycleModuleBuilder.buildProject(
+                            projectBuild.getSession(),
+                            rootSession,
+                            reactorContext,
+                            project,
+                            taskSegment,
+                            pipeline.phases,
+                            () -> pipeline.notifyPipelined(project),
+                            pipelinedUpstreamProjects.isEmpty()
+                                    ? null
+                                    : () -> pipeline.awaitFinished(pipelinedUpstreamProjects));
+                } else {
+                    lifecycleModuleBuilder.buildProject(
+                            projectBuild.getSession(), rootSession, reactorContext, project, taskSegment);
+                }
                 // muxer.setThisModuleComplete( projectBuild );
 
                 return projectBuild;
             } finally {
+                pipeline.notifyFinished(project);
                 currentThread.setName(originalThreadName);
             }
         };
     }
+
+    private static boolean isPipelined(MavenProject project) {
+        return PIPELINED_PACKAGING.equals(project.getPackaging());
+    }
+
+    /**
+     * Notifies the thread scheduling the projects of the projects whose outputs are available to downstream projects
+     * before their build is finished. Notifications are posted to the completion queue of the executor, so that the
+     * scheduling thread waits for both finished and pipelined projects at once.
+     * <p>
+     * Downstream projects started before their upstream projects are finished wait for them before going past the
+     * pipeline phase, so that they are skipped like any other downstream project if an upstream project fails.
+     */
+    static class Pipeline {
+        static final Future<ProjectSegment> NOTIFICATION = CompletableFuture.completedFuture(null);
+
+        private final Collection<String> phases;
+
+        private final BlockingQueue<Future<ProjectSegment>> completionQueue;
+
+        private final Queue<MavenProject> pipelinedProjects = new ConcurrentLinkedQueue<>();
+
+        private final Map<MavenProject, CountDownLatch> finishedLatches = new ConcurrentHashMap<>();
+
+        Pipeline(Collection<String> phases, BlockingQueue<Future<ProjectSegment>> completionQueue) {
+            this.phases = phases;
+            this.completionQueue = completionQueue;
+        }
+
+        void notifyPipelined(MavenProject project) {
+            pipelinedProjects.add(project);
+            completionQueue.add(NOTIFICATION);
+        }
+
+        void notifyFinished(MavenProject project) {
+            getFinishedLatch(project).countDown();
+        }
+
+        void awaitFinished(List<MavenProject> projects) {
+            try {
+                for (MavenProject project : projects) {
+                    getFinishedLatch(project).await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for upstream projects", e);
+            }
+        }
+
+        private CountDownLatch getFinishedLatch(MavenProject project) {
+            return finishedLatches.computeIfAbsent(project, p -> new CountDownLatch(1));
+        }
+    }
+
+    /**
+     * The projects which are ready to be built, ordered by a scheduling strategy and then by the order in which they
+     * became ready.
+     */
+    static class ReadyProjects {
+        private final Queue<Entry> queue;
+
+        private long sequence;
+
+        ReadyProjects(Comparator<MavenProject> comparator) {
+            Comparator<Entry> byProject = Comparator.comparing(e -> e.project, comparator);
+            this.queue = new PriorityQueue<>(byProject.thenComparingLong(e -> e.sequence));
+        }
+
+        void addAll(List<MavenProject> projects) {
+            for (MavenProject project : projects) {
+                queue.add(new Entry(project, sequence++));
+            }
+        }
+
+        boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        MavenProject poll() {
+            return queue.poll().project;
+        }
+
+        private static class Entry {
+            final MavenProject project;
+
+            final long sequence;
+
+            Entry(MavenProject project, long sequence) {
+                this.project = project;
+                this.sequence = sequence;
+            }
+        }
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.util.Comparator;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Decides in which order the {@link MultiThreadedBuilder} starts projects whose upstream projects have all been
+ * built. Implementations are looked up by name using the {@value #SCHEDULING_STRATEGY} user property.
+ * <p>
+ * <strong>NOTE:</strong> This interface is not part of any public api and can be changed or deleted without prior
+ * notice.
+ *
+ * @since 4.0.0
+ */
+public interface ProjectSchedulingStrategy {
+
+    /**
+     * The user property used to select the scheduling strategy.
+     */
+    String SCHEDULING_STRATEGY = "maven.builder.scheduling";
+
+    /**
+     * The name of the strategy used when none is requested.
+     */
+    String DEFAULT_SCHEDULING_STRATEGY = CriticalPathSchedulingStrategy.NAME;
+
+    /**
+     * Creates the comparator used to order the projects of a task segment that are ready to be built. Projects that
+     * compare lower are started first, projects that compare equal are started in the order they became ready.
+     *
+     * @param session The current session, never {@code null}.
+     * @param projectBuilds The projects of the task segment being built, never {@code null}.
+     * @return The comparator, never {@code null}.
+     */
+    Comparator<MavenProject> getComparator(MavenSession session, ProjectBuildList projectBuilds);
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.plugin;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
@@ -29,6 +30,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.classrealm.RealmReusePolicy;
 import org.apache.maven.project.ExtensionDescriptor;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
@@ -36,7 +38,8 @@
 import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
 
 /**
- * Default extension realm cache implementation. Assumes cached data does not change.
+ * Default extension realm cache implementation. Assumes cached data does not change, unless told otherwise by the
+ * {@link RealmReusePolicy}.
  */
 @Named
 @Singleton
@@ -105,13 +108,29 @@ public String toString() {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    private final RealmReusePolicy.Tracker<Key> tracker;
+
+    public DefaultExtensionRealmCache() {
+        this(new RealmReusePolicy());
+    }
+
+    @Inject
+    public DefaultExtensionRealmCache(RealmReusePolicy reusePolicy) {
+        this.tracker = reusePolicy.newTracker(key -> evict(key, cache.get(key)));
+    }
+
     @Override
     public Key createKey(List<Artifact> extensionArtifacts) {
         return new CacheKey(extensionArtifacts);
     }
 
     public CacheRecord get(Key key) {
-        return cache.get(key);
+        CacheRecord record = cache.get(key);
+        if (record != null && !tracker.isReusable(key)) {
+            evict(key, record);
+            return null;
+        }
+        return record;
     }
 
     public CacheRecord put(
@@ -130,19 +149,41 @@ public CacheRecord put(
     }
 
     public void flush() {
+        for (Key key : cache.keySet()) {
+            tracker.removed(key);
+        }
         for (CacheRecord record : cache.values()) {
-            ClassRealm realm = record.getRealm();
-            try {
-                realm.getWorld().disposeRealm(realm.getId());
-            } catch (NoSuchRealmException e) {
-                // ignore
-            }
+            dispose(record);
         }
         cache.clear();
     }
 
+    private void evict(Key key, CacheRecord record) {
+        if (record != null && cache.remove(key, record)) {
+            tracker.removed(key);
+            dispose(record);
+        }
+    }
+
+    private static void dispose(CacheRecord record) {
+        ClassRealm realm = record.getRealm();
+        try {
+            realm.getWorld().disposeRealm(realm.getId());
+        } catch (NoSuchRealmException e) {
+            // ignore
+        }
+    }
+
     public void register(MavenProject project, Key key, CacheRecord record) {
-        // default cache does not track extension usage
+        if (tracker.isEnabled()) {
+            List<File> files = new ArrayList<>(record.getArtifacts().size());
+            for (Artifact artifact : record.getArtifacts()) {
+                if (artifact.getFile() != null) {
+                    files.add(artifact.getFile());
+                }
+            }
+            tracker.used(key, files);
+        }
     }
 
     public void dispose() {
@@ -18,9 +18,12 @@
  */
 package org.apache.maven.plugin;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -30,6 +33,7 @@
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.classrealm.RealmReusePolicy;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
@@ -42,7 +46,12 @@
 import org.eclipse.aether.repository.WorkspaceRepository;
 
 /**
- * Default PluginCache implementation. Assumes cached data does not change.
+ * Default PluginCache implementation. Assumes cached data does not change, unless told otherwise by the
+ * {@link RealmReusePolicy}.
+ * <p>
+ * The key of a realm includes the workspace of the build, as the realm may have been resolved from its reactor. When
+ * realms are reused across builds, the records whose artifacts all come from the local repository are moved under a
+ * key without workspace once registered, so that the following builds, whose workspaces differ, find them.
  */
 @Named
 @Singleton
@@ -89,16 +98,41 @@ public CacheKey(
             this.parentRealm = parentRealm;
             this.foreignImports = (foreignImports != null) ? foreignImports : Collections.emptyMap();
             this.filter = dependencyFilter;
+            this.hashCode = computeHashCode();
+        }
+
+        /**
+         * Creates the key of the given key without workspace.
+         */
+        private CacheKey(CacheKey key) {
+            this.plugin = key.plugin;
+            this.workspace = null;
+            this.localRepo = key.localRepo;
+            this.repositories = key.repositories;
+            this.parentRealm = key.parentRealm;
+            this.foreignImports = key.foreignImports;
+            this.filter = key.filter;
+            this.hashCode = computeHashCode();
+        }
 
+        private int computeHashCode() {
             int hash = 17;
             hash = hash * 31 + CacheUtils.pluginHashCode(plugin);
             hash = hash * 31 + Objects.hashCode(workspace);
             hash = hash * 31 + Objects.hashCode(localRepo);
             hash = hash * 31 + RepositoryUtils.repositoriesHashCode(repositories);
             hash = hash * 31 + Objects.hashCode(parentRealm);
-            hash = hash * 31 + this.foreignImports.hashCode();
-            hash = hash * 31 + Objects.hashCode(dependencyFilter);
-            this.hashCode = hash;
+            hash = hash * 31 + foreignImports.hashCode();
+            hash = hash * 31 + Objects.hashCode(filter);
+            return hash;
+        }
+
+        /**
+         * Gets the key of the records shared by the builds of all workspaces, or {@code null} if this key has no
+         * workspace.
+         */
+        CacheKey withoutWorkspace() {
+            return workspace != null ? new CacheKey(this) : null;
         }
 
         @Override
@@ -135,6 +169,17 @@ public boolean equals(Object o) {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    private final RealmReusePolicy.Tracker<Key> tracker;
+
+    public DefaultPluginRealmCache() {
+        this(new RealmReusePolicy());
+    }
+
+    @Inject
+    public DefaultPluginRealmCache(RealmReusePolicy reusePolicy) {
+        this.tracker = reusePolicy.newTracker(key -> evict(key, cache.get(key)));
+    }
+
     public Key createKey(
             Plugin plugin,
             ClassLoader parentRealm,
@@ -146,12 +191,28 @@ public Key createKey(
     }
 
     public CacheRecord get(Key key) {
-        return cache.get(key);
+        CacheRecord record = cache.get(key);
+        if (record != null && !tracker.isReusable(key)) {
+            evict(key, record);
+            return null;
+        }
+        return record;
     }
 
     @Override
     public CacheRecord get(Key key, PluginRealmSupplier supplier)
             throws PluginResolutionException, PluginContainerException {
+        Key sharedKey = getSharedKey(key);
+        if (sharedKey != null) {
+            CacheRecord shared = get(sharedKey);
+            if (shared != null) {
+                return shared;
+            }
+        }
+        CacheRecord record = cache.get(key);
+        if (record != null && !tracker.isReusable(key)) {
+            evict(key, record);
+        }
         try {
             return cache.computeIfAbsent(key, k -> {
                 try {
@@ -187,17 +248,31 @@ public CacheRecord put(Key key, ClassRealm pluginRealm, List<Artifact> pluginArt
     }
 
     public void flush() {
+        for (Key key : cache.keySet()) {
+            tracker.removed(key);
+        }
         for (CacheRecord record : cache.values()) {
-            ClassRealm realm = record.getRealm();
-            try {
-                realm.getWorld().disposeRealm(realm.getId());
-            } catch (NoSuchRealmException e) {
-                // ignore
-            }
+            dispose(record);
         }
         cache.clear();
     }
 
+    private void evict(Key key, CacheRecord record) {
+        if (record != null && cache.remove(key, record)) {
+            tracker.removed(key);
+            dispose(record);
+        }
+    }
+
+    private static void dispose(CacheRecord record) {
+        ClassRealm realm = record.getRealm();
+        try {
+            realm.getWorld().disposeRealm(realm.getId());
+        } catch (NoSuchRealmException e) {
+            // ignore
+        }
+    }
+
     protected static int pluginHashCode(Plugin plugin) {
         return CacheUtils.pluginHashCode(plugin);
     }
@@ -207,7 +282,45 @@ protected static boolean pluginEquals(Plugin a, Plugin b) {
     }
 
     public void register(MavenProject project, Key key, CacheRecord record) {
-        // default cache does not track plugin usage
+        if (tracker.isEnabled()) {
+            List<File> files = getReusableFiles(key, record);
+            Key sharedKey = getSharedKey(key);
+            if (files != null && sharedKey != null) {
+                // move the record under the key of all the workspaces, unless another build did it for its own record
+                if (cache.get(sharedKey) == record || cache.putIfAbsent(sharedKey, record) == null) {
+                    cache.remove(key, record);
+                    tracker.used(sharedKey, files);
+                    return;
+                }
+                files = null;
+            }
+            // the record may have been resolved from the reactor, it is only used by the build of its workspace
+            tracker.used(key, files);
+        }
+    }
+
+    private Key getSharedKey(Key key) {
+        return tracker.isEnabled() && key instanceof CacheKey ? ((CacheKey) key).withoutWorkspace() : null;
+    }
+
+    /**
+     * Returns the files of the plugin artifacts, or {@code null} if some were not resolved from the local repository.
+     */
+    private static List<File> getReusableFiles(Key key, CacheRecord record) {
+        LocalRepository localRepo = (key instanceof CacheKey) ? ((CacheKey) key).localRepo : null;
+        if (localRepo == null) {
+            return null;
+        }
+        Path basedir = localRepo.getBasedir().toPath().toAbsolutePath();
+        List<File> files = new ArrayList<>(record.getArtifacts().size());
+        for (Artifact artifact : record.getArtifacts()) {
+            File file = artifact.getFile();
+            if (file == null || !file.toPath().toAbsolutePath().startsWith(basedir)) {
+                return null;
+            }
+            files.add(file);
+        }
+        return files;
     }
 
     public void dispose() {
@@ -44,6 +44,7 @@
 import org.apache.maven.api.xml.XmlNode;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.classrealm.ClassRealmManager;
+import org.apache.maven.configuration.internal.CachingComponentConfigurator;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.execution.scope.internal.MojoExecutionScopeModule;
 import org.apache.maven.internal.impl.DefaultMojoExecution;
@@ -188,7 +189,7 @@ public PluginDescriptor getPluginDescriptor(
 
             Artifact pluginArtifact = RepositoryUtils.toArtifact(artifact);
 
-            PluginDescriptor descriptor = extractPluginDescriptor(pluginArtifact, plugin);
+            PluginDescriptor descriptor = extractPluginDescriptor(pluginArtifact, plugin, session);
 
             boolean isBlankVersion = descriptor.getRequiredMavenVersion() == null
                     || descriptor.getRequiredMavenVersion().trim().isEmpty();
@@ -206,14 +207,23 @@ public PluginDescriptor getPluginDescriptor(
         return pluginDescriptor;
     }
 
-    private PluginDescriptor extractPluginDescriptor(Artifact pluginArtifact, Plugin plugin)
+    private PluginDescriptor extractPluginDescriptor(
+            Artifact pluginArtifact, Plugin plugin, RepositorySystemSession session)
             throws PluginDescriptorParsingException, InvalidPluginDescriptorException {
         PluginDescriptor pluginDescriptor = null;
 
         File pluginFile = pluginArtifact.getFile();
 
+        PersistentPluginDescriptorCache persistentCache = PersistentPluginDescriptorCache.newInstance(session);
+
         try {
-            if (pluginFile.isFile()) {
+            if (persistentCache != null && persistentCache.accepts(pluginFile.toPath())) {
+                try {
+                    pluginDescriptor = persistentCache.get(pluginFile.toPath(), getPluginDescriptorLocation(), builder);
+                } catch (PlexusConfigurationException e) {
+                    throw new PluginDescriptorParsingException(plugin, pluginFile.getAbsolutePath(), e);
+                }
+            } else if (pluginFile.isFile()) {
                 try (JarFile pluginJar = new JarFile(pluginFile, false)) {
                     ZipEntry pluginDescriptorEntry = pluginJar.getEntry(getPluginDescriptorLocation());
 
@@ -656,7 +666,10 @@ private void populateMojoExecutionFields(
         try {
             // TODO could the configuration be passed to lookup and the configurator known to plexus via the descriptor
             // so that this method could entirely be handled by a plexus lookup?
-            configurator = container.lookup(ComponentConfigurator.class, configuratorId);
+            // the basic configuration is bound by a configurator resolving the parameters of each mojo class only once
+            configurator = container.lookup(
+                    ComponentConfigurator.class,
+                    "basic".equals(configuratorId) ? CachingComponentConfigurator.NAME : configuratorId);
 
             ConfigurationListener listener = new DebugConfigurationListener(logger);
 
@@ -855,7 +868,7 @@ public ExtensionRealmCache.CacheRecord setupExtensionsRealm(
                 // ignore plugin descriptor parsing errors at this point
                 // these errors will reported during calculation of project build execution plan
                 try {
-                    pluginDescriptor = extractPluginDescriptor(artifacts.get(0), plugin);
+                    pluginDescriptor = extractPluginDescriptor(artifacts.get(0), plugin, session);
                 } catch (PluginDescriptorParsingException | InvalidPluginDescriptorException e) {
                     // ignore, see above
                 }
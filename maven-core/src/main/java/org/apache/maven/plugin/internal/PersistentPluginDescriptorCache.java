@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptorBuilder;
+import org.apache.maven.repository.internal.AbstractPersistentCache;
+import org.codehaus.plexus.configuration.PlexusConfigurationException;
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * An on-disk index of the plugin descriptors found in the plugin JARs of the local repository, used by
+ * {@link DefaultMavenPluginManager} to avoid inflating and parsing the same {@code plugin.xml} in every invocation.
+ * Each entry mirrors the path of its JAR below the local repository and holds the descriptor document as parsed by
+ * {@link PluginDescriptorBuilder#parse(PluginDescriptorBuilder.StreamSupplier, java.io.OutputStream)}, along with the
+ * size and last modification time of the JAR and the checksum of the descriptor within it, so that an entry is only
+ * reused while the descriptor is unchanged. The descriptor is still built from the document by the builder, so that it
+ * is the same as the one read from the JAR.
+ *
+ * @since 4.0.0
+ */
+final class PersistentPluginDescriptorCache extends AbstractPersistentCache<byte[]> {
+
+    /**
+     * The key in the repository session's configuration to enable the persistent plugin descriptor cache.
+     */
+    static final String PERSISTENT_PLUGIN_DESCRIPTOR_CACHE = "maven.pluginDescriptorCache.persistent";
+
+    /**
+     * The directory, relative to the local repository, holding the cache entries.
+     */
+    static final String CACHE_DIRECTORY = ".cache/maven-plugin-descriptors";
+
+    private static final int MAGIC = 0x4d504431;
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    static PersistentPluginDescriptorCache newInstance(RepositorySystemSession session) {
+        Path basedir = getLocalRepository(session, PERSISTENT_PLUGIN_DESCRIPTOR_CACHE);
+        return basedir != null ? new PersistentPluginDescriptorCache(basedir, basedir.resolve(CACHE_DIRECTORY)) : null;
+    }
+
+    PersistentPluginDescriptorCache(Path localRepository, Path directory) {
+        super(localRepository, directory, MAGIC, FORMAT_VERSION);
+    }
+
+    /**
+     * Tells whether the descriptor of the given plugin file can be persisted, i.e. whether it is a JAR living in the
+     * local repository. Plugins from the reactor are left alone as they change frequently.
+     */
+    boolean accepts(Path pluginFile) {
+        return Files.isRegularFile(pluginFile) && isInLocalRepository(pluginFile);
+    }
+
+    /**
+     * Gets the descriptor found at the given location within the plugin JAR, reading it from the index when possible
+     * and from the JAR otherwise, in which case the index is updated.
+     *
+     * @param pluginFile the plugin JAR, must be {@link #accepts(Path) accepted}
+     * @param location the location of the descriptor within the JAR
+     * @param builder the builder used to parse the descriptor and to build it from its document
+     * @return the descriptor or {@code null} if the JAR has no descriptor at the given location
+     * @throws IOException if the JAR cannot be read
+     * @throws PlexusConfigurationException if the descriptor cannot be parsed
+     */
+    PluginDescriptor get(Path pluginFile, String location, PluginDescriptorBuilder builder)
+            throws IOException, PlexusConfigurationException {
+        Path jar = normalize(pluginFile);
+        String source = pluginFile.toAbsolutePath().toString();
+        Stamp stamp = Stamp.of(jar);
+
+        byte[] document = read(jar, stamp, () -> checksum(jar, location));
+        if (document != null) {
+            try {
+                return builder.buildParsed(new ByteArrayInputStream(document), source);
+            } catch (IOException e) {
+                // a corrupt entry, which is replaced below
+            }
+        }
+
+        long checksum;
+        try (JarFile jarFile = new JarFile(jar.toFile(), false)) {
+            ZipEntry zipEntry = jarFile.getEntry(location);
+            if (zipEntry == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+            builder.parse(() -> jarFile.getInputStream(zipEntry), out);
+            document = out.toByteArray();
+            checksum = zipEntry.getCrc();
+        }
+        write(jar, stamp, checksum, document);
+        return builder.buildParsed(new ByteArrayInputStream(document), source);
+    }
+
+    @Override
+    protected byte[] readData(DataInputStream in) throws IOException {
+        byte[] document = new byte[in.readInt()];
+        in.readFully(document);
+        return document;
+    }
+
+    @Override
+    protected void writeData(DataOutputStream out, byte[] document) throws IOException {
+        out.writeInt(document.length);
+        out.write(document);
+    }
+
+    /**
+     * Gets the checksum of the descriptor as recorded in the central directory of the JAR, which is much cheaper than
+     * inflating it. This allows reusing entries for JARs that were touched but not changed.
+     */
+    private static long checksum(Path jar, String location) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile(), false)) {
+            ZipEntry zipEntry = jarFile.getEntry(location);
+            return zipEntry != null ? zipEntry.getCrc() : -1;
+        }
+    }
+}
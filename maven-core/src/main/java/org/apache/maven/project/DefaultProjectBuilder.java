@@ -24,6 +24,11 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
@@ -39,6 +44,7 @@
 import org.apache.maven.artifact.InvalidRepositoryException;
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.bridge.MavenRepositorySystem;
+import org.apache.maven.internal.VirtualThreads;
 import org.apache.maven.internal.impl.InternalSession;
 import org.apache.maven.model.Build;
 import org.apache.maven.model.Dependency;
@@ -89,6 +95,7 @@
 public class DefaultProjectBuilder implements ProjectBuilder {
     public static final String BUILDER_PARALLELISM = "maven.projectBuilder.parallelism";
     public static final int DEFAULT_BUILDER_PARALLELISM = 4;
+    public static final String BUILDER_PRELOAD = "maven.projectBuilder.preload";
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final ModelBuilder modelBuilder;
@@ -243,9 +250,23 @@ private int getParallelism(ProjectBuildingRequest request) {
             } catch (Exception e) {
                 // ignore
             }
+            if (VirtualThreads.isRequested(request.getUserProperties(), request.getSystemProperties())
+                    && VirtualThreads.isAvailable()) {
+                // the fork/join tasks rely on work stealing and cannot run on virtual threads, but as they mostly
+                // block on I/O when resolving parents and imports, do not cap them to the number of cores either
+                return Math.max(1, parallelism);
+            }
             return Math.max(1, Math.min(parallelism, Runtime.getRuntime().availableProcessors()));
         }
 
+        private boolean isPreload(ProjectBuildingRequest request) {
+            String str = request.getUserProperties().getProperty(BUILDER_PRELOAD);
+            if (str == null) {
+                str = request.getSystemProperties().getProperty(BUILDER_PRELOAD);
+            }
+            return Boolean.parseBoolean(str);
+        }
+
         ProjectBuildingResult build(File pomFile, ModelSource modelSource) throws ProjectBuildingException {
             ClassLoader oldContextClassLoader = Thread.currentThread().getContextClassLoader();
 
@@ -389,6 +410,10 @@ List<ProjectBuildingResult> build(List<File> pomFiles, boolean recursive) throws
         List<ProjectBuildingResult> doBuild(List<File> pomFiles, boolean recursive) {
             Map<File, MavenProject> projectIndex = new ConcurrentHashMap<>(256);
 
+            if (recursive && isPreload(request)) {
+                preloadFileModels(pomFiles);
+            }
+
             // phase 1: get file Models from the reactor.
             List<InterimResult> interimResults = build(projectIndex, pomFiles, new LinkedHashSet<>(), true, recursive);
 
@@ -410,6 +435,82 @@ List<ProjectBuildingResult> doBuild(List<File> pomFiles, boolean recursive) {
             }
         }
 
+        /**
+         * Reads in parallel the file models of the given POMs, of the POMs found below their directories and of the
+         * POMs of their parent directories up to the root directory. Module discovery then mostly finds the file
+         * models in the model cache instead of reading the POMs one level of modules at a time. POMs which are not
+         * part of the reactor or cannot be read without problems are simply read again when needed.
+         * <p>
+         * As this walks the whole tree below the requested POMs, whatever the modules actually declared, it is only
+         * done when requested with {@code -Dmaven.projectBuilder.preload=true}.
+         */
+        private void preloadFileModels(List<File> pomFiles) {
+            Set<File> candidates = new LinkedHashSet<>(pomFiles);
+            for (File pomFile : pomFiles) {
+                Path basedir = pomFile.getAbsoluteFile().getParentFile().toPath();
+                findPoms(basedir, candidates);
+                Path rootDirectory = rootLocator.findRoot(basedir);
+                if (rootDirectory != null) {
+                    for (Path dir = basedir.getParent(); dir != null && dir.startsWith(rootDirectory); ) {
+                        Path pom = dir.resolve("pom.xml");
+                        if (Files.isRegularFile(pom)) {
+                            candidates.add(normalize(pom.toFile()));
+                        }
+                        dir = dir.getParent();
+                    }
+                }
+            }
+
+            List<ForkJoinTask<Boolean>> tasks = candidates.stream()
+                    .map(pomFile -> ForkJoinTask.adapt(() -> preloadFileModel(pomFile)))
+                    .collect(Collectors.toList());
+            ForkJoinTask.invokeAll(tasks);
+        }
+
+        private boolean preloadFileModel(File pomFile) {
+            try {
+                return modelBuilder.preloadFileModel(
+                        getModelBuildingRequest().setPomFile(pomFile).setLocationTracking(true));
+            } catch (RuntimeException e) {
+                // the POM will be read again, and the problem reported, by the build itself
+                logger.debug("Unable to preload " + pomFile, e);
+                return false;
+            }
+        }
+
+        private void findPoms(Path basedir, Set<File> poms) {
+            try {
+                Files.walkFileTree(basedir, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        if (!dir.equals(basedir)) {
+                            String name = String.valueOf(dir.getFileName());
+                            // modules never live in hidden, output or source directories
+                            if (name.startsWith(".") || name.equals("target") || name.equals("src")) {
+                                return FileVisitResult.SKIP_SUBTREE;
+                            }
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (attrs.isRegularFile() && "pom.xml".equals(String.valueOf(file.getFileName()))) {
+                            poms.add(normalize(file.toFile()));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                logger.debug("Unable to look for POMs in " + basedir, e);
+            }
+        }
+
         @SuppressWarnings("checkstyle:parameternumber")
         private List<InterimResult> build(
                 Map<File, MavenProject> projectIndex,
@@ -501,16 +602,7 @@ private InterimResult build(
                         continue;
                     }
 
-                    if (Os.IS_WINDOWS) {
-                        // we don't canonicalize on unix to avoid interfering with symlinks
-                        try {
-                            moduleFile = moduleFile.getCanonicalFile();
-                        } catch (IOException e) {
-                            moduleFile = moduleFile.getAbsoluteFile();
-                        }
-                    } else {
-                        moduleFile = new File(moduleFile.toURI().normalize());
-                    }
+                    moduleFile = normalize(moduleFile);
 
                     if (aggregatorFiles.contains(moduleFile)) {
                         StringBuilder buffer = new StringBuilder(256);
@@ -545,6 +637,19 @@ private InterimResult build(
             return interimResult;
         }
 
+        private File normalize(File moduleFile) {
+            if (Os.IS_WINDOWS) {
+                // we don't canonicalize on unix to avoid interfering with symlinks
+                try {
+                    return moduleFile.getCanonicalFile();
+                } catch (IOException e) {
+                    return moduleFile.getAbsoluteFile();
+                }
+            } else {
+                return new File(moduleFile.toURI().normalize());
+            }
+        }
+
         private List<ProjectBuildingResult> build(
                 Map<File, MavenProject> projectIndex, List<InterimResult> interimResults) {
             // The transformation may need to access dependencies raw models,
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.project;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
@@ -27,13 +28,15 @@
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.maven.classrealm.RealmReusePolicy;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.codehaus.plexus.classworlds.realm.NoSuchRealmException;
 import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
 import org.eclipse.aether.graph.DependencyFilter;
 
 /**
- * Default project realm cache implementation. Assumes cached data does not change.
+ * Default project realm cache implementation. Assumes cached data does not change, unless told otherwise by the
+ * {@link RealmReusePolicy}.
  */
 @Named
 @Singleton
@@ -82,13 +85,29 @@ public String toString() {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    private final RealmReusePolicy.Tracker<Key> tracker;
+
+    public DefaultProjectRealmCache() {
+        this(new RealmReusePolicy());
+    }
+
+    @Inject
+    public DefaultProjectRealmCache(RealmReusePolicy reusePolicy) {
+        this.tracker = reusePolicy.newTracker(key -> evict(key, cache.get(key)));
+    }
+
     @Override
     public Key createKey(List<? extends ClassRealm> extensionRealms) {
         return new CacheKey(extensionRealms);
     }
 
     public CacheRecord get(Key key) {
-        return cache.get(key);
+        CacheRecord record = cache.get(key);
+        if (record != null && !tracker.isReusable(key)) {
+            evict(key, record);
+            return null;
+        }
+        return record;
     }
 
     public CacheRecord put(Key key, ClassRealm projectRealm, DependencyFilter extensionArtifactFilter) {
@@ -106,19 +125,34 @@ public CacheRecord put(Key key, ClassRealm projectRealm, DependencyFilter extens
     }
 
     public void flush() {
+        for (Key key : cache.keySet()) {
+            tracker.removed(key);
+        }
         for (CacheRecord record : cache.values()) {
-            ClassRealm realm = record.getRealm();
-            try {
-                realm.getWorld().disposeRealm(realm.getId());
-            } catch (NoSuchRealmException e) {
-                // ignore
-            }
+            dispose(record);
         }
         cache.clear();
     }
 
+    private void evict(Key key, CacheRecord record) {
+        if (record != null && cache.remove(key, record)) {
+            tracker.removed(key);
+            dispose(record);
+        }
+    }
+
+    private static void dispose(CacheRecord record) {
+        ClassRealm realm = record.getRealm();
+        try {
+            realm.getWorld().disposeRealm(realm.getId());
+        } catch (NoSuchRealmException e) {
+            // ignore
+        }
+    }
+
     public void register(MavenProject project, Key key, CacheRecord record) {
-        // default cache does not track record usage
+        // the files of a project realm are those of the extension realms it is keyed on
+        tracker.used(key, Collections.emptyList());
     }
 
     @Override
@@ -20,14 +20,22 @@
 
 import java.util.*;
 
+/**
+ * A directed graph whose vertices are numbered in insertion order, so that the depth-first searches can keep
+ * their state in arrays indexed by vertex instead of in maps.
+ */
 class Graph {
-    private enum DfsState {
-        VISITING,
-        VISITED
-    }
-
     final Map<String, Vertex> vertices = new LinkedHashMap<>();
 
+    /**
+     * The search state of each vertex: the vertex is being visited by the current search if its entry equals
+     * {@link #stamp}, and has been visited by it if its entry equals {@code -stamp}. A new search only needs to
+     * increment the stamp instead of clearing the array.
+     */
+    private int[] marks = new int[0];
+
+    private int stamp;
+
     public Vertex getVertex(String id) {
         return vertices.get(id);
     }
@@ -37,7 +45,7 @@ public Collection<Vertex> getVertices() {
     }
 
     Vertex addVertex(String label) {
-        return vertices.computeIfAbsent(label, Vertex::new);
+        return vertices.computeIfAbsent(label, l -> new Vertex(l, vertices.size()));
     }
 
     void addEdge(Vertex from, Vertex to) throws CycleDetectedException {
@@ -58,39 +66,51 @@ void removeEdge(Vertex from, Vertex to) {
     }
 
     List<String> visitAll() {
-        return visitAll(vertices.values(), new HashMap<>(), new ArrayList<>());
+        newSearch();
+        List<String> list = new ArrayList<>(vertices.size());
+        visitAll(vertices.values(), list);
+        return list;
     }
 
     List<String> findCycle(Vertex vertex) {
-        return visitCycle(Collections.singleton(vertex), new HashMap<>(), new LinkedList<>());
+        newSearch();
+        return visitCycle(Collections.singleton(vertex), new ArrayList<>());
     }
 
-    private static List<String> visitAll(
-            Collection<Vertex> children, Map<Vertex, DfsState> stateMap, List<String> list) {
+    private void newSearch() {
+        if (marks.length < vertices.size()) {
+            marks = Arrays.copyOf(marks, Math.max(vertices.size(), marks.length * 2));
+        }
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(marks, 0);
+            stamp = 1;
+        }
+    }
+
+    private void visitAll(Collection<Vertex> children, List<String> list) {
         for (Vertex v : children) {
-            DfsState state = stateMap.putIfAbsent(v, DfsState.VISITING);
-            if (state == null) {
-                visitAll(v.children, stateMap, list);
-                stateMap.put(v, DfsState.VISITED);
+            if (marks[v.index] != stamp && marks[v.index] != -stamp) {
+                marks[v.index] = stamp;
+                visitAll(v.children, list);
+                marks[v.index] = -stamp;
                 list.add(v.label);
             }
         }
-        return list;
     }
 
-    private static List<String> visitCycle(
-            Collection<Vertex> children, Map<Vertex, DfsState> stateMap, LinkedList<String> cycle) {
+    private List<String> visitCycle(Collection<Vertex> children, List<String> cycle) {
         for (Vertex v : children) {
-            DfsState state = stateMap.putIfAbsent(v, DfsState.VISITING);
-            if (state == null) {
-                cycle.addLast(v.label);
-                List<String> ret = visitCycle(v.children, stateMap, cycle);
+            int mark = marks[v.index];
+            if (mark != stamp && mark != -stamp) {
+                marks[v.index] = stamp;
+                cycle.add(v.label);
+                List<String> ret = visitCycle(v.children, cycle);
                 if (ret != null) {
                     return ret;
                 }
-                cycle.removeLast();
-                stateMap.put(v, DfsState.VISITED);
-            } else if (state == DfsState.VISITING) {
+                cycle.remove(cycle.size() - 1);
+                marks[v.index] = -stamp;
+            } else if (mark == stamp) {
                 // we are already visiting this vertex, this mean we have a cycle
                 int pos = cycle.lastIndexOf(v.label);
                 List<String> ret = cycle.subList(pos, cycle.size());
@@ -103,17 +123,23 @@ private static List<String> visitCycle(
 
     static class Vertex {
         final String label;
+        final int index;
         final List<Vertex> children = new ArrayList<>();
         final List<Vertex> parents = new ArrayList<>();
 
-        Vertex(String label) {
+        Vertex(String label, int index) {
             this.label = label;
+            this.index = index;
         }
 
         String getLabel() {
             return label;
         }
 
+        int getIndex() {
+            return index;
+        }
+
         List<Vertex> getChildren() {
             return children;
         }
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.project;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -95,103 +96,102 @@ public ProjectSorter(Collection<MavenProject> projects) throws CycleDetectedExce
             vertices.put(project.getVersion(), graph.addVertex(projectId));
         }
 
-        for (Vertex projectVertex : graph.getVertices()) {
-            String projectId = projectVertex.getLabel();
+        // resolving the edges of the projects is independent per project, adding them to the graph is not
+        List<Vertex> projectVertices = new ArrayList<>(graph.getVertices());
+        List<List<Edge>> projectEdges = projectVertices.parallelStream()
+                .map(projectVertex -> getEdges(vertexMap, projectMap.get(projectVertex.getLabel())))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < projectVertices.size(); i++) {
+            Vertex projectVertex = projectVertices.get(i);
+            MavenProject project = projectMap.get(projectVertex.getLabel());
+            for (Edge edge : projectEdges.get(i)) {
+                // only the parent edge is forced, and the parent is not a project reference
+                addEdge(projectVertex, edge.vertex, edge.force ? null : project, projectMap, edge.force, edge.safe);
+            }
+        }
 
-            MavenProject project = projectMap.get(projectId);
+        List<String> sortedProjectLabels = graph.visitAll();
 
-            for (Dependency dependency : project.getModel().getDelegate().getDependencies()) {
-                addEdge(
-                        projectMap,
-                        vertexMap,
-                        project,
-                        projectVertex,
-                        dependency.getGroupId(),
-                        dependency.getArtifactId(),
-                        dependency.getVersion(),
-                        false,
-                        false);
-            }
+        this.sortedProjects = sortedProjectLabels.stream()
+                .map(id -> projectMap.get(id))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+    }
 
-            Parent parent = project.getModel().getDelegate().getParent();
+    /**
+     * Collects the edges from the given project to the projects of the reactor, in the order they have to be added
+     * to the graph: dependencies, parent, then plugins with their dependencies and extensions.
+     */
+    private static List<Edge> getEdges(Map<String, Map<String, Vertex>> vertexMap, MavenProject project) {
+        List<Edge> edges = new ArrayList<>();
+
+        for (Dependency dependency : project.getModel().getDelegate().getDependencies()) {
+            addEdges(
+                    edges,
+                    vertexMap,
+                    dependency.getGroupId(),
+                    dependency.getArtifactId(),
+                    dependency.getVersion(),
+                    false,
+                    false);
+        }
 
-            if (parent != null) {
-                // Parent is added as an edge, but must not cause a cycle - so we remove any other edges it has
-                // in conflict
-                addEdge(
-                        projectMap,
-                        vertexMap,
-                        null,
-                        projectVertex,
-                        parent.getGroupId(),
-                        parent.getArtifactId(),
-                        parent.getVersion(),
-                        true,
-                        false);
-            }
+        Parent parent = project.getModel().getDelegate().getParent();
 
-            Build build = project.getModel().getDelegate().getBuild();
-            if (build != null) {
-                for (Plugin plugin : build.getPlugins()) {
-                    addEdge(
-                            projectMap,
-                            vertexMap,
-                            project,
-                            projectVertex,
-                            plugin.getGroupId(),
-                            plugin.getArtifactId(),
-                            plugin.getVersion(),
-                            false,
-                            true);
+        if (parent != null) {
+            // Parent is added as an edge, but must not cause a cycle - so we remove any other edges it has
+            // in conflict
+            addEdges(edges, vertexMap, parent.getGroupId(), parent.getArtifactId(), parent.getVersion(), true, false);
+        }
 
-                    for (Dependency dependency : plugin.getDependencies()) {
-                        addEdge(
-                                projectMap,
-                                vertexMap,
-                                project,
-                                projectVertex,
-                                dependency.getGroupId(),
-                                dependency.getArtifactId(),
-                                dependency.getVersion(),
-                                false,
-                                true);
-                    }
-                }
+        Build build = project.getModel().getDelegate().getBuild();
+        if (build != null) {
+            for (Plugin plugin : build.getPlugins()) {
+                addEdges(
+                        edges,
+                        vertexMap,
+                        plugin.getGroupId(),
+                        plugin.getArtifactId(),
+                        plugin.getVersion(),
+                        false,
+                        true);
 
-                for (Extension extension : build.getExtensions()) {
-                    addEdge(
-                            projectMap,
+                for (Dependency dependency : plugin.getDependencies()) {
+                    addEdges(
+                            edges,
                             vertexMap,
-                            project,
-                            projectVertex,
-                            extension.getGroupId(),
-                            extension.getArtifactId(),
-                            extension.getVersion(),
+                            dependency.getGroupId(),
+                            dependency.getArtifactId(),
+                            dependency.getVersion(),
                             false,
                             true);
                 }
             }
-        }
 
-        List<String> sortedProjectLabels = graph.visitAll();
+            for (Extension extension : build.getExtensions()) {
+                addEdges(
+                        edges,
+                        vertexMap,
+                        extension.getGroupId(),
+                        extension.getArtifactId(),
+                        extension.getVersion(),
+                        false,
+                        true);
+            }
+        }
 
-        this.sortedProjects = sortedProjectLabels.stream()
-                .map(id -> projectMap.get(id))
-                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        return edges;
     }
 
     @SuppressWarnings("checkstyle:parameternumber")
-    private void addEdge(
-            Map<String, MavenProject> projectMap,
+    private static void addEdges(
+            List<Edge> edges,
             Map<String, Map<String, Vertex>> vertexMap,
-            MavenProject project,
-            Vertex projectVertex,
             String groupId,
             String artifactId,
             String version,
             boolean force,
-            boolean safe)
-            throws CycleDetectedException {
+            boolean safe) {
         String projectKey = ArtifactUtils.versionlessKey(groupId, artifactId);
 
         Map<String, Vertex> vertices = vertexMap.get(projectKey);
@@ -200,11 +200,11 @@ private void addEdge(
             if (isSpecificVersion(version)) {
                 Vertex vertex = vertices.get(version);
                 if (vertex != null) {
-                    addEdge(projectVertex, vertex, project, projectMap, force, safe);
+                    edges.add(new Edge(vertex, force, safe));
                 }
             } else {
                 for (Vertex vertex : vertices.values()) {
-                    addEdge(projectVertex, vertex, project, projectMap, force, safe);
+                    edges.add(new Edge(vertex, force, safe));
                 }
             }
         }
@@ -240,7 +240,7 @@ private void addEdge(
         }
     }
 
-    private boolean isSpecificVersion(String version) {
+    private static boolean isSpecificVersion(String version) {
         return !((version == null || version.isEmpty()) || version.startsWith("[") || version.startsWith("("));
     }
 
@@ -276,4 +276,18 @@ public static String getId(MavenProject project) {
     public Map<String, MavenProject> getProjectMap() {
         return projectMap;
     }
+
+    private static final class Edge {
+        private final Vertex vertex;
+
+        private final boolean force;
+
+        private final boolean safe;
+
+        Edge(Vertex vertex, boolean force, boolean safe) {
+            this.vertex = vertex;
+            this.force = force;
+            this.safe = safe;
+        }
+    }
 }
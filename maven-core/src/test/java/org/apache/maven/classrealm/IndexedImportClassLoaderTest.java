@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexedImportClassLoaderTest {
+
+    private static final List<String> IMPORTS = Arrays.asList(
+            "org.apache.maven.*",
+            "org.apache.maven",
+            "org.apache.maven.api",
+            "org.apache.maven.wagon.*",
+            "org.codehaus.plexus.util.xml.Xpp3Dom",
+            "org.codehaus.plexus.*",
+            "org.slf4j.*",
+            ".*",
+            "META-INF/sisu");
+
+    private static final List<String> NAMES = Arrays.asList(
+            "org.apache.maven.Maven",
+            "org.apache.maven.api.Session",
+            "org.apache.maven.api.services.Lookup",
+            "org.apache.maven.apiary.Bee",
+            "org.apache.maven.wagon.Wagon",
+            "org.apache.maven.wagon.events.TransferEvent",
+            "org.codehaus.plexus.PlexusContainer",
+            "org.codehaus.plexus.util.xml.Xpp3Dom",
+            "org.codehaus.plexus.util.xml.Xpp3Dom$Inner",
+            "org.codehaus.plexus.util.xml.Xpp3DomBuilder",
+            "org.codehaus.plexus.util.StringUtils",
+            "org.slf4j.Logger",
+            "org.slf4j.spi.LocationAwareLogger",
+            "com.example.Foo",
+            "Foo",
+            "org/apache/maven/Maven.class",
+            "org/apache/maven/api/Session.class",
+            "org/apache/maven/api/services/Lookup.class",
+            "org/apache/maven/wagon/Wagon.class",
+            "org/codehaus/plexus/util/xml/Xpp3Dom.class",
+            "org/codehaus/plexus/util/xml/Xpp3Dom$Inner.class",
+            "org/codehaus/plexus/util/xml/Xpp3DomBuilder.class",
+            "org/slf4j/impl/StaticLoggerBinder.class",
+            "org/apache/maven/messages/build.properties",
+            "META-INF/sisu/javax.inject.Named",
+            "META-INF/maven/extension.xml",
+            "com/example/foo.txt",
+            "foo.txt");
+
+    private static Map<String, ClassLoader> newImports(List<String> names) {
+        Map<String, ClassLoader> imports = new LinkedHashMap<>();
+        for (String name : names) {
+            imports.put(name, new ClassLoader(null) {
+                @Override
+                public String toString() {
+                    return name;
+                }
+            });
+        }
+        return imports;
+    }
+
+    private static void assertSameImports(Map<String, ClassLoader> imports) {
+        ClassRealm realm = new ClassRealm(null, "test", null);
+        imports.forEach((imp, loader) -> realm.importFrom(loader, imp));
+        IndexedImportClassLoader index = new IndexedImportClassLoader(imports);
+
+        for (String name : NAMES) {
+            assertSame(realm.getImportClassLoader(name), index.getImportClassLoader(name), name);
+        }
+    }
+
+    @Test
+    void testSameImportsAsRealm() {
+        assertSameImports(newImports(IMPORTS));
+    }
+
+    @Test
+    void testSameImportsAsRealmWithImportAll() {
+        List<String> imports = new ArrayList<>(IMPORTS);
+        imports.add("");
+        assertSameImports(newImports(imports));
+    }
+
+    @Test
+    void testLoadClass() throws Exception {
+        Map<String, ClassLoader> imports = new LinkedHashMap<>();
+        imports.put("org.junit.jupiter.api.*", getClass().getClassLoader());
+        IndexedImportClassLoader index = new IndexedImportClassLoader(imports);
+
+        assertSame(Test.class, index.loadClass(Test.class.getName()));
+        assertThrows(
+                ClassNotFoundException.class, () -> index.loadClass(getClass().getName()));
+        assertNull(index.getResource("org/apache/maven/classrealm/IndexedImportClassLoaderTest.class"));
+    }
+}
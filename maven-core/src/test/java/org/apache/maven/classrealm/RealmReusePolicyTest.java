@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.DefaultExtensionRealmCache;
+import org.apache.maven.plugin.DefaultPluginRealmCache;
+import org.apache.maven.plugin.ExtensionRealmCache;
+import org.apache.maven.plugin.PluginRealmCache;
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.codehaus.plexus.classworlds.realm.DuplicateRealmException;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.internal.impl.SimpleLocalRepositoryManagerFactory;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.repository.WorkspaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RealmReusePolicyTest {
+
+    @TempDir
+    Path directory;
+
+    private final RealmReusePolicy policy = new RealmReusePolicy();
+
+    private final List<String> evicted = new ArrayList<>();
+
+    private RealmReusePolicy.Tracker<String> tracker;
+
+    private DefaultRepositorySystemSession session;
+
+    @BeforeEach
+    void setup() {
+        tracker = policy.newTracker(evicted::add);
+        session = new DefaultRepositorySystemSession();
+        session.setConfigProperty(RealmReusePolicy.REALM_REUSE, "true");
+    }
+
+    private File newFile(String name) throws Exception {
+        return Files.write(directory.resolve(name), name.getBytes()).toFile();
+    }
+
+    @Test
+    void testDisabled() throws Exception {
+        policy.sessionStarted(new DefaultRepositorySystemSession());
+        tracker.used("a", null);
+        policy.sessionEnded();
+
+        assertTrue(tracker.isReusable("a"));
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void testReuseUnchangedFiles() throws Exception {
+        File unchanged = newFile("unchanged.jar");
+        File changed = newFile("changed.jar");
+        policy.sessionStarted(session);
+        tracker.used("a", Collections.singletonList(unchanged));
+        tracker.used("b", Collections.singletonList(changed));
+        policy.sessionEnded();
+
+        Files.write(changed.toPath(), "modified".getBytes());
+        policy.sessionStarted(session);
+        assertTrue(tracker.isReusable("a"));
+        assertFalse(tracker.isReusable("b"));
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void testEvictRecordsOfSingleSession() throws Exception {
+        policy.sessionStarted(session);
+        tracker.used("a", null);
+        tracker.used("b", Collections.emptyList());
+        assertTrue(tracker.isReusable("a"));
+        policy.sessionEnded();
+
+        assertEquals(Collections.singletonList("a"), evicted);
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsed() throws Exception {
+        session.setConfigProperty(RealmReusePolicy.REALM_REUSE_MAX_REALMS, "2");
+        policy.sessionStarted(session);
+        tracker.used("a", Collections.emptyList());
+        tracker.used("b", Collections.emptyList());
+        tracker.used("c", Collections.emptyList());
+        tracker.used("a", Collections.emptyList());
+        policy.sessionEnded();
+
+        assertEquals(Collections.singletonList("b"), evicted);
+    }
+
+    @Test
+    void testEvictUnusedWhenMemoryIsLow() throws Exception {
+        policy.sessionStarted(session);
+        tracker.used("a", Collections.emptyList());
+        tracker.used("b", Collections.emptyList());
+        policy.sessionEnded();
+
+        policy.sessionStarted(session);
+        tracker.used("b", Collections.emptyList());
+        policy.evict(true);
+
+        assertEquals(Collections.singletonList("a"), evicted);
+    }
+
+    @Test
+    void testOverlappingSessions() throws Exception {
+        policy.sessionStarted(session);
+        tracker.used("a", null);
+
+        // a second build starts and ends while the first one still uses its records
+        policy.sessionStarted(session);
+        tracker.used("b", Collections.emptyList());
+        assertTrue(tracker.isReusable("a"));
+        policy.sessionEnded();
+        assertTrue(evicted.isEmpty());
+        assertTrue(tracker.isReusable("a"));
+
+        policy.sessionEnded();
+        assertEquals(Collections.singletonList("a"), evicted);
+    }
+
+    @Test
+    void testExtensionRealmCache() throws Exception {
+        File file = newFile("extension.jar");
+        Artifact artifact = new DefaultArtifact(
+                "org.apache.test", "extension", "1.0", null, "jar", null, new DefaultArtifactHandler());
+        artifact.setFile(file);
+        List<Artifact> artifacts = Collections.singletonList(artifact);
+
+        ClassWorld world = new ClassWorld();
+        ClassRealm realm = world.newRealm("extension");
+        DefaultExtensionRealmCache cache = new DefaultExtensionRealmCache(policy);
+        ExtensionRealmCache.Key key = cache.createKey(artifacts);
+
+        policy.sessionStarted(session);
+        cache.register(null, key, cache.put(key, realm, null, artifacts));
+        policy.sessionEnded();
+
+        policy.sessionStarted(session);
+        assertSame(realm, cache.get(key).getRealm());
+        policy.sessionEnded();
+
+        // the key of the extension realm cache is made of the file stamps already, simulate a stale key
+        file.setLastModified(file.lastModified() - 60_000);
+        policy.sessionStarted(session);
+        assertNull(cache.get(key));
+        assertNull(world.getClassRealm("extension"));
+    }
+
+    @Test
+    void testPluginRealmCache() throws Exception {
+        Path localRepo = Files.createDirectories(directory.resolve("repository"));
+        File local = Files.write(localRepo.resolve("plugin.jar"), "plugin".getBytes())
+                .toFile();
+        File reactor = newFile("reactor-plugin.jar");
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("org.apache.test");
+        plugin.setArtifactId("plugin");
+        plugin.setVersion("1.0");
+        Plugin reactorPlugin = plugin.clone();
+        reactorPlugin.setArtifactId("reactor-plugin");
+
+        ClassWorld world = new ClassWorld();
+        DefaultPluginRealmCache cache = new DefaultPluginRealmCache(policy);
+        DefaultRepositorySystemSession build1 = newBuildSession(localRepo, "build1");
+        DefaultRepositorySystemSession build2 = newBuildSession(localRepo, "build2");
+
+        // two overlapping builds with their own reactors
+        policy.sessionStarted(build1);
+        policy.sessionStarted(build2);
+        PluginRealmCache.CacheRecord localRecord = loadPluginRealm(cache, world, build1, plugin, "local", local);
+        PluginRealmCache.CacheRecord reactorRecord =
+                loadPluginRealm(cache, world, build1, reactorPlugin, "reactor", reactor);
+
+        // the realm of the local repository is shared, the one resolved from the reactor of the first build is not
+        assertSame(localRecord, loadPluginRealm(cache, world, build2, plugin, "local2", local));
+        assertNotSame(reactorRecord, loadPluginRealm(cache, world, build2, reactorPlugin, "reactor2", reactor));
+        policy.sessionEnded();
+        policy.sessionEnded();
+
+        // a later build only reuses the realm of the local repository
+        DefaultRepositorySystemSession build3 = newBuildSession(localRepo, "build3");
+        policy.sessionStarted(build3);
+        assertNotNull(world.getClassRealm("local"));
+        assertNull(world.getClassRealm("reactor"));
+        assertNull(world.getClassRealm("reactor2"));
+        assertSame(localRecord, loadPluginRealm(cache, world, build3, plugin, "local3", local));
+        policy.sessionEnded();
+    }
+
+    private DefaultRepositorySystemSession newBuildSession(Path localRepo, String reactor) throws Exception {
+        DefaultRepositorySystemSession build = new DefaultRepositorySystemSession(session);
+        build.setLocalRepositoryManager(
+                new SimpleLocalRepositoryManagerFactory().newInstance(build, new LocalRepository(localRepo.toFile())));
+        WorkspaceReader workspaceReader = mock(WorkspaceReader.class);
+        when(workspaceReader.getRepository()).thenReturn(new WorkspaceRepository("reactor", reactor));
+        build.setWorkspaceReader(workspaceReader);
+        return build;
+    }
+
+    private static PluginRealmCache.CacheRecord loadPluginRealm(
+            DefaultPluginRealmCache cache,
+            ClassWorld world,
+            DefaultRepositorySystemSession session,
+            Plugin plugin,
+            String realmId,
+            File file)
+            throws Exception {
+        Artifact artifact = new DefaultArtifact(
+                plugin.getGroupId(), plugin.getArtifactId(), "1.0", null, "jar", null, new DefaultArtifactHandler());
+        artifact.setFile(file);
+        PluginRealmCache.Key key = cache.createKey(plugin, null, null, null, Collections.emptyList(), session);
+        PluginRealmCache.CacheRecord record = cache.get(key, () -> {
+            try {
+                return new PluginRealmCache.CacheRecord(world.newRealm(realmId), Collections.singletonList(artifact));
+            } catch (DuplicateRealmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        cache.register(null, key, record);
+        return record;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.configuration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.maven.configuration.internal.CachingComponentConfigurator;
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.codehaus.plexus.component.configurator.BasicComponentConfigurator;
+import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
+import org.codehaus.plexus.component.configurator.ComponentConfigurator;
+import org.codehaus.plexus.component.configurator.ConfigurationListener;
+import org.codehaus.plexus.component.configurator.expression.DefaultExpressionEvaluator;
+import org.codehaus.plexus.configuration.DefaultPlexusConfiguration;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingComponentConfiguratorTest {
+
+    private ClassWorld world;
+
+    private ClassRealm realm;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        world = new ClassWorld();
+        realm = world.newRealm("test", getClass().getClassLoader());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        world.disposeRealm("test");
+    }
+
+    private static PlexusConfiguration newConfiguration(String... namesAndValues) {
+        DefaultPlexusConfiguration configuration = new DefaultPlexusConfiguration("configuration");
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            configuration.addChild(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return configuration;
+    }
+
+    /**
+     * Configures a new bean with the basic and the caching configurators, twice for the latter so that the second time
+     * uses the cached properties, and checks that the beans, the notifications and the errors are the same.
+     */
+    private String assertSameBinding(Supplier<Object> beanFactory, PlexusConfiguration configuration) {
+        String expected = configure(new BasicComponentConfigurator(), beanFactory.get(), configuration);
+        ComponentConfigurator caching = new CachingComponentConfigurator();
+        assertEquals(expected, configure(caching, beanFactory.get(), configuration));
+        assertEquals(expected, configure(caching, beanFactory.get(), configuration));
+        return expected;
+    }
+
+    private String configure(ComponentConfigurator configurator, Object bean, PlexusConfiguration configuration) {
+        List<String> notifications = new ArrayList<>();
+        ConfigurationListener listener = new ConfigurationListener() {
+            @Override
+            public void notifyFieldChangeUsingSetter(String fieldName, Object value, Object target) {
+                notifications.add("setter " + fieldName + "=" + value);
+            }
+
+            @Override
+            public void notifyFieldChangeUsingReflection(String fieldName, Object value, Object target) {
+                notifications.add("field " + fieldName + "=" + value);
+            }
+        };
+        try {
+            configurator.configureComponent(bean, configuration, new DefaultExpressionEvaluator(), realm, listener);
+        } catch (ComponentConfigurationException e) {
+            notifications.add("error " + e.getMessage() + " caused by " + e.getCause());
+        }
+        return bean + " " + notifications;
+    }
+
+    @Test
+    void testSettersAndFields() {
+        String binding = assertSameBinding(
+                SubBean::new,
+                newConfiguration(
+                        "name", "test",
+                        "count", "42",
+                        "file", "target",
+                        "item", "a",
+                        "inherited", "parent"));
+        assertTrue(binding.contains("setter name=test"), binding);
+        assertTrue(binding.contains("field inherited=parent"), binding);
+    }
+
+    @Test
+    void testGenericCollection() {
+        DefaultPlexusConfiguration configuration = new DefaultPlexusConfiguration("configuration");
+        PlexusConfiguration values = configuration.getChild("values", true);
+        values.addChild("value", "1");
+        values.addChild("value", "2");
+        String binding = assertSameBinding(SubBean::new, configuration);
+        assertTrue(binding.contains("values=[1, 2]"), binding);
+    }
+
+    @Test
+    void testImplementationHint() {
+        DefaultPlexusConfiguration configuration = new DefaultPlexusConfiguration("configuration");
+        PlexusConfiguration nested = configuration.getChild("nested", true);
+        nested.setAttribute("implementation", SubBean.class.getName());
+        nested.addChild("name", "inner");
+        String binding = assertSameBinding(SubBean::new, configuration);
+        assertTrue(binding.contains("nested=SubBean[inner"), binding);
+    }
+
+    @Test
+    void testMissingProperty() {
+        String binding = assertSameBinding(SubBean::new, newConfiguration("unknown", "value"));
+        assertTrue(binding.contains("Cannot find 'unknown'"), binding);
+    }
+
+    @Test
+    void testFailingSetter() {
+        String binding = assertSameBinding(SubBean::new, newConfiguration("failing", "value"));
+        assertTrue(binding.contains("field failing=value"), binding);
+    }
+
+    @Test
+    void testFailingConversion() {
+        String binding = assertSameBinding(SubBean::new, newConfiguration("count", "many"));
+        assertTrue(binding.contains("error"), binding);
+    }
+
+    @Test
+    void testNonPublicBean() {
+        String binding = assertSameBinding(HiddenBean::new, newConfiguration("name", "hidden"));
+        assertTrue(binding.contains("name=hidden"), binding);
+    }
+
+    public static class BaseBean {
+        protected String inherited;
+
+        protected BaseBean nested;
+    }
+
+    public static class SubBean extends BaseBean {
+        private String name;
+
+        private int count;
+
+        private File file;
+
+        private final List<String> items = new ArrayList<>();
+
+        private List<Integer> values;
+
+        private String failing;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void addItem(String item) {
+            items.add(item);
+        }
+
+        public void setFailing(String failing) {
+            throw new IllegalStateException("failing setter");
+        }
+
+        @Override
+        public String toString() {
+            return "SubBean[" + name + ", " + count + ", " + file + ", " + items + ", " + values + ", " + failing + ", "
+                    + inherited + ", " + nested + "]";
+        }
+    }
+
+    static class HiddenBean {
+        private String name;
+
+        public void setName(String name) {
+            this.name = "set " + name;
+        }
+
+        @Override
+        public String toString() {
+            return "HiddenBean[" + name + "]";
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.execution;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class DefaultBuildDurationRepositoryTest {
+    private final DefaultBuildDurationRepository repository = new DefaultBuildDurationRepository();
+
+    @Test
+    void durationsAreConvertedBackAndForth() {
+        Map<String, Long> projectDurations = new HashMap<>();
+        projectDurations.put("org.example:module-a", 1500L);
+        Map<String, Long> mojoDurations = new HashMap<>();
+        mojoDurations.put("org.example:module-a/maven-compiler-plugin:compile@default-compile", 900L);
+
+        Properties properties =
+                repository.convertToProperties(new BuildDurationHistory(projectDurations, mojoDurations));
+        BuildDurationHistory history = repository.convertFromProperties(properties);
+
+        assertThat(history.getProjectDurations(), is(projectDurations));
+        assertThat(history.getMojoDurations(), is(mojoDurations));
+    }
+
+    @Test
+    void invalidDurationsAreIgnored() {
+        Properties properties = new Properties();
+        properties.setProperty("project.org.example:module-a", "oops");
+        properties.setProperty("project.org.example:module-b", "42");
+        properties.setProperty("unrelated", "1");
+
+        BuildDurationHistory history = repository.convertFromProperties(properties);
+
+        assertThat(history.getProjectDurations(), is(Collections.singletonMap("org.example:module-b", 42L)));
+        assertThat(history.getMojoDurations().isEmpty(), is(true));
+    }
+
+    @Test
+    void historyIsPersistedInBuildDirectory(@TempDir Path tempDir) {
+        MavenProject rootProject = new MavenProject();
+        rootProject.setGroupId("org.example");
+        rootProject.setArtifactId("root");
+        Build build = new Build();
+        build.setDirectory(tempDir.resolve("target").toString());
+        rootProject.setBuild(build);
+
+        assertThat(repository.load(rootProject).isEmpty(), is(true));
+
+        repository.persist(
+                rootProject,
+                BuildDurationHistory.EMPTY.update(
+                        Collections.singletonMap("org.example:root", 2000L), Collections.emptyMap()));
+
+        assertThat(repository.load(rootProject).getProjectDuration(rootProject), is(OptionalLong.of(2000L)));
+    }
+
+    @Test
+    void recordedDurationsAreSmoothed() {
+        BuildDurationHistory history = new BuildDurationHistory(
+                        Collections.singletonMap("org.example:module-a", 1000L), Collections.emptyMap())
+                .update(Collections.singletonMap("org.example:module-a", 3000L), Collections.emptyMap());
+
+        assertThat(history.getProjectDurations().get("org.example:module-a"), is(2000L));
+    }
+}
@@ -129,6 +129,20 @@ void testGetUpstreamProjects() throws CycleDetectedException, DuplicateProjectEx
         assertEquals(aProject, downstreamProjects.get(0));
     }
 
+    @Test
+    void testGetTransitiveUpstreamProjects() throws CycleDetectedException, DuplicateProjectException {
+        ProjectDependencyGraph graph = new DefaultProjectDependencyGraph(
+                Arrays.asList(transitiveOnly, depender4, depender1, depender3, aProject));
+
+        assertEquals(Arrays.asList(depender3), graph.getUpstreamProjects(transitiveOnly, false));
+        assertEquals(Arrays.asList(aProject, depender3), graph.getUpstreamProjects(transitiveOnly, true));
+        assertEquals(Arrays.asList(aProject, depender3), graph.getUpstreamProjects(depender4, false));
+        assertEquals(Arrays.asList(aProject, depender3), graph.getUpstreamProjects(depender4, true));
+        assertEquals(Arrays.asList(), graph.getUpstreamProjects(aProject, true));
+        assertEquals(Arrays.asList(transitiveOnly, depender4), graph.getDownstreamProjects(depender3, false));
+        assertEquals(Arrays.asList(), graph.getDownstreamProjects(depender4, true));
+    }
+
     private ProjectDependencyGraph threeProjectsDependingOnASingle()
             throws CycleDetectedException, DuplicateProjectException {
         return new DefaultProjectDependencyGraph(Arrays.asList(depender1, depender2, depender3, aProject));
@@ -98,4 +98,32 @@ void testConcurrencyGraphDifferentCompletionOrder()
         assertEquals(X, bDescendants.get(0));
         assertEquals(Y, bDescendants.get(1));
     }
+
+    @Test
+    void testConcurrencyGraphPipelined()
+            throws InvalidPluginDescriptorException, PluginVersionResolutionException, PluginDescriptorParsingException,
+                    NoPluginFoundForPrefixException, MojoNotFoundException, PluginNotFoundException,
+                    PluginResolutionException, LifecyclePhaseNotFoundException, LifecycleNotFoundException {
+        ProjectDependencyGraph dependencyGraph = new ProjectDependencyGraphStub();
+        final MavenSession session = ProjectDependencyGraphStub.getMavenSession();
+        ConcurrencyDependencyGraph graph =
+                new ConcurrencyDependencyGraph(getProjectBuildList(session), dependencyGraph);
+
+        graph.getRootSchedulableBuilds();
+        graph.markAsFinished(A);
+        final List<MavenProject> bPipelined = graph.markAsPipelined(ProjectDependencyGraphStub.B, p -> true);
+        assertEquals(1, bPipelined.size());
+        assertEquals(Y, bPipelined.get(0));
+
+        // Z does not accept pipelined upstream projects
+        final List<MavenProject> cPipelined = graph.markAsPipelined(C, p -> p != Z);
+        assertEquals(1, cPipelined.size());
+        assertEquals(X, cPipelined.get(0));
+
+        // already scheduled projects are not returned again
+        assertEquals(0, graph.markAsFinished(ProjectDependencyGraphStub.B).size());
+        final List<MavenProject> cDescendants = graph.markAsFinished(C);
+        assertEquals(1, cDescendants.size());
+        assertEquals(Z, cDescendants.get(0));
+    }
 }
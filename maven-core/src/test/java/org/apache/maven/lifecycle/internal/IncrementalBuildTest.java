@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.BuildSuccess;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectExecutionListener;
+import org.apache.maven.internal.transformation.ConsumerPomArtifactTransformer;
+import org.apache.maven.internal.xml.XmlNodeImpl;
+import org.apache.maven.lifecycle.MavenExecutionPlan;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
+import org.apache.maven.lifecycle.internal.stub.DefaultLifecyclesStub;
+import org.apache.maven.lifecycle.internal.stub.LifecycleExecutionPlanCalculatorStub;
+import org.apache.maven.lifecycle.internal.stub.MojoExecutorStub;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectHelper;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IncrementalBuildTest {
+
+    @TempDir
+    Path basedir;
+
+    private MavenProjectHelper projectHelper;
+
+    private LifecycleDependencyResolver dependencyResolver;
+
+    private MojoExecutorStub mojoExecutor;
+
+    private IncrementalBuild incrementalBuild;
+
+    private File jar;
+
+    private File sources;
+
+    private ProjectExecutionListener listener;
+
+    @BeforeEach
+    void setup() throws Exception {
+        projectHelper = mock(MavenProjectHelper.class);
+        dependencyResolver = mock(LifecycleDependencyResolver.class);
+        mojoExecutor = new MojoExecutorStub();
+        listener = mock(ProjectExecutionListener.class);
+        incrementalBuild = new IncrementalBuild(
+                mojoExecutor, dependencyResolver, DefaultLifecyclesStub.createDefaultLifecycles(), projectHelper);
+        jar = Files.createFile(basedir.resolve("test-1.0.jar")).toFile();
+        sources = Files.createFile(basedir.resolve("test-1.0-sources.jar")).toFile();
+    }
+
+    private MavenProject newProject() {
+        Model model = new Model();
+        model.setGroupId("org.apache.maven.test");
+        model.setArtifactId("test");
+        model.setVersion("1.0");
+        model.setBuild(new Build());
+        model.getBuild().setDirectory(basedir.toString());
+        MavenProject project = new MavenProject(model);
+        project.setArtifact(new DefaultArtifact(
+                "org.apache.maven.test", "test", "1.0", null, "jar", null, new DefaultArtifactHandler("jar")));
+        return project;
+    }
+
+    private void recordBuild(String fingerprint) {
+        MavenProject project = newProject();
+        project.getArtifact().setFile(jar);
+        DefaultArtifact attached = new DefaultArtifact(
+                "org.apache.maven.test",
+                "test",
+                "1.0",
+                null,
+                "java-source",
+                "sources",
+                new DefaultArtifactHandler("java-source"));
+        attached.setFile(sources);
+        project.addAttachedArtifact(attached);
+        project.addCompileSourceRoot(basedir.resolve("generated-sources").toString());
+        project.getProperties().setProperty("buildNumber", "42");
+        incrementalBuild.record(project, fingerprint);
+    }
+
+    @Test
+    void testRestore() {
+        recordBuild("abc");
+
+        MavenProject project = newProject();
+        assertTrue(incrementalBuild.restore(project, "abc"));
+        assertEquals(jar, project.getArtifact().getFile());
+        verify(projectHelper).attachArtifact(project, "java-source", "sources", sources);
+        assertEquals(
+                Collections.singletonList(basedir.resolve("generated-sources").toString()),
+                project.getCompileSourceRoots());
+        assertEquals("42", project.getProperties().getProperty("buildNumber"));
+    }
+
+    @Test
+    void testChangedFingerprint() {
+        recordBuild("abc");
+
+        MavenProject project = newProject();
+        assertFalse(incrementalBuild.restore(project, "def"));
+        assertFalse(incrementalBuild.restore(project, null));
+        verify(projectHelper, never()).attachArtifact(project, "java-source", "sources", sources);
+    }
+
+    @Test
+    void testMissingOutput() {
+        recordBuild("abc");
+        assertTrue(sources.delete());
+
+        assertFalse(incrementalBuild.restore(newProject(), "abc"));
+    }
+
+    @Test
+    void testInvalidate() {
+        recordBuild("abc");
+        incrementalBuild.invalidate(newProject());
+
+        assertFalse(incrementalBuild.restore(newProject(), "abc"));
+    }
+
+    @Test
+    void testStamp() throws Exception {
+        Path dir = Files.createDirectories(basedir.resolve("src"));
+        Path file = dir.resolve("Test.java");
+        Files.write(file, "class Test {}".getBytes(StandardCharsets.UTF_8));
+        byte[] first = stamp(dir);
+
+        assertTrue(Arrays.equals(first, stamp(dir)));
+
+        Files.write(file, "class Test { }".getBytes(StandardCharsets.UTF_8));
+        assertFalse(Arrays.equals(first, stamp(dir)));
+    }
+
+    @Test
+    void testFingerprintSourcesAndResources() throws Exception {
+        MavenProject project = newModule("test");
+        MavenSession session = newSession(project);
+        List<MojoExecution> plan = Collections.singletonList(newMojoExecution("compile", "a"));
+        String fingerprint = incrementalBuild.fingerprint(session, project, plan);
+        assertNotNull(fingerprint);
+        assertEquals(fingerprint, incrementalBuild.fingerprint(session, project, plan));
+
+        write(project, "src/main/java/Test.java", "class Test { }");
+        String touchedSource = incrementalBuild.fingerprint(session, project, plan);
+        assertNotEquals(fingerprint, touchedSource);
+
+        write(project, "src/main/resources/test.properties", "key=other value");
+        String touchedResource = incrementalBuild.fingerprint(session, project, plan);
+        assertNotEquals(touchedSource, touchedResource);
+
+        // the other files of the project are inputs as well
+        write(project, "src/main/webapp/index.html", "<html/>");
+        String addedFile = incrementalBuild.fingerprint(session, project, plan);
+        assertNotEquals(touchedResource, addedFile);
+
+        // but not its outputs nor the hidden directories
+        write(project, "target/classes/Test.class", "compiled");
+        write(project, ".git/index", "changed");
+        assertEquals(addedFile, incrementalBuild.fingerprint(session, project, plan));
+    }
+
+    @Test
+    void testFingerprintReferencedProperties() throws Exception {
+        MavenProject project = newModule("test");
+        MavenSession session = newSession(project);
+        List<MojoExecution> plan = Collections.singletonList(newMojoExecution("compile", "${maven.compiler.release}"));
+        String fingerprint = incrementalBuild.fingerprint(session, project, plan);
+
+        // the properties not referenced by the mojo configurations are not inputs
+        session.getSystemProperties().setProperty("env.JAVA_HOME", "/opt/jdk");
+        session.getUserProperties().setProperty("other", "value");
+        assertEquals(fingerprint, incrementalBuild.fingerprint(session, project, plan));
+
+        session.getSystemProperties().setProperty("maven.compiler.release", "17");
+        String systemProperty = incrementalBuild.fingerprint(session, project, plan);
+        assertNotEquals(fingerprint, systemProperty);
+
+        session.getUserProperties().setProperty("maven.compiler.release", "21");
+        assertNotEquals(systemProperty, incrementalBuild.fingerprint(session, project, plan));
+    }
+
+    @Test
+    void testReferencedProperties() {
+        assertEquals(
+                new TreeSet<>(Arrays.asList("a", "b.c", "d")),
+                IncrementalBuild.getReferencedProperties(Arrays.asList(
+                        newMojoExecution("compile", "${a}-${b.c}"),
+                        newMojoExecution("test", "x ${d} ${unterminated"))));
+    }
+
+    @Test
+    void testFingerprintMojoConfiguration() throws Exception {
+        MavenProject project = newModule("test");
+        MavenSession session = newSession(project);
+        String fingerprint = incrementalBuild.fingerprint(
+                session, project, Collections.singletonList(newMojoExecution("compile", "a")));
+
+        assertNotEquals(
+                fingerprint,
+                incrementalBuild.fingerprint(
+                        session, project, Collections.singletonList(newMojoExecution("compile", "b"))));
+    }
+
+    @Test
+    void testFingerprintUpstreamProject() throws Exception {
+        MavenProject upstream = newModule("upstream");
+        MavenProject downstream = newModule("downstream");
+        MavenSession session = newSession(upstream, downstream);
+        List<MojoExecution> plan = Collections.singletonList(newMojoExecution("compile", "a"));
+        plan.get(0).getMojoDescriptor().setDependencyResolutionRequired(Artifact.SCOPE_COMPILE);
+        Artifact dependency = newArtifact("upstream");
+        dependency.setScope(Artifact.SCOPE_COMPILE);
+        when(dependencyResolver.resolveProjectArtifacts(eq(downstream), any(), any(), eq(session), anyBoolean(), any()))
+                .thenReturn(new HashSet<>(Collections.singletonList(dependency)));
+
+        incrementalBuild.fingerprint(session, upstream, plan);
+        String fingerprint = incrementalBuild.fingerprint(session, downstream, plan);
+
+        write(upstream, "src/main/java/Test.java", "class Test { }");
+        incrementalBuild.fingerprint(session, upstream, plan);
+        assertNotEquals(fingerprint, incrementalBuild.fingerprint(session, downstream, plan));
+    }
+
+    @Test
+    void testCleanAndDirectGoalsNeverSkipped() throws Exception {
+        MavenProject project = newModule("test");
+        MavenSession session = newSession(project);
+
+        assertNull(incrementalBuild.fingerprint(
+                session, project, Arrays.asList(newMojoExecution("clean", "a"), newMojoExecution("compile", "a"))));
+        assertNull(incrementalBuild.fingerprint(
+                session, project, Arrays.asList(newMojoExecution("compile", "a"), newMojoExecution(null, "a"))));
+    }
+
+    @Test
+    void testBuildProjectSkipsUnchangedProject() throws Exception {
+        MavenProject project = newModule("test");
+        MavenSession session = newSession(project);
+        ((DefaultRepositorySystemSession) session.getRepositorySession())
+                .setConfigProperty(IncrementalBuild.INCREMENTAL_BUILD, "true");
+        List<MojoExecution> plan = Collections.singletonList(newMojoExecution("compile", "a"));
+        LifecycleModuleBuilder moduleBuilder = newModuleBuilder(plan);
+
+        buildProject(moduleBuilder, session, project);
+        assertEquals(1, mojoExecutor.executions.size());
+        assertInstanceOf(BuildSuccess.class, session.getResult().getBuildSummary(project));
+
+        buildProject(moduleBuilder, session, project);
+        assertEquals(1, mojoExecutor.executions.size(), "unchanged project is skipped");
+        assertInstanceOf(BuildSuccess.class, session.getResult().getBuildSummary(project));
+
+        // the lifecycle callbacks are balanced whether the project is skipped or built
+        verify(listener, times(2)).beforeProjectLifecycleExecution(any());
+        verify(listener, times(2)).afterProjectExecutionSuccess(any());
+
+        write(project, "src/main/java/Test.java", "class Test { }");
+        buildProject(moduleBuilder, session, project);
+        assertEquals(2, mojoExecutor.executions.size(), "changed project is built");
+
+        LifecycleModuleBuilder cleanBuilder =
+                newModuleBuilder(Arrays.asList(newMojoExecution("clean", "a"), newMojoExecution("compile", "a")));
+        buildProject(cleanBuilder, session, project);
+        buildProject(cleanBuilder, session, project);
+        assertEquals(6, mojoExecutor.executions.size(), "clean plan is always executed");
+    }
+
+    private LifecycleModuleBuilder newModuleBuilder(List<MojoExecution> plan) throws Exception {
+        LifecycleExecutionPlanCalculatorStub planCalculator = new LifecycleExecutionPlanCalculatorStub() {
+            @Override
+            public MavenExecutionPlan calculateExecutionPlan(
+                    MavenSession session, MavenProject project, List<Task> tasks, boolean setup) {
+                List<ExecutionPlanItem> items = ExecutionPlanItem.createExecutionPlanItems(project, plan);
+                try {
+                    return new MavenExecutionPlan(items, DefaultLifecyclesStub.createDefaultLifecycles());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        ExecutionEventCatapult eventCatapult = mock(ExecutionEventCatapult.class);
+        return new LifecycleModuleBuilder(
+                mojoExecutor,
+                new BuilderCommon(new LifecycleDebugLogger(), planCalculator, eventCatapult),
+                eventCatapult,
+                Collections.singletonList(listener),
+                mock(ConsumerPomArtifactTransformer.class),
+                null,
+                incrementalBuild);
+    }
+
+    private static void buildProject(LifecycleModuleBuilder moduleBuilder, MavenSession session, MavenProject project) {
+        ReactorContext reactorContext = new ReactorContext(
+                session.getResult(),
+                new ProjectIndex(session.getProjects()),
+                Thread.currentThread().getContextClassLoader(),
+                new ReactorBuildStatus(null));
+        moduleBuilder.buildProject(
+                session, reactorContext, project, new TaskSegment(false, new LifecycleTask("compile")));
+    }
+
+    private MavenSession newSession(MavenProject... projects) {
+        MavenSession session = new MavenSession(
+                null,
+                new DefaultRepositorySystemSession(),
+                new DefaultMavenExecutionRequest(),
+                new DefaultMavenExecutionResult());
+        session.setProjects(new ArrayList<>(Arrays.asList(projects)));
+        return session;
+    }
+
+    private MavenProject newModule(String artifactId) throws Exception {
+        Path dir = basedir.resolve(artifactId);
+        Model model = new Model();
+        model.setGroupId("org.apache.maven.test");
+        model.setArtifactId(artifactId);
+        model.setVersion("1.0");
+        model.setBuild(new Build());
+        model.getBuild().setDirectory(dir.resolve("target").toString());
+        MavenProject project = new MavenProject(model);
+        project.setFile(dir.resolve("pom.xml").toFile());
+        project.setArtifact(newArtifact(artifactId));
+        project.addCompileSourceRoot(dir.resolve("src/main/java").toString());
+        Resource resource = new Resource();
+        resource.setDirectory(dir.resolve("src/main/resources").toString());
+        project.addResource(resource);
+        write(project, "pom.xml", "<project/>");
+        write(project, "src/main/java/Test.java", "class Test {}");
+        write(project, "src/main/resources/test.properties", "key=value");
+        return project;
+    }
+
+    private static Artifact newArtifact(String artifactId) {
+        return new DefaultArtifact(
+                "org.apache.maven.test", artifactId, "1.0", null, "jar", null, new DefaultArtifactHandler("jar"));
+    }
+
+    private static MojoExecution newMojoExecution(String phase, String configuration) {
+        MojoDescriptor mojoDescriptor = LifecycleExecutionPlanCalculatorStub.createMojoDescriptor(phase);
+        MojoExecution mojoExecution = new MojoExecution(mojoDescriptor, "default-" + phase);
+        mojoExecution.setLifecyclePhase(phase);
+        mojoExecution.setConfiguration(new XmlNodeImpl("configuration", configuration));
+        return mojoExecution;
+    }
+
+    private static void write(MavenProject project, String path, String content) throws Exception {
+        Path file = project.getBasedir().toPath().resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] stamp(Path path) throws Exception {
+        MessageDigest digest = IncrementalBuild.newDigest();
+        IncrementalBuild.stamp(digest, path);
+        return digest.digest();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.internal.stub.BuildPluginManagerStub;
+import org.apache.maven.lifecycle.internal.stub.LifecycleExecutionPlanCalculatorStub;
+import org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PluginPrefetcherTest {
+
+    private final Map<String, MavenProject> realms = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        ProjectDependencyGraphStub.A.getModel().setBuild(null);
+    }
+
+    private PluginPrefetcher newPrefetcher(String failingPlugin) {
+        return new PluginPrefetcher(new LifecycleExecutionPlanCalculatorStub(), new BuildPluginManagerStub() {
+            @Override
+            public ClassRealm getPluginRealm(MavenSession session, PluginDescriptor pluginDescriptor) {
+                Plugin plugin = pluginDescriptor.getPlugin();
+                assertNull(
+                        realms.put(plugin.getArtifactId(), session.getCurrentProject()),
+                        "realm set up twice for " + plugin.getArtifactId());
+                if (plugin.getArtifactId().equals(failingPlugin)) {
+                    throw new IllegalStateException("expected");
+                }
+                return null;
+            }
+        });
+    }
+
+    @Test
+    void testPrefetchDistinctPlugins() throws Exception {
+        MavenSession session = ProjectDependencyGraphStub.getMavenSession();
+        newPrefetcher(null).prefetch(session, ProjectDependencyGraphStub.getProjectBuildList(session));
+
+        // the plans of A and B use 9 distinct plugins, those of the other projects only plugins used by A
+        assertEquals(9, realms.size());
+        assertSame(ProjectDependencyGraphStub.A, realms.get("stub-plugin-initialize"));
+        assertSame(ProjectDependencyGraphStub.B, realms.get("stub-plugin-validate"));
+    }
+
+    @Test
+    void testFailuresAreIgnored() throws Exception {
+        MavenSession session = ProjectDependencyGraphStub.getMavenSession();
+        MavenProject currentProject = session.getCurrentProject();
+        newPrefetcher("stub-plugin-compile").prefetch(session, ProjectDependencyGraphStub.getProjectBuildList(session));
+
+        assertEquals(9, realms.size());
+        assertSame(currentProject, session.getCurrentProject());
+    }
+
+    @Test
+    void testSkipProjectsUsingReactorPlugins() throws Exception {
+        Plugin plugin = new Plugin();
+        plugin.setGroupId(ProjectDependencyGraphStub.Z.getGroupId());
+        plugin.setArtifactId(ProjectDependencyGraphStub.Z.getArtifactId());
+        Build build = new Build();
+        build.addPlugin(plugin);
+        ProjectDependencyGraphStub.A.getModel().setBuild(build);
+
+        MavenSession session = ProjectDependencyGraphStub.getMavenSession();
+        newPrefetcher(null).prefetch(session, ProjectDependencyGraphStub.getProjectBuildList(session));
+
+        assertEquals(6, realms.size());
+        assertFalse(realms.containsValue(ProjectDependencyGraphStub.A));
+        assertFalse(realms.containsKey("stub-plugin-initialize"));
+    }
+}
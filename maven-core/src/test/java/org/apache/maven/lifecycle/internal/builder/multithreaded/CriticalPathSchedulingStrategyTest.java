@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.execution.BuildSuccess;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.A;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.B;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.C;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.X;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Y;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Z;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CriticalPathSchedulingStrategyTest {
+
+    @Test
+    void testPathLengthsWithoutDurations() throws Exception {
+        MavenSession session = ProjectDependencyGraphStub.getMavenSession();
+        ProjectBuildList projectBuildList = ProjectDependencyGraphStub.getProjectBuildList(session);
+
+        Map<MavenProject, Long> pathLengths =
+                new CriticalPathSchedulingStrategy().getPathLengths(session, projectBuildList);
+
+        assertEquals(3L, pathLengths.get(A));
+        assertEquals(2L, pathLengths.get(B));
+        assertEquals(2L, pathLengths.get(C));
+        assertEquals(1L, pathLengths.get(X));
+        assertEquals(1L, pathLengths.get(Y));
+        assertEquals(1L, pathLengths.get(Z));
+    }
+
+    @Test
+    void testLongestChainFirst() throws Exception {
+        MavenSession session = ProjectDependencyGraphStub.getMavenSession();
+        ProjectBuildList projectBuildList = ProjectDependencyGraphStub.getProjectBuildList(session);
+        session.getResult().addBuildSummary(new BuildSuccess(X, 10));
+        session.getResult().addBuildSummary(new BuildSuccess(Y, 1));
+        session.getResult().addBuildSummary(new BuildSuccess(Z, 100));
+
+        MultiThreadedBuilder.ReadyProjects readyProjects = new MultiThreadedBuilder.ReadyProjects(
+                new CriticalPathSchedulingStrategy().getComparator(session, projectBuildList));
+        readyProjects.addAll(Arrays.asList(B, C));
+        assertEquals(Arrays.asList(C, B), drain(readyProjects));
+
+        readyProjects.addAll(Arrays.asList(X, Y, Z));
+        assertEquals(Arrays.asList(Z, X, Y), drain(readyProjects));
+    }
+
+    @Test
+    void testFifoKeepsReadyOrder() throws Exception {
+        MavenSession session = ProjectDependencyGraphStub.getMavenSession();
+        ProjectBuildList projectBuildList = ProjectDependencyGraphStub.getProjectBuildList(session);
+
+        MultiThreadedBuilder.ReadyProjects readyProjects = new MultiThreadedBuilder.ReadyProjects(
+                new FifoSchedulingStrategy().getComparator(session, projectBuildList));
+        readyProjects.addAll(Arrays.asList(Z, X));
+        readyProjects.addAll(Arrays.asList(Y, B));
+        assertEquals(Arrays.asList(Z, X, Y, B), drain(readyProjects));
+    }
+
+    private static List<MavenProject> drain(MultiThreadedBuilder.ReadyProjects readyProjects) {
+        List<MavenProject> result = new ArrayList<>();
+        while (!readyProjects.isEmpty()) {
+            result.add(readyProjects.poll());
+        }
+        return result;
+    }
+}
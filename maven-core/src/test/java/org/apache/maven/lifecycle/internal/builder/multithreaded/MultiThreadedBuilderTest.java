@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.BuildFailure;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.internal.transformation.ConsumerPomArtifactTransformer;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
+import org.apache.maven.lifecycle.internal.ExecutionEventCatapult;
+import org.apache.maven.lifecycle.internal.IncrementalBuild;
+import org.apache.maven.lifecycle.internal.LifecycleDebugLogger;
+import org.apache.maven.lifecycle.internal.LifecycleModuleBuilder;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.lifecycle.internal.ProjectIndex;
+import org.apache.maven.lifecycle.internal.ReactorBuildStatus;
+import org.apache.maven.lifecycle.internal.ReactorContext;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
+import org.apache.maven.lifecycle.internal.stub.DefaultLifecyclesStub;
+import org.apache.maven.lifecycle.internal.stub.LifecycleExecutionPlanCalculatorStub;
+import org.apache.maven.lifecycle.internal.stub.MojoExecutorStub;
+import org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.A;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.B;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.C;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.X;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Y;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Z;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class MultiThreadedBuilderTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final Map<MavenProject, List<String>> executedPhases = new ConcurrentHashMap<>();
+
+    private final CountDownLatch downstreamStarted = new CountDownLatch(2);
+
+    @Test
+    void testPipelinedDownstreamProjectsOfFailedProjectAreSkipped() throws Exception {
+        MavenExecutionRequest request = new DefaultMavenExecutionRequest();
+        request.setDegreeOfConcurrency(4);
+        request.setReactorFailureBehavior(MavenExecutionRequest.REACTOR_FAIL_AT_END);
+        request.getUserProperties().setProperty(MultiThreadedBuilder.PIPELINE_PHASE, "compile");
+        MavenSession session = new MavenSession(
+                null, new DefaultRepositorySystemSession(), request, new DefaultMavenExecutionResult());
+        ProjectDependencyGraphStub dependencyGraph = new ProjectDependencyGraphStub();
+        session.setProjectDependencyGraph(dependencyGraph);
+        session.setProjects(dependencyGraph.getSortedProjects());
+        ProjectBuildList projectBuilds = ProjectDependencyGraphStub.getProjectBuildList(session);
+        ReactorBuildStatus reactorBuildStatus = new ReactorBuildStatus(session.getProjectDependencyGraph());
+        ReactorContext reactorContext = new ReactorContext(
+                session.getResult(),
+                new ProjectIndex(session.getProjects()),
+                Thread.currentThread().getContextClassLoader(),
+                reactorBuildStatus);
+
+        newBuilder()
+                .build(
+                        session,
+                        reactorContext,
+                        projectBuilds,
+                        Collections.singletonList(projectBuilds.get(0).getTaskSegment()),
+                        reactorBuildStatus);
+
+        // B and C were started once A was compiled, but do not go further once A failed
+        assertInstanceOf(BuildFailure.class, session.getResult().getBuildSummary(A));
+        for (MavenProject project : Arrays.asList(B, C)) {
+            assertTrue(executedPhases.get(project).contains("compile"), executedPhases.toString());
+        }
+        // the other downstream projects may have been started from B and C, but do not go further either
+        for (MavenProject project : Arrays.asList(B, C, X, Y, Z)) {
+            List<String> phases = executedPhases.getOrDefault(project, Collections.emptyList());
+            assertFalse(phases.contains("test"), executedPhases.toString());
+            assertNull(session.getResult().getBuildSummary(project));
+        }
+        assertEquals(1, session.getResult().getExceptions().size());
+    }
+
+    private MultiThreadedBuilder newBuilder() throws Exception {
+        MojoExecutorStub mojoExecutor = new MojoExecutorStub() {
+            @Override
+            public void execute(MavenSession session, List<MojoExecution> mojoExecutions, ProjectIndex projectIndex)
+                    throws LifecycleExecutionException {
+                MavenProject project = session.getCurrentProject();
+                boolean started = executedPhases.containsKey(project);
+                for (MojoExecution mojoExecution : mojoExecutions) {
+                    executedPhases
+                            .computeIfAbsent(project, p -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(mojoExecution.getLifecyclePhase());
+                }
+                if ((project == B || project == C) && !started) {
+                    downstreamStarted.countDown();
+                } else if (project == A
+                        && !"initialize".equals(mojoExecutions.get(0).getLifecyclePhase())) {
+                    // fail A once both B and C have been started from it
+                    try {
+                        assertTrue(downstreamStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    throw new LifecycleExecutionException("A failed", A);
+                }
+            }
+        };
+        ExecutionEventCatapult eventCatapult = mock(ExecutionEventCatapult.class);
+        BuilderCommon builderCommon = new BuilderCommon(
+                new LifecycleDebugLogger(), new LifecycleExecutionPlanCalculatorStub(), eventCatapult);
+        LifecycleModuleBuilder lifecycleModuleBuilder = new LifecycleModuleBuilder(
+                mojoExecutor,
+                builderCommon,
+                eventCatapult,
+                Collections.emptyList(),
+                mock(ConsumerPomArtifactTransformer.class),
+                null,
+                mock(IncrementalBuild.class));
+        return new MultiThreadedBuilder(
+                lifecycleModuleBuilder, Collections.emptyMap(), DefaultLifecyclesStub.createDefaultLifecycles());
+    }
+}
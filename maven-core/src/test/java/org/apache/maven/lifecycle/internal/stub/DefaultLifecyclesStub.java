@@ -58,7 +58,8 @@ public static DefaultLifecycles createDefaultLifecycles() throws ComponentLookup
 
         List<String> stubWrapperCycle = Arrays.asList(WRAPPER.getPhase());
 
-        Iterator<List<String>> lcs = Arrays.asList(stubDefaultCycle, stubCleanCycle, stubSiteCycle, stubWrapperCycle)
+        // in the order of DefaultLifecycles.STANDARD_LIFECYCLES
+        Iterator<List<String>> lcs = Arrays.asList(stubCleanCycle, stubDefaultCycle, stubSiteCycle, stubWrapperCycle)
                 .iterator();
 
         Map<String, Lifecycle> lifeCycles = new HashMap<>();
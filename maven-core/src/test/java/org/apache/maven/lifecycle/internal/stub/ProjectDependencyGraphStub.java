@@ -165,13 +165,19 @@ public List<MavenProject> getSortedProjects() {
     }
 
     public List<MavenProject> getDownstreamProjects(MavenProject project, boolean transitive) {
-        if (transitive) {
-            throw new RuntimeException("Not implemented yet");
-        }
         List<MavenProject> result = new ArrayList<>();
         for (Dependency dependency : getDependencies()) {
             dependency.addIfDownstream(project, result);
         }
+        if (transitive) {
+            for (MavenProject downstreamProject : new ArrayList<>(result)) {
+                for (MavenProject transitiveProject : getDownstreamProjects(downstreamProject, true)) {
+                    if (!result.contains(transitiveProject)) {
+                        result.add(transitiveProject);
+                    }
+                }
+            }
+        }
         return result;
     }
 
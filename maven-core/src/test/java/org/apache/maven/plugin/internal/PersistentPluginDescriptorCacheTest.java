@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptorBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentPluginDescriptorCacheTest {
+
+    private static final String LOCATION = "META-INF/maven/plugin.xml";
+
+    private static final String LEGACY = "<plugin>\n"
+            + "  <groupId>org.apache.test</groupId>\n"
+            + "  <artifactId>test-plugin</artifactId>\n"
+            + "  <version>1.0</version>\n"
+            + "  <goalPrefix>test</goalPrefix>\n"
+            + "  <mojos>\n"
+            + "    <mojo>\n"
+            + "      <goal>run</goal>\n"
+            + "      <implementation>org.apache.test.RunMojo</implementation>\n"
+            + "      <threadSafe>true</threadSafe>\n"
+            + "      <parameters>\n"
+            + "        <parameter>\n"
+            + "          <name>output</name>\n"
+            + "          <type>java.io.File</type>\n"
+            + "          <required>true</required>\n"
+            + "          <editable>true</editable>\n"
+            + "          <description>The output.</description>\n"
+            + "        </parameter>\n"
+            + "      </parameters>\n"
+            + "      <configuration>\n"
+            + "        <output implementation=\"java.io.File\" default-value=\"${project.build.directory}\">"
+            + "${test.output}</output>\n"
+            + "      </configuration>\n"
+            + "      <requirements>\n"
+            + "        <requirement>\n"
+            + "          <role>org.apache.test.Helper</role>\n"
+            + "          <field-name>helper</field-name>\n"
+            + "        </requirement>\n"
+            + "      </requirements>\n"
+            + "    </mojo>\n"
+            + "  </mojos>\n"
+            + "  <dependencies>\n"
+            + "    <dependency>\n"
+            + "      <groupId>org.apache.test</groupId>\n"
+            + "      <artifactId>helper</artifactId>\n"
+            + "      <version>2.0</version>\n"
+            + "      <type>jar</type>\n"
+            + "    </dependency>\n"
+            + "  </dependencies>\n"
+            + "</plugin>\n";
+
+    private static final String V4 = "<plugin xmlns=\"" + PluginDescriptorBuilder.PLUGIN_2_0_0 + "\">\n"
+            + "  <groupId>org.apache.test</groupId>\n"
+            + "  <artifactId>test-plugin</artifactId>\n"
+            + "  <version>1.0</version>\n"
+            + "  <goalPrefix>test</goalPrefix>\n"
+            + "  <mojos>\n"
+            + "    <mojo>\n"
+            + "      <goal>run</goal>\n"
+            + "      <implementation>org.apache.test.RunMojo</implementation>\n"
+            + "    </mojo>\n"
+            + "  </mojos>\n"
+            + "</plugin>\n";
+
+    @TempDir
+    Path localRepository;
+
+    private Path jar;
+
+    private final PluginDescriptorBuilder builder = new PluginDescriptorBuilder();
+
+    @BeforeEach
+    void setup() throws Exception {
+        jar = localRepository.resolve("org/apache/test/test-plugin/1.0/test-plugin-1.0.jar");
+        Files.createDirectories(jar.getParent());
+        writeJar(LEGACY);
+    }
+
+    private void writeJar(String descriptor) throws Exception {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry(LOCATION));
+            out.write(descriptor.getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+    }
+
+    private PersistentPluginDescriptorCache newCache() {
+        return new PersistentPluginDescriptorCache(
+                localRepository, localRepository.resolve(PersistentPluginDescriptorCache.CACHE_DIRECTORY));
+    }
+
+    private PluginDescriptor get() throws Exception {
+        return newCache().get(jar, LOCATION, builder);
+    }
+
+    /**
+     * Overwrites the JAR with garbage of the same size and modification time, so that only the index can still
+     * provide the descriptor.
+     */
+    private void scrambleJar() throws Exception {
+        FileTime lastModified = Files.getLastModifiedTime(jar);
+        Files.write(jar, new byte[(int) Files.size(jar)]);
+        Files.setLastModifiedTime(jar, lastModified);
+    }
+
+    @Test
+    void testAccepts() throws Exception {
+        PersistentPluginDescriptorCache cache = newCache();
+        assertTrue(cache.accepts(jar));
+        assertFalse(cache.accepts(jar.getParent()));
+        Path outside = Files.createTempFile("test-plugin", ".jar");
+        try {
+            assertFalse(cache.accepts(outside));
+        } finally {
+            Files.delete(outside);
+        }
+    }
+
+    @Test
+    void testLegacyDescriptorFromIndex() throws Exception {
+        PluginDescriptor first = get();
+        assertTrue(Files.isRegularFile(newCache().getEntry(jar)));
+        scrambleJar();
+        PluginDescriptor second = get();
+
+        for (PluginDescriptor descriptor : new PluginDescriptor[] {first, second}) {
+            assertEquals(jar.toAbsolutePath().toString(), descriptor.getSource());
+            assertEquals("test", descriptor.getGoalPrefix());
+            assertEquals("helper", descriptor.getDependencies().get(0).getArtifactId());
+            MojoDescriptor mojo = descriptor.getMojo("run");
+            assertTrue(mojo.isThreadSafe());
+            assertEquals("java.io.File", mojo.getParameterMap().get("output").getType());
+            assertEquals("${test.output}", mojo.getParameterMap().get("output").getExpression());
+            assertEquals(
+                    "${project.build.directory}",
+                    mojo.getParameterMap().get("output").getDefaultValue());
+            assertEquals(
+                    "${test.output}",
+                    mojo.getMojoConfiguration().getChild("output").getValue());
+            assertEquals("helper", mojo.getRequirements().get(0).getFieldName());
+        }
+    }
+
+    @Test
+    void testV4DescriptorFromIndex() throws Exception {
+        writeJar(V4);
+        get();
+        scrambleJar();
+
+        PluginDescriptor descriptor = get();
+        assertEquals("test", descriptor.getGoalPrefix());
+        assertEquals("org.apache.test.RunMojo", descriptor.getMojo("run").getImplementation());
+    }
+
+    @Test
+    void testTouchedButUnchangedJar() throws Exception {
+        get();
+        Files.setLastModifiedTime(
+                jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() - 60_000));
+
+        assertEquals("test", get().getGoalPrefix());
+        // the entry now records the new time of the JAR, so that its checksum is not needed anymore
+        scrambleJar();
+        assertEquals("test", get().getGoalPrefix());
+    }
+
+    @Test
+    void testChangedJar() throws Exception {
+        get();
+        writeJar(LEGACY.replace("<goalPrefix>test</goalPrefix>", "<goalPrefix>other</goalPrefix>"));
+
+        assertEquals("other", get().getGoalPrefix());
+        scrambleJar();
+        assertEquals("other", get().getGoalPrefix());
+    }
+
+    @Test
+    void testCorruptEntry() throws Exception {
+        get();
+        Files.write(newCache().getEntry(jar), new byte[] {1, 2, 3});
+
+        assertEquals("test", get().getGoalPrefix());
+        scrambleJar();
+        assertEquals("test", get().getGoalPrefix());
+    }
+
+    @Test
+    void testMissingDescriptor() throws Exception {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            out.closeEntry();
+        }
+        assertNull(get());
+        assertFalse(Files.exists(newCache().getEntry(jar)));
+    }
+}
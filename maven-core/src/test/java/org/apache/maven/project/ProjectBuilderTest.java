@@ -36,8 +36,12 @@
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.building.FileModelSource;
 import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelCache;
 import org.apache.maven.model.building.ModelProblem;
 import org.apache.maven.model.building.ModelSource;
+import org.apache.maven.repository.internal.ModelCacheFactory;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -52,6 +56,7 @@
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -287,6 +292,73 @@ void testReadParentAndChildWithRegularVersionSetParentFile() throws Exception {
         assertEquals(parentPom, findChildProject(results).getParentFile());
     }
 
+    @Test
+    void testPreloadKeepsModuleProblems() throws Exception {
+        File pomFile = getProject("preload");
+        org.apache.maven.project.ProjectBuilder projectBuilder =
+                getContainer().lookup(org.apache.maven.project.ProjectBuilder.class);
+
+        for (String preload : new String[] {"true", "false"}) {
+            ProjectBuildingRequest configuration = newPreloadRequest(preload);
+            ProjectBuildingException e = assertThrows(
+                    ProjectBuildingException.class,
+                    () -> projectBuilder.build(Collections.singletonList(pomFile), true, configuration));
+            assertEquals(3, e.getResults().size());
+            for (ProjectBuildingResult result : e.getResults()) {
+                if (result.getPomFile().getParentFile().getName().equals("b")) {
+                    assertThat(result, projectBuildingResultWithProblemMessage("must be unique"));
+                } else {
+                    assertThat(result.getProblems(), is(empty()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPreloadedFileModelsAreReused() throws Exception {
+        File pomFile = getProject("preload");
+        File modulePom = new File(pomFile.getParentFile(), "a/pom.xml");
+        File unlistedPom = new File(pomFile.getParentFile(), "unlisted/pom.xml");
+        org.apache.maven.project.ProjectBuilder projectBuilder =
+                getContainer().lookup(org.apache.maven.project.ProjectBuilder.class);
+        ModelCacheFactory modelCacheFactory = getContainer().lookup(ModelCacheFactory.class);
+
+        for (String preload : new String[] {null, "false", "true"}) {
+            ProjectBuildingRequest configuration = newPreloadRequest(preload);
+            ProjectBuildingException e = assertThrows(
+                    ProjectBuildingException.class,
+                    () -> projectBuilder.build(Collections.singletonList(pomFile), true, configuration));
+            ModelCache cache = modelCacheFactory.createCache(configuration.getRepositorySession());
+
+            // POMs which are not modules are only read by the preload, which is off unless requested
+            Object unlisted = cache.get(new FileModelSource(unlistedPom), "file");
+            assertEquals("true".equals(preload), unlisted != null, "preload=" + preload);
+
+            // the module uses the file model found in the cache rather than a model of its own
+            Object cached = cache.get(new FileModelSource(modulePom), "file");
+            assertNotNull(cached);
+            MavenProject module = e.getResults().stream()
+                    .filter(r -> modulePom.equals(r.getPomFile()))
+                    .findFirst()
+                    .get()
+                    .getProject();
+            assertSame(cached, module.getOriginalModel().getDelegate());
+        }
+    }
+
+    private ProjectBuildingRequest newPreloadRequest(String preload) throws Exception {
+        DefaultRepositorySystemSession repositorySession =
+                new DefaultRepositorySystemSession(createMavenSession(null).getRepositorySession());
+        // the model cache is kept in the repository cache of the session
+        repositorySession.setCache(new DefaultRepositoryCache());
+        ProjectBuildingRequest configuration = new DefaultProjectBuildingRequest();
+        configuration.setRepositorySession(repositorySession);
+        if (preload != null) {
+            configuration.getUserProperties().setProperty(DefaultProjectBuilder.BUILDER_PRELOAD, preload);
+        }
+        return configuration;
+    }
+
     private MavenProject findChildProject(List<ProjectBuildingResult> results) {
         for (ProjectBuildingResult result : results) {
             if (result.getPomFile().getParentFile().getName().equals("child")) {
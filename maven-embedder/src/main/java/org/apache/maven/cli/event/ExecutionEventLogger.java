@@ -22,10 +22,12 @@
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 import org.apache.maven.api.services.MessageBuilder;
 import org.apache.maven.api.services.MessageBuilderFactory;
 import org.apache.maven.execution.AbstractExecutionListener;
+import org.apache.maven.execution.BuildDurationHistory;
 import org.apache.maven.execution.BuildFailure;
 import org.apache.maven.execution.BuildSuccess;
 import org.apache.maven.execution.BuildSummary;
@@ -55,6 +57,8 @@ public class ExecutionEventLogger extends AbstractExecutionListener {
     private static final int DEFAULT_TERMINAL_WIDTH = 80;
     private static final int MAX_TERMINAL_WIDTH = 130;
     private static final int MAX_PADDED_BUILD_TIME_DURATION_LENGTH = 9;
+    private static final int REGRESSION_FACTOR = 2;
+    private static final long REGRESSION_MIN_DELTA = 1000L; // 1 second
 
     private final MessageBuilderFactory messageBuilderFactory;
     private final Logger logger;
@@ -196,6 +200,8 @@ private void logReactorSummary(MavenSession session) {
 
         MavenExecutionResult result = session.getResult();
 
+        BuildDurationHistory history = BuildDurationHistory.get(session);
+
         List<MavenProject> projects = session.getProjects();
 
         StringBuilder buffer = new StringBuilder(128);
@@ -230,6 +236,12 @@ private void logReactorSummary(MavenSession session) {
                 }
                 buffer.append(buildTimeDuration);
                 buffer.append(']');
+
+                OptionalLong usualTime = history.getProjectDuration(project);
+                if (usualTime.isPresent() && isRegression(buildSummary.getTime(), usualTime.getAsLong())) {
+                    buffer.append(' ');
+                    buffer.append(builder().warning("(usually " + formatDuration(usualTime.getAsLong()) + ")"));
+                }
             } else if (buildSummary instanceof BuildFailure) {
                 buffer.append(builder().failure("FAILURE"));
                 buffer.append(" [");
@@ -247,6 +259,10 @@ private void logReactorSummary(MavenSession session) {
         }
     }
 
+    private static boolean isRegression(long time, long usualTime) {
+        return time > usualTime * REGRESSION_FACTOR && time - usualTime >= REGRESSION_MIN_DELTA;
+    }
+
     private void logResult(MavenSession session) {
         infoLine('-');
         MessageBuilder buffer = builder();
@@ -27,6 +27,7 @@
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -861,7 +862,9 @@ private Model readEffectiveModel(
                 request,
                 problems));
 
-        checkPluginVersions(lineage, request, problems);
+        if (!request.isDescriptorBuilding()) {
+            checkPluginVersions(lineage, request, problems);
+        }
 
         // inheritance assembly
         Model resultModel = assembleInheritance(lineage, request, problems);
@@ -983,15 +986,17 @@ private ModelBuildingResult build(
         problems.setSource(resultModel);
         problems.setRootModel(resultModel);
 
-        // model path translation
-        modelPathTranslator.alignToBaseDirectory(resultModel, resultModel.getProjectDirectory(), request);
+        if (!request.isDescriptorBuilding()) {
+            // model path translation
+            modelPathTranslator.alignToBaseDirectory(resultModel, resultModel.getProjectDirectory(), request);
 
-        // plugin management injection
-        pluginManagementInjector.injectManagement(resultModel, request, problems);
+            // plugin management injection
+            pluginManagementInjector.injectManagement(resultModel, request, problems);
+        }
 
         fireEvent(resultModel, request, problems, ModelBuildingEventCatapult.BUILD_EXTENSIONS_ASSEMBLED);
 
-        if (request.isProcessPlugins()) {
+        if (request.isProcessPlugins() && !request.isDescriptorBuilding()) {
             if (lifecycleBindingsInjector == null) {
                 throw new IllegalStateException("lifecycle bindings injector is missing");
             }
@@ -1008,7 +1013,7 @@ private ModelBuildingResult build(
 
         resultModel.update(modelNormalizer.injectDefaultValues(resultModel.getDelegate(), request, problems));
 
-        if (request.isProcessPlugins()) {
+        if (request.isProcessPlugins() && !request.isDescriptorBuilding()) {
             // reports configuration
             reportConfigurationExpander.expandPluginConfiguration(resultModel, request, problems);
 
@@ -1065,13 +1070,37 @@ public Result<? extends Model> buildRawModel(
         }
     }
 
+    @Override
+    public boolean preloadFileModel(ModelBuildingRequest request) {
+        ModelCache cache = request.getModelCache();
+        ModelSource modelSource = request.getModelSource();
+        if (cache == null || modelSource == null) {
+            return false;
+        }
+        DefaultModelProblemCollector problems = new DefaultModelProblemCollector(new DefaultModelBuildingResult());
+        org.apache.maven.api.model.Model model;
+        try {
+            model = doReadFileModel(modelSource, request, problems);
+        } catch (ModelBuildingException e) {
+            return false;
+        }
+        if (!problems.getProblems().isEmpty()) {
+            return false;
+        }
+        cache.computeIfAbsent(
+                modelSource,
+                request.isDescriptorBuilding() ? ModelCacheTag.DESCRIPTOR_FILE : ModelCacheTag.FILE,
+                () -> () -> model);
+        return true;
+    }
+
     Model readFileModel(ModelBuildingRequest request, DefaultModelProblemCollector problems)
             throws ModelBuildingException {
         ModelSource modelSource = request.getModelSource();
         org.apache.maven.api.model.Model model = cache(
                 request.getModelCache(),
                 modelSource,
-                ModelCacheTag.FILE,
+                request.isDescriptorBuilding() ? ModelCacheTag.DESCRIPTOR_FILE : ModelCacheTag.FILE,
                 () -> doReadFileModel(modelSource, request, problems));
 
         if (modelSource instanceof FileModelSource) {
@@ -1094,13 +1123,17 @@ private org.apache.maven.api.model.Model doReadFileModel(
         try {
             boolean strict = request.getValidationLevel() >= ModelBuildingRequest.VALIDATION_LEVEL_MAVEN_2_0;
 
-            Map<String, Object> options = new HashMap<>(3);
+            Map<String, Object> options = new HashMap<>(4);
             options.put(ModelProcessor.IS_STRICT, strict);
             options.put(ModelProcessor.SOURCE, modelSource);
             options.put(ModelReader.ROOT_DIRECTORY, request.getRootDirectory());
 
             InputSource source;
-            if (request.isLocationTracking()) {
+            if (request.isDescriptorBuilding()) {
+                // descriptor reads drop build and reporting and never track locations
+                options.put(ModelReader.DESCRIPTOR, Boolean.TRUE);
+                source = null;
+            } else if (request.isLocationTracking()) {
                 source = new InputSource(null, modelSource.getLocation());
                 options.put(ModelProcessor.INPUT_SOURCE, new org.apache.maven.model.InputSource(source));
             } else {
@@ -1192,7 +1225,7 @@ Model readRawModel(ModelBuildingRequest request, DefaultModelProblemCollector pr
         ModelData modelData = cache(
                 request.getModelCache(),
                 modelSource,
-                ModelCacheTag.RAW,
+                request.isDescriptorBuilding() ? ModelCacheTag.DESCRIPTOR_RAW : ModelCacheTag.RAW,
                 () -> doReadRawModel(modelSource, request, problems));
 
         return modelData.getModel();
@@ -1271,6 +1304,12 @@ private DefaultProfileActivationContext getProfileActivationContext(ModelBuildin
         context.setUserProperties(userProperties);
         context.setProjectDirectory(
                 (request.getPomFile() != null) ? request.getPomFile().getParentFile() : null);
+        if (request.getModelCache() != null) {
+            context.setActivationCache(request.getModelCache().computeIfAbsent(ModelCacheTag.ACTIVATION, () -> {
+                Map<Object, Boolean> activationCache = new ConcurrentHashMap<>();
+                return () -> activationCache;
+            }));
+        }
 
         return context;
     }
@@ -1673,7 +1712,7 @@ private void importDependencyManagement(
 
         importIds.add(importing);
 
-        List<org.apache.maven.api.model.DependencyManagement> importMgmts = null;
+        List<Dependency> imports = new ArrayList<>();
 
         for (Iterator<Dependency> it = depMgmt.getDependencies().iterator(); it.hasNext(); ) {
             Dependency dependency = it.next();
@@ -1685,8 +1724,13 @@ private void importDependencyManagement(
 
             it.remove();
 
-            DependencyManagement importMgmt = loadDependencyManagement(model, request, problems, dependency, importIds);
+            imports.add(dependency);
+        }
 
+        List<org.apache.maven.api.model.DependencyManagement> importMgmts = null;
+
+        for (DependencyManagement importMgmt :
+                loadDependencyManagements(model, request, problems, imports, importIds)) {
             if (importMgmt != null) {
                 if (importMgmts == null) {
                     importMgmts = new ArrayList<>();
@@ -1702,6 +1746,51 @@ private void importDependencyManagement(
                 dependencyManagementImporter.importManagement(model.getDelegate(), importMgmts, request, problems));
     }
 
+    /**
+     * Loads the dependency management of the given imports. When a model cache is available, the imports are loaded
+     * concurrently, each against its own copy of the model resolver, problem collector and import chain, while the
+     * cache makes sure every import is built only once. Results and problems are gathered in declaration order.
+     */
+    private List<DependencyManagement> loadDependencyManagements(
+            Model model,
+            ModelBuildingRequest request,
+            DefaultModelProblemCollector problems,
+            List<Dependency> dependencies,
+            Collection<String> importIds) {
+        List<DependencyManagement> importMgmts = new ArrayList<>(dependencies.size());
+
+        if (request.getModelCache() == null || dependencies.size() < 2) {
+            for (Dependency dependency : dependencies) {
+                importMgmts.add(loadDependencyManagement(model, request, problems, dependency, importIds));
+            }
+            return importMgmts;
+        }
+
+        List<DefaultModelProblemCollector> importProblems = new ArrayList<>(dependencies.size());
+        List<ForkJoinTask<DependencyManagement>> tasks = new ArrayList<>(dependencies.size());
+        for (Dependency dependency : dependencies) {
+            ModelBuildingRequest importRequest = new DefaultModelBuildingRequest(request);
+            if (request.getModelResolver() != null) {
+                importRequest.setModelResolver(request.getModelResolver().newCopy());
+            }
+            DefaultModelProblemCollector collector = new DefaultModelProblemCollector(new DefaultModelBuildingResult());
+            collector.setSource(model);
+            collector.setRootModel(problems.getRootModel());
+            Collection<String> chain = new LinkedHashSet<>(importIds);
+
+            importProblems.add(collector);
+            tasks.add(ForkJoinTask.adapt(
+                            () -> loadDependencyManagement(model, importRequest, collector, dependency, chain))
+                    .fork());
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            importMgmts.add(join(tasks.get(i)));
+            problems.addAll(importProblems.get(i).getProblems());
+        }
+        return importMgmts;
+    }
+
     private DependencyManagement loadDependencyManagement(
             Model model,
             ModelBuildingRequest request,
@@ -1883,17 +1972,7 @@ private static <T> T doWithCache(
             return asyncSupplierConsumer.apply(() -> {
                 ForkJoinTask<T> task = ForkJoinTask.adapt(supplier);
                 task.fork();
-                return () -> {
-                    task.quietlyJoin();
-                    if (task.isCompletedAbnormally()) {
-                        Throwable e = task.getException();
-                        while (e instanceof RuntimeException && e.getCause() != null) {
-                            e = e.getCause();
-                        }
-                        uncheckedThrow(e);
-                    }
-                    return task.getRawResult();
-                };
+                return () -> join(task);
             });
         } else {
             try {
@@ -1905,6 +1984,18 @@ private static <T> T doWithCache(
         }
     }
 
+    private static <T> T join(ForkJoinTask<T> task) {
+        task.quietlyJoin();
+        if (task.isCompletedAbnormally()) {
+            Throwable e = task.getException();
+            while (e instanceof RuntimeException && e.getCause() != null) {
+                e = e.getCause();
+            }
+            uncheckedThrow(e);
+        }
+        return task.getRawResult();
+    }
+
     static <T extends Throwable> void uncheckedThrow(Throwable t) throws T {
         throw (T) t; // rely on vacuous cast
     }
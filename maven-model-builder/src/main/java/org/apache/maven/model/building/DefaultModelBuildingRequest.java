@@ -49,6 +49,8 @@ public class DefaultModelBuildingRequest implements ModelBuildingRequest {
 
     private boolean locationTracking;
 
+    private boolean descriptorBuilding;
+
     private List<Profile> profiles;
 
     private List<String> activeProfileIds;
@@ -90,6 +92,7 @@ public DefaultModelBuildingRequest(ModelBuildingRequest request) {
         setProcessPlugins(request.isProcessPlugins());
         setTwoPhaseBuilding(request.isTwoPhaseBuilding());
         setLocationTracking(request.isLocationTracking());
+        setDescriptorBuilding(request.isDescriptorBuilding());
         setProfiles(request.getProfiles());
         setActiveProfileIds(request.getActiveProfileIds());
         setInactiveProfileIds(request.getInactiveProfileIds());
@@ -179,6 +182,25 @@ public DefaultModelBuildingRequest setLocationTracking(boolean locationTracking)
         return this;
     }
 
+    @Override
+    public boolean isDescriptorBuilding() {
+        return descriptorBuilding;
+    }
+
+    /**
+     * Enables/disables building only the parts of the model needed by an artifact descriptor.
+     *
+     * @param descriptorBuilding {@code true} to only build the artifact descriptor, {@code false} to build the
+     *            complete model.
+     * @return This request, never {@code null}.
+     * @since 4.0.0
+     */
+    public DefaultModelBuildingRequest setDescriptorBuilding(boolean descriptorBuilding) {
+        this.descriptorBuilding = descriptorBuilding;
+
+        return this;
+    }
+
     @Override
     public List<Profile> getProfiles() {
         if (profiles == null) {
@@ -114,6 +114,11 @@ public FilterModelBuildingRequest setLocationTracking(boolean locationTracking)
         return this;
     }
 
+    @Override
+    public boolean isDescriptorBuilding() {
+        return request.isDescriptorBuilding();
+    }
+
     @Override
     public List<Profile> getProfiles() {
         return request.getProfiles();
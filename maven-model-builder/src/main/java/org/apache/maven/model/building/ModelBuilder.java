@@ -59,4 +59,17 @@ Result<? extends Model> buildRawModel(
             File pomFile, int validationLevel, boolean locationTracking, TransformerContext context);
 
     TransformerContextBuilder newTransformerContextBuilder();
+
+    /**
+     * Reads the file model of the specified POM into the model cache of the request, so that a later build of the POM
+     * with the same cache does not need to read it again. As problems are not cached, the model is only stored if it
+     * could be read and validated without any problem, otherwise the build will read it again and report them.
+     *
+     * @param request The model building request that holds the POM and the model cache, must not be {@code null}.
+     * @return {@code true} if the file model has been stored in the cache, {@code false} otherwise.
+     * @since 4.0.0
+     */
+    default boolean preloadFileModel(ModelBuildingRequest request) {
+        return false;
+    }
 }
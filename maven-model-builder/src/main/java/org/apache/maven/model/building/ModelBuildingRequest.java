@@ -206,6 +206,19 @@ public interface ModelBuildingRequest {
      */
     ModelBuildingRequest setLocationTracking(boolean locationTracking);
 
+    /**
+     * Indicates whether only the parts of the model needed by an artifact descriptor should be built. If enabled, the
+     * {@code build} and {@code reporting} sections of the POMs are not read and plugin processing is skipped, so that the
+     * effective model only provides the dependencies, dependency management, repositories, relocation and properties.
+     * The models read this way are cached separately from the complete ones.
+     *
+     * @return {@code true} if only the artifact descriptor is built, {@code false} to build the complete model.
+     * @since 4.0.0
+     */
+    default boolean isDescriptorBuilding() {
+        return false;
+    }
+
     /**
      * Gets the external profiles that should be considered for model building.
      *
@@ -141,6 +141,33 @@ default <T> T computeIfAbsent(Source path, ModelCacheTag<T> tag, Supplier<Suppli
         return (obj != null) ? tag.fromCache(tag.getType().cast(obj)) : null;
     }
 
+    /**
+     * Gets the data of the specified tag which is not specific to a model but shared by all the models built with this
+     * cache, computing it first if absent. Caches which cannot hold such data compute it on each call.
+     *
+     * @param tag The tag of the cache record, must not be {@code null}.
+     * @param data The supplier of the data, must not be {@code null}.
+     * @return The cached or computed data.
+     * @since 4.0.0
+     */
+    default Object computeIfAbsent(String tag, Supplier<Supplier<?>> data) {
+        return data.get().get();
+    }
+
+    /**
+     * Gets the data of the specified tag which is not specific to a model but shared by all the models built with this
+     * cache, computing it first if absent.
+     *
+     * @param tag The tag of the cache record, must not be {@code null}.
+     * @param data The supplier of the data, must not be {@code null}.
+     * @return The cached or computed data.
+     * @since 4.0.0
+     */
+    default <T> T computeIfAbsent(ModelCacheTag<T> tag, Supplier<Supplier<T>> data) {
+        Object obj = computeIfAbsent(tag.getName(), (Supplier) data);
+        return (obj != null) ? tag.fromCache(tag.getType().cast(obj)) : null;
+    }
+
     Object computeIfAbsent(String groupId, String artifactId, String version, String tag, Supplier<Supplier<?>> data);
 
     Object computeIfAbsent(Source path, String tag, Supplier<Supplier<?>> data);
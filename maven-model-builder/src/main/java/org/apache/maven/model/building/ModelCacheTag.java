@@ -18,6 +18,8 @@
  */
 package org.apache.maven.model.building;
 
+import java.util.Map;
+
 import org.apache.maven.api.model.DependencyManagement;
 import org.apache.maven.api.model.Model;
 
@@ -113,6 +115,33 @@ public DependencyManagement fromCache(DependencyManagement data) {
         }
     };
 
+    /**
+     * The tag used for the profile activation outcomes shared by all the models built with the same cache.
+     * @since 4.0.0
+     */
+    ModelCacheTag<Map<Object, Boolean>> ACTIVATION = new ModelCacheTag<Map<Object, Boolean>>() {
+        @Override
+        public String getName() {
+            return "activation";
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Class<Map<Object, Boolean>> getType() {
+            return (Class) Map.class;
+        }
+
+        @Override
+        public Map<Object, Boolean> intoCache(Map<Object, Boolean> data) {
+            return data;
+        }
+
+        @Override
+        public Map<Object, Boolean> fromCache(Map<Object, Boolean> data) {
+            return data;
+        }
+    };
+
     /**
      * The tag used for the file model without profile activation
      * @since 4.0.0
@@ -138,4 +167,56 @@ public Model fromCache(Model data) {
             return data;
         }
     };
+
+    /**
+     * The tag used for the file model read for an artifact descriptor, which lacks the build and reporting sections.
+     * @since 4.0.0
+     */
+    ModelCacheTag<Model> DESCRIPTOR_FILE = new ModelCacheTag<Model>() {
+        @Override
+        public String getName() {
+            return "descriptor-file";
+        }
+
+        @Override
+        public Class<Model> getType() {
+            return Model.class;
+        }
+
+        @Override
+        public Model intoCache(Model data) {
+            return data;
+        }
+
+        @Override
+        public Model fromCache(Model data) {
+            return data;
+        }
+    };
+
+    /**
+     * The tag used for the raw model read for an artifact descriptor, which lacks the build and reporting sections.
+     * @since 4.0.0
+     */
+    ModelCacheTag<ModelData> DESCRIPTOR_RAW = new ModelCacheTag<ModelData>() {
+        @Override
+        public String getName() {
+            return "descriptor-raw";
+        }
+
+        @Override
+        public Class<ModelData> getType() {
+            return ModelData.class;
+        }
+
+        @Override
+        public ModelData intoCache(ModelData data) {
+            return data;
+        }
+
+        @Override
+        public ModelData fromCache(ModelData data) {
+            return data;
+        }
+    };
 }
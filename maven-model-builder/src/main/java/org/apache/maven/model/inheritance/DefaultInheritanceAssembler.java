@@ -197,15 +197,20 @@ protected void mergeModelBase_Properties(
                 ModelBase source,
                 boolean sourceDominant,
                 Map<Object, Object> context) {
-            Map<String, String> merged = new HashMap<>();
-            if (sourceDominant) {
-                merged.putAll(target.getProperties());
-                putAll(merged, source.getProperties(), CHILD_DIRECTORY_PROPERTY);
+            if (target.getProperties().isEmpty() && !source.getProperties().containsKey(CHILD_DIRECTORY_PROPERTY)) {
+                // nothing to override, share the properties of the parent
+                builder.properties(source.getProperties());
             } else {
-                putAll(merged, source.getProperties(), CHILD_DIRECTORY_PROPERTY);
-                merged.putAll(target.getProperties());
+                Map<String, String> merged = new HashMap<>();
+                if (sourceDominant) {
+                    merged.putAll(target.getProperties());
+                    putAll(merged, source.getProperties(), CHILD_DIRECTORY_PROPERTY);
+                } else {
+                    putAll(merged, source.getProperties(), CHILD_DIRECTORY_PROPERTY);
+                    merged.putAll(target.getProperties());
+                }
+                builder.properties(merged);
             }
-            builder.properties(merged);
             builder.location(
                     "properties",
                     InputLocation.merge(
@@ -237,6 +242,9 @@ protected void mergePluginContainer_Plugins(
                         // NOTE: Enforce recursive merge to trigger merging/inheritance logic for executions
                         Plugin plugin = Plugin.newInstance(false);
                         plugin = mergePlugin(plugin, element, sourceDominant, context);
+                        if (isSamePlugin(plugin, element)) {
+                            plugin = element;
+                        }
 
                         Object key = getPluginKey().apply(plugin);
 
@@ -273,8 +281,20 @@ protected void mergePluginContainer_Plugins(
                 }
                 result.addAll(pending);
 
-                builder.plugins(result);
+                builder.plugins(tgt.isEmpty() && isSameList(result, src) ? src : result);
+            }
+        }
+
+        private static <T> boolean isSameList(List<T> a, List<T> b) {
+            if (a.size() != b.size()) {
+                return false;
+            }
+            for (int i = 0; i < a.size(); i++) {
+                if (a.get(i) != b.get(i)) {
+                    return false;
+                }
             }
+            return true;
         }
 
         @Override
@@ -310,6 +330,9 @@ protected void mergeReporting_Plugins(
                         // NOTE: Enforce recursive merge to trigger merging/inheritance logic for executions as well
                         ReportPlugin plugin = ReportPlugin.newInstance(false);
                         plugin = mergeReportPlugin(plugin, element, sourceDominant, context);
+                        if (isSameReportPlugin(plugin, element)) {
+                            plugin = element;
+                        }
 
                         merged.put(getReportPluginKey().apply(element), plugin);
                     }
@@ -324,7 +347,8 @@ protected void mergeReporting_Plugins(
                     merged.put(key, element);
                 }
 
-                builder.plugins(merged.values());
+                List<ReportPlugin> result = new ArrayList<>(merged.values());
+                builder.plugins(tgt.isEmpty() && isSameList(result, src) ? src : result);
             }
         }
     }
@@ -216,6 +216,24 @@ public Object getValue(String expression) {
         return valueSources;
     }
 
+    /**
+     * Tells whether the given expression can only be answered by the user, model or system properties of
+     * {@link #createValueSources(Model, File, ModelBuildingRequest, ModelProblemCollector)}, i.e. none of the value
+     * sources that take precedence over them nor any of the post processors applies to it.
+     *
+     * @param expression the expression to check, must not be {@code null}
+     * @return {@code true} if a properties lookup gives the same answer as the full value source chain
+     */
+    static boolean isPropertyExpression(String expression) {
+        return !expression.startsWith(PREFIX_PROJECT)
+                && !expression.startsWith(PREFIX_POM)
+                && !"basedir".equals(expression)
+                && !expression.startsWith("basedir.")
+                && !"build.timestamp".equals(expression)
+                && !"maven.build.timestamp".equals(expression)
+                && !TRANSLATED_PATH_EXPRESSIONS.contains(expression);
+    }
+
     protected List<? extends InterpolationPostProcessor> createPostProcessors(
             final Model model, final File projectDir, final ModelBuildingRequest config) {
         List<InterpolationPostProcessor> processors = new ArrayList<>(2);
@@ -23,12 +23,17 @@
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.apache.maven.api.model.Model;
 import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelCache;
 import org.apache.maven.model.building.ModelProblem.Severity;
 import org.apache.maven.model.building.ModelProblem.Version;
 import org.apache.maven.model.building.ModelProblemCollector;
@@ -57,6 +62,8 @@ public StringVisitorModelInterpolator(
         super(pathTranslator, urlNormalizer, rootLocator);
     }
 
+    private static final String TEMPLATES = "templates";
+
     interface InnerInterpolator {
         String interpolate(String value);
     }
@@ -67,17 +74,20 @@ public Model interpolateModel(
         List<? extends ValueSource> valueSources = createValueSources(model, projectDir, config, problems);
         List<? extends InterpolationPostProcessor> postProcessors = createPostProcessors(model, projectDir, config);
 
-        InnerInterpolator innerInterpolator = createInterpolator(valueSources, postProcessors, problems, config);
+        InnerInterpolator innerInterpolator = createInterpolator(model, valueSources, postProcessors, problems, config);
 
         return new MavenTransformer(innerInterpolator::interpolate).visit(model);
     }
 
     private InnerInterpolator createInterpolator(
+            Model model,
             List<? extends ValueSource> valueSources,
             List<? extends InterpolationPostProcessor> postProcessors,
             final ModelProblemCollector problems,
             ModelBuildingRequest config) {
         final Map<String, String> cache = new HashMap<>();
+        final Map<String, Template> templates = getTemplates(config);
+        final Function<String, String> properties = propertyLookup(model, config);
         final StringSearchInterpolator interpolator = new StringSearchInterpolator();
         interpolator.setCacheAnswers(true);
         for (ValueSource vs : valueSources) {
@@ -91,12 +101,15 @@ private InnerInterpolator createInterpolator(
             if (value != null && value.contains("${")) {
                 String c = cache.get(value);
                 if (c == null) {
-                    try {
-                        c = interpolator.interpolate(value, recursionInterceptor);
-                    } catch (InterpolationException e) {
-                        problems.add(new ModelProblemCollectorRequest(Severity.ERROR, Version.BASE)
-                                .setMessage(e.getMessage())
-                                .setException(e));
+                    c = templates.computeIfAbsent(value, Template::parse).render(properties);
+                    if (c == null) {
+                        try {
+                            c = interpolator.interpolate(value, recursionInterceptor);
+                        } catch (InterpolationException e) {
+                            problems.add(new ModelProblemCollectorRequest(Severity.ERROR, Version.BASE)
+                                    .setMessage(e.getMessage())
+                                    .setException(e));
+                        }
                     }
                     cache.put(value, c);
                 }
@@ -105,4 +118,114 @@ private InnerInterpolator createInterpolator(
             return value;
         };
     }
+
+    /**
+     * Gets the parsed templates, shared by all the models built with the same model cache.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Template> getTemplates(ModelBuildingRequest config) {
+        ModelCache modelCache = config.getModelCache();
+        if (modelCache != null) {
+            return (Map<String, Template>) modelCache.computeIfAbsent(TEMPLATES, () -> {
+                Map<String, Template> templates = new ConcurrentHashMap<>();
+                return () -> templates;
+            });
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Creates a lookup answering the project coordinates and the plain property expressions the same way the value
+     * sources would, i.e. from the model itself, then from the user, model and system properties in that order.
+     * Expressions the lookup cannot answer, or whose value needs to be interpolated in turn, yield {@code null} and
+     * are left to the full interpolator.
+     */
+    private static Function<String, String> propertyLookup(Model model, ModelBuildingRequest config) {
+        Properties userProperties = config.getUserProperties();
+        Map<String, String> modelProperties = model.getProperties();
+        Properties systemProperties = config.getSystemProperties();
+        return expression -> {
+            if (!isPropertyExpression(expression)) {
+                String value = getCoordinate(model, expression);
+                return value != null && !value.contains("${") ? value : null;
+            }
+            Object value = userProperties.get(expression);
+            if (value == null) {
+                value = modelProperties.get(expression);
+            }
+            if (value == null) {
+                value = systemProperties.get(expression);
+            }
+            if (value == null) {
+                return null;
+            }
+            String s = String.valueOf(value);
+            return s.contains("${") ? null : s;
+        };
+    }
+
+    private static String getCoordinate(Model model, String expression) {
+        switch (expression) {
+            case "project.groupId":
+                return model.getGroupId();
+            case "project.artifactId":
+                return model.getArtifactId();
+            case "project.version":
+                return model.getVersion();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * A string split once into its literal parts and the expressions in between, following the same rules as
+     * {@link StringSearchInterpolator}: an expression starts with <code>${</code> and ends with the next
+     * <code>}</code>, and an unterminated expression is kept as a literal.
+     */
+    static final class Template {
+        private final String[] literals;
+
+        private final String[] expressions;
+
+        private Template(String[] literals, String[] expressions) {
+            this.literals = literals;
+            this.expressions = expressions;
+        }
+
+        static Template parse(String input) {
+            List<String> literals = new ArrayList<>();
+            List<String> expressions = new ArrayList<>();
+            int from = 0;
+            int start;
+            while ((start = input.indexOf("${", from)) >= 0) {
+                int end = input.indexOf('}', start + 1);
+                if (end < 0) {
+                    break;
+                }
+                literals.add(input.substring(from, start));
+                expressions.add(input.substring(start + 2, end));
+                from = end + 1;
+            }
+            literals.add(input.substring(from));
+            return new Template(literals.toArray(new String[0]), expressions.toArray(new String[0]));
+        }
+
+        /**
+         * Renders this template.
+         *
+         * @param lookup the lookup of the expressions
+         * @return the rendered string or {@code null} if one of the expressions could not be looked up
+         */
+        String render(Function<String, String> lookup) {
+            StringBuilder sb = new StringBuilder(literals[0]);
+            for (int i = 0; i < expressions.length; i++) {
+                String value = lookup.apply(expressions[i]);
+                if (value == null) {
+                    return null;
+                }
+                sb.append(value).append(literals[i + 1]);
+            }
+            return sb.toString();
+        }
+    }
 }
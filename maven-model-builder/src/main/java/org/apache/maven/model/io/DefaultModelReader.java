@@ -32,13 +32,18 @@
 import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.apache.maven.model.InputSource;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.building.ModelSourceTransformer;
 import org.apache.maven.model.v4.MavenStaxReader;
+import org.apache.maven.utils.StringInterner;
 
 /**
  * Handles deserialization of a model from some kind of textual format like XML.
@@ -47,6 +52,14 @@
 @Named
 @Singleton
 public class DefaultModelReader implements ModelReader {
+    private static final List<String> DESCRIPTOR_SKIPPED_ELEMENTS = Arrays.asList("build", "reporting");
+
+    /**
+     * The elements whose values are repeated across many models and are shared through the {@link StringInterner}.
+     */
+    private static final Set<String> INTERNED_ELEMENTS = new HashSet<>(
+            Arrays.asList("groupId", "artifactId", "version", "packaging", "type", "classifier", "scope"));
+
     private final ModelSourceTransformer transformer;
 
     @Inject
@@ -90,6 +103,11 @@ private boolean isStrict(Map<String, ?> options) {
         return value == null || Boolean.parseBoolean(value.toString());
     }
 
+    private boolean isDescriptor(Map<String, ?> options) {
+        Object value = (options != null) ? options.get(DESCRIPTOR) : null;
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
     private InputSource getSource(Map<String, ?> options) {
         Object value = (options != null) ? options.get(INPUT_SOURCE) : null;
         return (InputSource) value;
@@ -100,16 +118,31 @@ private Path getRootDirectory(Map<String, ?> options) {
         return (Path) value;
     }
 
+    private MavenStaxReader newStaxReader(Map<String, ?> options) {
+        MavenStaxReader mr = new MavenStaxReader(DefaultModelReader::intern);
+        if (isDescriptor(options)) {
+            mr.setAddLocationInformation(false);
+            mr.setSkippedElements(DESCRIPTOR_SKIPPED_ELEMENTS);
+        } else {
+            mr.setAddLocationInformation(getSource(options) != null);
+        }
+        return mr;
+    }
+
+    private static String intern(String value, String element) {
+        // the reader trims values anyway, trimming first lets padded values share the canonical instance too
+        return value != null && INTERNED_ELEMENTS.contains(element) ? StringInterner.intern(value.trim()) : value;
+    }
+
     private Model read(InputStream input, Path pomFile, Map<String, ?> options) throws IOException {
         try {
             XMLInputFactory factory = new com.ctc.wstx.stax.WstxInputFactory();
             factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
             XMLStreamReader parser = factory.createXMLStreamReader(input);
 
-            InputSource source = getSource(options);
             boolean strict = isStrict(options);
-            MavenStaxReader mr = new MavenStaxReader();
-            mr.setAddLocationInformation(source != null);
+            MavenStaxReader mr = newStaxReader(options);
+            InputSource source = isDescriptor(options) ? null : getSource(options);
             Model model = new Model(mr.read(parser, strict, source != null ? source.toApiSource() : null));
             return model;
         } catch (XMLStreamException e) {
@@ -130,10 +163,9 @@ private Model read(Reader reader, Path pomFile, Map<String, ?> options) throws I
             factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
             XMLStreamReader parser = factory.createXMLStreamReader(reader);
 
-            InputSource source = getSource(options);
             boolean strict = isStrict(options);
-            MavenStaxReader mr = new MavenStaxReader();
-            mr.setAddLocationInformation(source != null);
+            MavenStaxReader mr = newStaxReader(options);
+            InputSource source = isDescriptor(options) ? null : getSource(options);
             Model model = new Model(mr.read(parser, strict, source != null ? source.toApiSource() : null));
             return model;
         } catch (XMLStreamException e) {
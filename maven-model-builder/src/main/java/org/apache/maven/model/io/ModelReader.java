@@ -45,6 +45,16 @@ public interface ModelReader {
      */
     String INPUT_SOURCE = "org.apache.maven.model.io.inputSource";
 
+    /**
+     * The key for the option to read the model for dependency resolution only. This option is of type
+     * {@link Boolean} and defaults to {@code false}. If {@code true}, the {@code build} and {@code reporting}
+     * sections (including the plugin configurations they hold) are skipped without being parsed into the model
+     * and no location is tracked.
+     *
+     * @since 4.0.0
+     */
+    String DESCRIPTOR = "org.apache.maven.model.io.descriptor";
+
     /**
      * Name of the property used to store the project's root directory to use with
      * XInclude support.
@@ -293,7 +293,7 @@ protected void mergeModelBase_Repositories(
                 }
             }
 
-            builder.repositories(merged.values());
+            builder.repositories(tgt.isEmpty() && merged.size() == src.size() ? src : merged.values());
         }
     }
 
@@ -330,7 +330,7 @@ protected void mergeModelBase_PluginRepositories(
                 }
             }
 
-            builder.pluginRepositories(merged.values());
+            builder.pluginRepositories(tgt.isEmpty() && merged.size() == src.size() ? src : merged.values());
         }
     }
 
@@ -542,7 +542,7 @@ protected void mergePlugin_Executions(
                 merged.put(key, element);
             }
 
-            builder.executions(merged.values());
+            builder.executions(tgt.isEmpty() && merged.size() == src.size() ? src : merged.values());
         }
     }
 
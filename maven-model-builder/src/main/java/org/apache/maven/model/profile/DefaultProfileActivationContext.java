@@ -45,6 +45,8 @@ public class DefaultProfileActivationContext implements ProfileActivationContext
 
     private File projectDirectory;
 
+    private Map<Object, Boolean> activationCache;
+
     @Override
     public List<String> getActiveProfileIds() {
         return activeProfileIds;
@@ -170,6 +172,24 @@ public DefaultProfileActivationContext setProjectProperties(Map<String, String>
         return this;
     }
 
+    @Override
+    public Map<Object, Boolean> getActivationCache() {
+        return activationCache;
+    }
+
+    /**
+     * Sets the cache in which the profile selector remembers the outcome of the activations.
+     *
+     * @param activationCache The activation cache, must be thread-safe, may be {@code null} to disable caching.
+     * @return This context, never {@code null}.
+     * @since 4.0.0
+     */
+    public DefaultProfileActivationContext setActivationCache(Map<Object, Boolean> activationCache) {
+        this.activationCache = activationCache;
+
+        return this;
+    }
+
     private static List<String> unmodifiable(List<String> list) {
         return list != null ? Collections.unmodifiableList(list) : Collections.emptyList();
     }
@@ -23,27 +23,44 @@
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.maven.model.Activation;
+import org.apache.maven.model.ActivationOS;
+import org.apache.maven.model.ActivationProperty;
 import org.apache.maven.model.Profile;
 import org.apache.maven.model.building.ModelProblem.Severity;
 import org.apache.maven.model.building.ModelProblem.Version;
 import org.apache.maven.model.building.ModelProblemCollector;
 import org.apache.maven.model.building.ModelProblemCollectorRequest;
+import org.apache.maven.model.profile.activation.FileProfileActivator;
+import org.apache.maven.model.profile.activation.JdkVersionProfileActivator;
+import org.apache.maven.model.profile.activation.OperatingSystemProfileActivator;
 import org.apache.maven.model.profile.activation.ProfileActivator;
+import org.apache.maven.model.profile.activation.PropertyProfileActivator;
 
 /**
  * Calculates the active profiles among a given collection of profiles.
- *
+ * <p>
+ * When the context provides an {@link ProfileActivationContext#getActivationCache() activation cache}, the outcome of
+ * an activation only checked by the jdk, os and property activators of this package is remembered for the activations
+ * having the same conditions and the same values of the properties they depend on. Outcomes for which problems were
+ * reported are not remembered. File activations depend on the interpolated path of their file, so they are checked
+ * every time, the {@link FileProfileActivator} only caching the existence of the files.
  */
 @Named
 @Singleton
 public class DefaultProfileSelector implements ProfileSelector {
 
+    private static final Set<Class<?>> CACHEABLE_ACTIVATORS = new HashSet<>(Arrays.asList(
+            JdkVersionProfileActivator.class, OperatingSystemProfileActivator.class, PropertyProfileActivator.class));
+
     private final List<ProfileActivator> activators;
 
     public DefaultProfileSelector() {
@@ -109,6 +126,23 @@ public List<Profile> getActiveProfiles(
     }
 
     private boolean isActive(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
+        Map<Object, Boolean> cache = context.getActivationCache();
+        if (cache == null || !isCacheable(profile, context, problems)) {
+            return evaluate(profile, context, problems);
+        }
+        Object key = getCacheKey(profile.getActivation(), context);
+        Boolean active = cache.get(key);
+        if (active == null) {
+            ProblemCountingCollector counter = new ProblemCountingCollector(problems);
+            active = evaluate(profile, context, counter);
+            if (counter.count == 0) {
+                cache.put(key, active);
+            }
+        }
+        return active;
+    }
+
+    private boolean evaluate(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
         boolean isActive = false;
         for (ProfileActivator activator : activators) {
             if (activator.presentInConfig(profile, context, problems)) {
@@ -129,8 +163,67 @@ private boolean isActive(Profile profile, ProfileActivationContext context, Mode
         return isActive;
     }
 
+    /**
+     * Tells whether the activation of the given profile is only checked by the activators of this package, whose
+     * outcomes only depend on the inputs of {@link #getCacheKey(Activation, ProfileActivationContext)}.
+     */
+    private boolean isCacheable(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
+        if (profile.getActivation() == null) {
+            return false;
+        }
+        for (ProfileActivator activator : activators) {
+            if (!CACHEABLE_ACTIVATORS.contains(activator.getClass())
+                    && activator.presentInConfig(profile, context, problems)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object getCacheKey(Activation activation, ProfileActivationContext context) {
+        ActivationOS os = activation.getOs();
+        ActivationProperty property = activation.getProperty();
+        return Arrays.asList(
+                activation.getJdk(),
+                activation.getJdk() != null ? context.getSystemProperties().get("java.version") : null,
+                os != null ? Arrays.asList(os.getFamily(), os.getName(), os.getArch(), os.getVersion()) : null,
+                property != null ? getPropertyKey(property, context) : null);
+    }
+
+    private static Object getPropertyKey(ActivationProperty property, ProfileActivationContext context) {
+        String name = property.getName();
+        if (name != null && name.startsWith("!")) {
+            name = name.substring(1);
+        }
+        String value = name != null ? context.getUserProperties().get(name) : null;
+        if (value == null && name != null) {
+            value = context.getSystemProperties().get(name);
+        }
+        return Arrays.asList(property.getName(), property.getValue(), value);
+    }
+
     private boolean isActiveByDefault(Profile profile) {
         Activation activation = profile.getActivation();
         return activation != null && activation.isActiveByDefault();
     }
+
+    /**
+     * Counts the problems reported while checking an activation, to only remember the outcomes of valid activations.
+     */
+    private static final class ProblemCountingCollector implements ModelProblemCollector {
+
+        private final ModelProblemCollector delegate;
+
+        private int count;
+
+        ProblemCountingCollector(ModelProblemCollector delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void add(ModelProblemCollectorRequest req) {
+            count++;
+            delegate.add(req);
+        }
+    }
 }
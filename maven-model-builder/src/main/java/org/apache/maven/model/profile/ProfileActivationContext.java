@@ -78,4 +78,16 @@ public interface ProfileActivationContext {
      * @return The project properties, never {@code null}.
      */
     Map<String, String> getProjectProperties();
+
+    /**
+     * Gets the cache in which the profile selector and activators remember the outcome of the activations across all
+     * the models built in the same session, like whether a file exists. A cached outcome must only depend on its key and on
+     * state that does not change during the session.
+     *
+     * @return The activation cache or {@code null} if outcomes should not be cached.
+     * @since 4.0.0
+     */
+    default Map<Object, Boolean> getActivationCache() {
+        return null;
+    }
 }
@@ -23,6 +23,8 @@
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.Map;
 
 import org.apache.maven.model.Activation;
 import org.apache.maven.model.ActivationFile;
@@ -39,6 +41,10 @@
  * Determines profile activation based on the existence/absence of some file.
  * File name interpolation support is limited to <code>${project.basedir}</code>
  * system properties and user properties.
+ * <p>
+ * When the context provides an {@link ProfileActivationContext#getActivationCache() activation cache}, the existence
+ * of a file is checked once per absolute path, so that the modules whose activations point to the same file after
+ * interpolation share the outcome.
  *
  * @see ActivationFile
  * @see org.apache.maven.model.validation.DefaultModelValidator#validateRawModel
@@ -102,11 +108,19 @@ public boolean isActive(Profile profile, ProfileActivationContext context, Model
             return false;
         }
 
-        boolean fileExists = f.exists();
+        boolean fileExists = exists(f, context);
 
         return missing != fileExists;
     }
 
+    private static boolean exists(File file, ProfileActivationContext context) {
+        Map<Object, Boolean> cache = context.getActivationCache();
+        if (cache == null) {
+            return file.exists();
+        }
+        return cache.computeIfAbsent(new FileKey(file.toPath().normalize()), k -> file.exists());
+    }
+
     @Override
     public boolean presentInConfig(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
         Activation activation = profile.getActivation();
@@ -119,4 +133,25 @@ public boolean presentInConfig(Profile profile, ProfileActivationContext context
 
         return file != null;
     }
+
+    /**
+     * The key of the existence of a file in the activation cache.
+     */
+    private static final class FileKey {
+        private final Path path;
+
+        FileKey(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FileKey && path.equals(((FileKey) o).path);
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode();
+        }
+    }
 }
@@ -23,6 +23,7 @@
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,8 +32,6 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.maven.api.model.Activation;
 import org.apache.maven.api.model.ActivationFile;
@@ -71,8 +70,17 @@ public class DefaultModelValidator implements ModelValidator {
     public static final List<String> VALID_MODEL_VERSIONS =
             Collections.unmodifiableList(Arrays.asList("4.0.0", "4.1.0"));
 
-    private static final Pattern EXPRESSION_NAME_PATTERN = Pattern.compile("\\$\\{(.+?)}");
-    private static final Pattern EXPRESSION_PROJECT_NAME_PATTERN = Pattern.compile("\\$\\{(project.+?)}");
+    private static final String EXPRESSION_START = "${";
+    private static final String EXPRESSION_PROJECT_START = "${project";
+
+    private static final List<String> DEPENDENCY_SCOPES =
+            Collections.unmodifiableList(Arrays.asList("provided", "compile", "runtime", "test", "system"));
+
+    private static final List<String> MANAGED_DEPENDENCY_SCOPES =
+            Collections.unmodifiableList(Arrays.asList("provided", "compile", "runtime", "test", "system", "import"));
+
+    private static final List<String> PLUGIN_DEPENDENCY_SCOPES =
+            Collections.unmodifiableList(Arrays.asList("compile", "runtime", "system"));
 
     private static final String ILLEGAL_FS_CHARS = "\\/:\"<>|?*";
 
@@ -82,10 +90,6 @@ public class DefaultModelValidator implements ModelValidator {
 
     private static final String EMPTY = "";
 
-    private final Set<String> validCoordinateIds = new HashSet<>();
-
-    private final Set<String> validProfileIds = new HashSet<>();
-
     private final ModelVersionProcessor versionProcessor;
 
     @Inject
@@ -167,14 +171,15 @@ public void validateFileModel(Model ma, ModelBuildingRequest request, ModelProbl
                 validateStringNotEmpty("version", problems, Severity.FATAL, Version.V20, m.getVersion(), m);
             }
 
-            validate20RawDependencies(problems, m.getDependencies(), "dependencies.dependency.", EMPTY, request);
+            List<Dependency> selfReferences = validate20RawDependencies(
+                    problems, m, m.getDependencies(), "dependencies.dependency.", EMPTY, request);
 
-            validate20RawDependenciesSelfReferencing(
-                    problems, m, m.getDependencies(), "dependencies.dependency", request);
+            validate20RawDependenciesSelfReferencing(problems, selfReferences, "dependencies.dependency");
 
             if (m.getDependencyManagement() != null) {
                 validate20RawDependencies(
                         problems,
+                        null,
                         m.getDependencyManagement().getDependencies(),
                         "dependencyManagement.dependencies.dependency.",
                         EMPTY,
@@ -218,11 +223,12 @@ public void validateFileModel(Model ma, ModelBuildingRequest request, ModelProbl
                 validate30RawProfileActivation(problems, profile.getActivation(), prefix);
 
                 validate20RawDependencies(
-                        problems, profile.getDependencies(), prefix, "dependencies.dependency.", request);
+                        problems, null, profile.getDependencies(), prefix, "dependencies.dependency.", request);
 
                 if (profile.getDependencyManagement() != null) {
                     validate20RawDependencies(
                             problems,
+                            null,
                             profile.getDependencyManagement().getDependencies(),
                             prefix,
                             "dependencyManagement.dependencies.dependency.",
@@ -267,16 +273,18 @@ public void validateRawModel(Model ma, ModelBuildingRequest request, ModelProble
 
         validateModelVersion(problems, m.getModelVersion(), m, VALID_MODEL_VERSIONS);
 
-        String minVersion = new MavenModelVersion().getModelVersion(m);
-        if (m.getModelVersion() != null && compareModelVersions(minVersion, m.getModelVersion()) > 0) {
-            addViolation(
-                    problems,
-                    Severity.FATAL,
-                    Version.V40,
-                    "model",
-                    null,
-                    "the model contains elements that require a model version of " + minVersion,
-                    m);
+        if (m.getModelVersion() != null) {
+            String minVersion = new MavenModelVersion().getModelVersion(m);
+            if (compareModelVersions(minVersion, m.getModelVersion()) > 0) {
+                addViolation(
+                        problems,
+                        Severity.FATAL,
+                        Version.V40,
+                        "model",
+                        null,
+                        "the model contains elements that require a model version of " + minVersion,
+                        m);
+            }
         }
 
         Parent parent = m.getParent();
@@ -308,20 +316,25 @@ private void validate30RawProfileActivation(ModelProblemCollector problems, Acti
         }
 
         if (hasProjectExpression(path)) {
-            Matcher matcher = EXPRESSION_PROJECT_NAME_PATTERN.matcher(path);
-            while (matcher.find()) {
-                String propertyName = matcher.group(0);
-                if (!"${project.basedir}".equals(propertyName)) {
-                    addViolation(
-                            problems,
-                            Severity.WARNING,
-                            Version.V30,
-                            prefix + "activation.file." + location,
-                            null,
-                            "Failed to interpolate file location " + path + ": " + propertyName
-                                    + " expressions are not supported during profile activation.",
-                            file.getLocation(location));
+            int start = path.indexOf(EXPRESSION_PROJECT_START);
+            while (start >= 0) {
+                int end = findExpressionEnd(path, start, EXPRESSION_PROJECT_START.length());
+                if (end >= 0) {
+                    String propertyName = path.substring(start, end + 1);
+                    if (!"${project.basedir}".equals(propertyName)) {
+                        addViolation(
+                                problems,
+                                Severity.WARNING,
+                                Version.V30,
+                                prefix + "activation.file." + location,
+                                null,
+                                "Failed to interpolate file location " + path + ": " + propertyName
+                                        + " expressions are not supported during profile activation.",
+                                file.getLocation(location));
+                    }
+                    start = end;
                 }
+                start = path.indexOf(EXPRESSION_PROJECT_START, start + 1);
             }
         }
     }
@@ -480,6 +493,8 @@ public void validateEffectiveModel(Model ma, ModelBuildingRequest request, Model
             Build build = m.getBuild();
             if (build != null) {
                 for (Plugin p : build.getPlugins()) {
+                    String key = p.getKey();
+
                     validateStringNotEmpty(
                             "build.plugins.plugin.artifactId",
                             problems,
@@ -491,8 +506,7 @@ public void validateEffectiveModel(Model ma, ModelBuildingRequest request, Model
                     validateStringNotEmpty(
                             "build.plugins.plugin.groupId", problems, Severity.ERROR, Version.V20, p.getGroupId(), p);
 
-                    validate20PluginVersion(
-                            "build.plugins.plugin.version", problems, p.getVersion(), p.getKey(), p, request);
+                    validate20PluginVersion("build.plugins.plugin.version", problems, p.getVersion(), key, p, request);
 
                     validateBoolean(
                             "build.plugins.plugin.inherited",
@@ -501,7 +515,7 @@ public void validateEffectiveModel(Model ma, ModelBuildingRequest request, Model
                             errOn30,
                             Version.V20,
                             p.getInherited(),
-                            p.getKey(),
+                            key,
                             p);
 
                     validateBoolean(
@@ -511,10 +525,10 @@ public void validateEffectiveModel(Model ma, ModelBuildingRequest request, Model
                             errOn30,
                             Version.V20,
                             p.getExtensions(),
-                            p.getKey(),
+                            key,
                             p);
 
-                    validate20EffectivePluginDependencies(problems, p, request);
+                    validate20EffectivePluginDependencies(problems, p, key, request);
                 }
 
                 validate20RawResources(problems, build.getResources(), "build.resources.resource.", request);
@@ -576,8 +590,15 @@ public void validateEffectiveModel(Model ma, ModelBuildingRequest request, Model
         }
     }
 
-    private void validate20RawDependencies(
+    /**
+     * Validates the raw dependencies and, if a model is given, collects the dependencies referencing that model in the
+     * same loop over the dependencies. Each check still scans the values it needs on its own.
+     *
+     * @return the dependencies referencing the given model, never {@code null}
+     */
+    private List<Dependency> validate20RawDependencies(
             ModelProblemCollector problems,
+            org.apache.maven.api.model.Model m,
             List<Dependency> dependencies,
             String prefix,
             String prefix2,
@@ -587,9 +608,19 @@ private void validate20RawDependencies(
 
         Map<String, Dependency> index = new HashMap<>();
 
+        String mKey = m != null ? getModelKey(m) : null;
+        List<Dependency> selfReferences = null;
+
         for (Dependency dependency : dependencies) {
             String key = dependency.getManagementKey();
 
+            if (mKey != null && isSelfReference(mKey, dependency)) {
+                if (selfReferences == null) {
+                    selfReferences = new ArrayList<>();
+                }
+                selfReferences.add(dependency);
+            }
+
             if ("import".equals(dependency.getScope())) {
                 if (!"pom".equals(dependency.getType())) {
                     addViolation(
@@ -683,39 +714,64 @@ private void validate20RawDependencies(
                 index.put(key, dependency);
             }
         }
+
+        return selfReferences != null ? selfReferences : Collections.emptyList();
     }
 
     private void validate20RawDependenciesSelfReferencing(
-            ModelProblemCollector problems,
-            org.apache.maven.api.model.Model m,
-            List<Dependency> dependencies,
-            String prefix,
-            ModelBuildingRequest request) {
-        // We only check for groupId/artifactId/version/classifier cause if there is another
-        // module with the same groupId/artifactId/version/classifier this will fail the build
-        // earlier like "Project '...' is duplicated in the reactor.
-        // So it is sufficient to check only groupId/artifactId/version/classifier and not the
-        // packaging type.
-        for (Dependency dependency : dependencies) {
-            String key = dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion()
-                    + (dependency.getClassifier() != null ? ":" + dependency.getClassifier() : EMPTY);
-            String mKey = m.getGroupId() + ":" + m.getArtifactId() + ":" + m.getVersion();
-            if (key.equals(mKey)) {
-                // This means a module which is build has a dependency which has the same
-                // groupId, artifactId, version and classifier coordinates. This is in consequence
-                // a self reference or in other words a circular reference which can not being resolved.
-                addViolation(
-                        problems,
-                        Severity.FATAL,
-                        Version.V31,
-                        prefix + "[" + key + "]",
-                        key,
-                        "is referencing itself.",
-                        dependency);
-            }
+            ModelProblemCollector problems, List<Dependency> selfReferences, String prefix) {
+        for (Dependency dependency : selfReferences) {
+            String key = getSelfReferenceKey(dependency);
+            // This means a module which is build has a dependency which has the same
+            // groupId, artifactId, version and classifier coordinates. This is in consequence
+            // a self reference or in other words a circular reference which can not being resolved.
+            addViolation(
+                    problems,
+                    Severity.FATAL,
+                    Version.V31,
+                    prefix + "[" + key + "]",
+                    key,
+                    "is referencing itself.",
+                    dependency);
         }
     }
 
+    private static String getModelKey(org.apache.maven.api.model.Model m) {
+        return m.getGroupId() + ":" + m.getArtifactId() + ":" + m.getVersion();
+    }
+
+    private static String getSelfReferenceKey(Dependency d) {
+        return d.getGroupId() + ":" + d.getArtifactId() + ":" + d.getVersion()
+                + (d.getClassifier() != null ? ":" + d.getClassifier() : EMPTY);
+    }
+
+    /**
+     * Tells whether the <code>groupId:artifactId:version[:classifier]</code> key of the dependency equals the given
+     * <code>groupId:artifactId:version</code> key of the model, without building the dependency key.
+     * <p>
+     * We only check for groupId/artifactId/version/classifier cause if there is another
+     * module with the same groupId/artifactId/version/classifier this will fail the build
+     * earlier like "Project '...' is duplicated in the reactor.
+     * So it is sufficient to check only groupId/artifactId/version/classifier and not the
+     * packaging type.
+     */
+    private static boolean isSelfReference(String mKey, Dependency d) {
+        int offset = matchKeyPart(mKey, 0, String.valueOf(d.getGroupId()));
+        offset = matchKeyPart(mKey, offset, ":");
+        offset = matchKeyPart(mKey, offset, String.valueOf(d.getArtifactId()));
+        offset = matchKeyPart(mKey, offset, ":");
+        offset = matchKeyPart(mKey, offset, String.valueOf(d.getVersion()));
+        if (d.getClassifier() != null) {
+            offset = matchKeyPart(mKey, offset, ":");
+            offset = matchKeyPart(mKey, offset, d.getClassifier());
+        }
+        return offset == mKey.length();
+    }
+
+    private static int matchKeyPart(String key, int offset, String part) {
+        return offset >= 0 && key.regionMatches(offset, part, 0, part.length()) ? offset + part.length() : -1;
+    }
+
     private void validateEffectiveDependencies(
             ModelProblemCollector problems,
             org.apache.maven.api.model.Model m,
@@ -726,6 +782,8 @@ private void validateEffectiveDependencies(
 
         String prefix = management ? "dependencyManagement.dependencies.dependency." : "dependencies.dependency.";
 
+        String mKey = getModelKey(m);
+
         for (Dependency d : dependencies) {
             validateEffectiveDependency(problems, d, management, prefix, request);
 
@@ -750,13 +808,9 @@ private void validateEffectiveDependencies(
                             d.getScope(),
                             d.getManagementKey(),
                             d,
-                            "provided",
-                            "compile",
-                            "runtime",
-                            "test",
-                            "system");
+                            DEPENDENCY_SCOPES);
 
-                    validateEffectiveModelAgainstDependency(prefix, problems, m, d, request);
+                    validateEffectiveModelAgainstDependency(prefix, problems, mKey, d);
                 } else {
                     validateEnum(
                             prefix,
@@ -767,27 +821,16 @@ private void validateEffectiveDependencies(
                             d.getScope(),
                             d.getManagementKey(),
                             d,
-                            "provided",
-                            "compile",
-                            "runtime",
-                            "test",
-                            "system",
-                            "import");
+                            MANAGED_DEPENDENCY_SCOPES);
                 }
             }
         }
     }
 
     private void validateEffectiveModelAgainstDependency(
-            String prefix,
-            ModelProblemCollector problems,
-            org.apache.maven.api.model.Model m,
-            Dependency d,
-            ModelBuildingRequest request) {
-        String key = d.getGroupId() + ":" + d.getArtifactId() + ":" + d.getVersion()
-                + (d.getClassifier() != null ? ":" + d.getClassifier() : EMPTY);
-        String mKey = m.getGroupId() + ":" + m.getArtifactId() + ":" + m.getVersion();
-        if (key.equals(mKey)) {
+            String prefix, ModelProblemCollector problems, String mKey, Dependency d) {
+        if (isSelfReference(mKey, d)) {
+            String key = getSelfReferenceKey(d);
             // This means a module which is build has a dependency which has the same
             // groupId, artifactId, version and classifier coordinates. This is in consequence
             // a self reference or in other words a circular reference which can not being resolved.
@@ -797,11 +840,11 @@ private void validateEffectiveModelAgainstDependency(
     }
 
     private void validate20EffectivePluginDependencies(
-            ModelProblemCollector problems, Plugin plugin, ModelBuildingRequest request) {
+            ModelProblemCollector problems, Plugin plugin, String pluginKey, ModelBuildingRequest request) {
         List<Dependency> dependencies = plugin.getDependencies();
 
         if (!dependencies.isEmpty()) {
-            String prefix = "build.plugins.plugin[" + plugin.getKey() + "].dependencies.dependency.";
+            String prefix = "build.plugins.plugin[" + pluginKey + "].dependencies.dependency.";
 
             Severity errOn30 = getSeverity(request, ModelBuildingRequest.VALIDATION_LEVEL_MAVEN_3_0);
 
@@ -820,9 +863,7 @@ private void validate20EffectivePluginDependencies(
                         d.getScope(),
                         d.getManagementKey(),
                         d,
-                        "compile",
-                        "runtime",
-                        "system");
+                        PLUGIN_DEPENDENCY_SCOPES);
             }
         }
     }
@@ -972,29 +1013,37 @@ private void validateRawRepositories(
             validateStringNotEmpty(
                     prefix, prefix2, "id", problems, Severity.ERROR, Version.V20, repository.getId(), null, repository);
 
-            if (validateStringNotEmpty(
-                    prefix,
-                    prefix2,
-                    "[" + repository.getId() + "].url",
-                    problems,
-                    Severity.ERROR,
-                    Version.V20,
-                    repository.getUrl(),
-                    null,
-                    repository)) {
+            String url = repository.getUrl();
+            if (url == null || url.isEmpty()) {
+                validateStringNotEmpty(
+                        prefix,
+                        prefix2,
+                        "[" + repository.getId() + "].url",
+                        problems,
+                        Severity.ERROR,
+                        Version.V20,
+                        url,
+                        null,
+                        repository);
+            } else {
                 // only allow ${basedir} and ${project.basedir}
-                Matcher m = EXPRESSION_NAME_PATTERN.matcher(repository.getUrl());
-                while (m.find()) {
-                    if (!("basedir".equals(m.group(1)) || "project.basedir".equals(m.group(1)))) {
-                        validateStringNoExpression(
-                                prefix + prefix2 + "[" + repository.getId() + "].url",
-                                problems,
-                                Severity.ERROR,
-                                Version.V40,
-                                repository.getUrl(),
-                                repository);
-                        break;
+                int start = url.indexOf(EXPRESSION_START);
+                while (start >= 0) {
+                    int end = findExpressionEnd(url, start, EXPRESSION_START.length());
+                    if (end >= 0) {
+                        if (!(url.startsWith("basedir}", start + 2) || url.startsWith("project.basedir}", start + 2))) {
+                            validateStringNoExpression(
+                                    prefix + prefix2 + "[" + repository.getId() + "].url",
+                                    problems,
+                                    Severity.ERROR,
+                                    Version.V40,
+                                    url,
+                                    repository);
+                            break;
+                        }
+                        start = end;
                     }
+                    start = url.indexOf(EXPRESSION_START, start + 1);
                 }
             }
 
@@ -1107,9 +1156,6 @@ private boolean validateCoordinateId(
             String id,
             String sourceHint,
             InputLocationTracker tracker) {
-        if (validCoordinateIds.contains(id)) {
-            return true;
-        }
         if (!validateStringNotEmpty(prefix, fieldName, problems, severity, version, id, sourceHint, tracker)) {
             return false;
         } else {
@@ -1124,12 +1170,11 @@ private boolean validateCoordinateId(
                         tracker);
                 return false;
             }
-            validCoordinateIds.add(id);
             return true;
         }
     }
 
-    private boolean isValidCoordinateId(String id) {
+    private static boolean isValidCoordinateId(String id) {
         for (int i = 0; i < id.length(); i++) {
             char c = id.charAt(i);
             if (!isValidCoordinateIdCharacter(c)) {
@@ -1139,7 +1184,7 @@ private boolean isValidCoordinateId(String id) {
         return true;
     }
 
-    private boolean isValidCoordinateIdCharacter(char c) {
+    private static boolean isValidCoordinateIdCharacter(char c) {
         return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_' || c == '.';
     }
 
@@ -1153,9 +1198,6 @@ private boolean validateProfileId(
             String id,
             String sourceHint,
             InputLocationTracker tracker) {
-        if (validProfileIds.contains(id)) {
-            return true;
-        }
         if (!validateStringNotEmpty(prefix, fieldName, problems, severity, version, id, sourceHint, tracker)) {
             return false;
         } else {
@@ -1170,7 +1212,6 @@ private boolean validateProfileId(
                         tracker);
                 return false;
             }
-            validProfileIds.add(id);
             return true;
         }
     }
@@ -1263,21 +1304,27 @@ private boolean validateVersionNoExpression(
             return true;
         }
 
-        Matcher m = EXPRESSION_NAME_PATTERN.matcher(string.trim());
-        while (m.find()) {
-            String property = m.group(1);
-            if (!versionProcessor.isValidProperty(property)) {
-                addViolation(
-                        problems,
-                        severity,
-                        version,
-                        fieldName,
-                        null,
-                        "contains an expression but should be a constant.",
-                        tracker);
+        String trimmed = string.trim();
+        int start = trimmed.indexOf(EXPRESSION_START);
+        while (start >= 0) {
+            int end = findExpressionEnd(trimmed, start, EXPRESSION_START.length());
+            if (end >= 0) {
+                String property = trimmed.substring(start + EXPRESSION_START.length(), end);
+                if (!versionProcessor.isValidProperty(property)) {
+                    addViolation(
+                            problems,
+                            severity,
+                            version,
+                            fieldName,
+                            null,
+                            "contains an expression but should be a constant.",
+                            tracker);
 
-                return false;
+                    return false;
+                }
+                start = end;
             }
+            start = trimmed.indexOf(EXPRESSION_START, start + 1);
         }
 
         return true;
@@ -1291,6 +1338,29 @@ private boolean hasProjectExpression(String value) {
         return value != null && value.contains("${project.");
     }
 
+    /**
+     * Finds the end of the expression starting at the given index, matching like the <code>\$\{(prefix.+?)}</code>
+     * regular expression would: the expression ends with the first closing brace following at least one character
+     * after the prefix, and does not span lines.
+     *
+     * @param string the string to search
+     * @param start the index of the <code>${prefix</code> opening the expression
+     * @param openLength the length of the <code>${prefix</code> opening the expression
+     * @return the index of the closing brace or {@code -1} if the expression is not closed
+     */
+    private static int findExpressionEnd(String string, int start, int openLength) {
+        for (int i = start + openLength, n = string.length(); i < n; i++) {
+            char c = string.charAt(i);
+            if (c == '}' && i > start + openLength) {
+                return i;
+            }
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
     private boolean validateStringNotEmpty(
             String fieldName,
             ModelProblemCollector problems,
@@ -1457,13 +1527,11 @@ private boolean validateEnum(
             String string,
             String sourceHint,
             InputLocationTracker tracker,
-            String... validValues) {
+            List<String> values) {
         if (string == null || string.length() <= 0) {
             return true;
         }
 
-        List<String> values = Arrays.asList(validValues);
-
         if (values.contains(string)) {
             return true;
         }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A JVM-wide interner for the strings that are repeated over and over in models and artifacts, such as group ids,
+ * artifact ids, versions and scopes. Unlike {@link String#intern()}, canonical instances are only weakly referenced
+ * so they can be collected once no model or artifact uses them anymore.
+ * <p>
+ * The interner keeps track of the number of duplicates it replaced and of an estimate of the memory they used, see
+ * {@link #getDuplicates()} and {@link #getBytesSaved()}.
+ *
+ * @since 4.0.0
+ */
+public final class StringInterner {
+
+    /**
+     * The number of independently locked segments, must be a power of two.
+     */
+    private static final int SEGMENTS = 32;
+
+    /**
+     * The estimated size of a {@code String} instance and of the header of its backing array, in bytes.
+     */
+    private static final int STRING_OVERHEAD = 40;
+
+    private static final Segment[] TABLE = new Segment[SEGMENTS];
+
+    private static final LongAdder DUPLICATES = new LongAdder();
+
+    private static final LongAdder BYTES_SAVED = new LongAdder();
+
+    static {
+        for (int i = 0; i < SEGMENTS; i++) {
+            TABLE[i] = new Segment();
+        }
+    }
+
+    private StringInterner() {}
+
+    /**
+     * Returns the canonical instance of the given string.
+     *
+     * @param value the string to intern, may be {@code null}
+     * @return the canonical instance equal to the given string, or {@code null} if the string was {@code null}
+     */
+    public static String intern(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        int h = value.hashCode();
+        Segment segment = TABLE[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+        String canonical;
+        synchronized (segment) {
+            WeakReference<String> ref = segment.strings.get(value);
+            canonical = ref != null ? ref.get() : null;
+            if (canonical == null) {
+                segment.strings.put(value, new WeakReference<>(value));
+                return value;
+            }
+        }
+        if (canonical != value) {
+            DUPLICATES.increment();
+            BYTES_SAVED.add(STRING_OVERHEAD + (long) value.length() * Character.BYTES);
+        }
+        return canonical;
+    }
+
+    /**
+     * Gets the number of strings that were replaced by a canonical instance since the JVM started.
+     *
+     * @return the number of replaced duplicates
+     */
+    public static long getDuplicates() {
+        return DUPLICATES.sum();
+    }
+
+    /**
+     * Gets an estimate of the memory used by the duplicates replaced since the JVM started, assuming a duplicate is
+     * not referenced anymore once it has been replaced.
+     *
+     * @return the estimated number of bytes saved
+     */
+    public static long getBytesSaved() {
+        return BYTES_SAVED.sum();
+    }
+
+    private static final class Segment {
+        private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+    }
+}
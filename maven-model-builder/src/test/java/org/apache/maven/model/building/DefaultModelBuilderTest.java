@@ -19,7 +19,12 @@
 package org.apache.maven.model.building;
 
 import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.apache.maven.api.model.Dependency;
 import org.apache.maven.api.model.Parent;
@@ -30,8 +35,12 @@
 import org.apache.maven.model.resolution.UnresolvableModelException;
 import org.junit.jupiter.api.Test;
 
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  */
@@ -103,6 +112,204 @@ public ModelSource resolveModel(org.apache.maven.model.Dependency dependency)
         }
     }
 
+    @Test
+    void testParallelImportsKeepDeclarationOrder() throws Exception {
+        ModelBuilder builder = new DefaultModelBuilderFactory().newInstance();
+
+        ImportsResolver resolver = new ImportsResolver();
+        DefaultModelBuildingRequest request = new DefaultModelBuildingRequest();
+        request.setModelSource(new StringModelSource(bom("root", asList("bom-a", "bom-b", "bom-c"), "")));
+        request.setModelResolver(resolver);
+        request.setModelCache(new MapModelCache());
+
+        Model model = builder.build(request).getEffectiveModel();
+
+        List<String> managed = model.getDependencyManagement().getDependencies().stream()
+                .map(d -> d.getArtifactId() + ':' + d.getVersion())
+                .collect(Collectors.toList());
+        assertEquals(asList("lib:a", "lib-shared:shared", "lib-c:c"), managed);
+        assertEquals(1, resolver.resolved.get("bom-shared").get());
+    }
+
+    private static final String DESCRIPTOR = "<project>\n" + "  <modelVersion>4.0.0</modelVersion>\n"
+            + "  <groupId>thegroup</groupId>\n"
+            + "  <artifactId>descriptor</artifactId>\n"
+            + "  <version>1</version>\n"
+            + "  <properties>\n"
+            + "    <lib.version>2.0</lib.version>\n"
+            + "  </properties>\n"
+            + "  <dependencies>\n"
+            + "    <dependency>\n"
+            + "      <groupId>thegroup</groupId>\n"
+            + "      <artifactId>lib</artifactId>\n"
+            + "    </dependency>\n"
+            + "  </dependencies>\n"
+            + "  <dependencyManagement>\n"
+            + "    <dependencies>\n"
+            + "      <dependency>\n"
+            + "        <groupId>thegroup</groupId>\n"
+            + "        <artifactId>lib</artifactId>\n"
+            + "        <version>${lib.version}</version>\n"
+            + "      </dependency>\n"
+            + "    </dependencies>\n"
+            + "  </dependencyManagement>\n"
+            + "  <repositories>\n"
+            + "    <repository>\n"
+            + "      <id>extra</id>\n"
+            + "      <url>https://repo.example.org/maven2</url>\n"
+            + "    </repository>\n"
+            + "  </repositories>\n"
+            + "  <build>\n"
+            + "    <plugins>\n"
+            + "      <plugin>\n"
+            + "        <artifactId>maven-compiler-plugin</artifactId>\n"
+            + "        <configuration><release>${lib.version}</release></configuration>\n"
+            + "      </plugin>\n"
+            + "    </plugins>\n"
+            + "  </build>\n"
+            + "  <profiles>\n"
+            + "    <profile>\n"
+            + "      <id>default</id>\n"
+            + "      <activation><activeByDefault>true</activeByDefault></activation>\n"
+            + "      <dependencies>\n"
+            + "        <dependency>\n"
+            + "          <groupId>thegroup</groupId>\n"
+            + "          <artifactId>profiled</artifactId>\n"
+            + "          <version>${lib.version}</version>\n"
+            + "        </dependency>\n"
+            + "      </dependencies>\n"
+            + "      <build><defaultGoal>install</defaultGoal></build>\n"
+            + "    </profile>\n"
+            + "  </profiles>\n"
+            + "</project>\n";
+
+    @Test
+    void testDescriptorBuilding() throws Exception {
+        ModelBuilder builder = new DefaultModelBuilderFactory().newInstance();
+        ModelSource source = new StringModelSource(DESCRIPTOR);
+        ModelCache cache = new MapModelCache();
+
+        Model descriptor =
+                builder.build(newDescriptorRequest(source, cache, true)).getEffectiveModel();
+        assertEquals(
+                asList("lib:2.0", "profiled:2.0"),
+                descriptor.getDependencies().stream()
+                        .map(d -> d.getArtifactId() + ':' + d.getVersion())
+                        .collect(Collectors.toList()));
+        assertEquals(
+                "2.0",
+                descriptor.getDependencyManagement().getDependencies().get(0).getVersion());
+        assertEquals("extra", descriptor.getRepositories().get(0).getId());
+        assertEquals("2.0", descriptor.getProperties().getProperty("lib.version"));
+        assertTrue(descriptor.getBuild() == null
+                || descriptor.getBuild().getPlugins().isEmpty());
+
+        // the descriptor read must not leak into complete builds sharing the cache, nor the other way around
+        Model complete =
+                builder.build(newDescriptorRequest(source, cache, false)).getEffectiveModel();
+        assertEquals(1, complete.getBuild().getPlugins().size());
+        assertEquals("install", complete.getBuild().getDefaultGoal());
+
+        Model again = builder.build(newDescriptorRequest(source, cache, true)).getEffectiveModel();
+        assertTrue(again.getBuild() == null || again.getBuild().getPlugins().isEmpty());
+        assertEquals(2, again.getDependencies().size());
+    }
+
+    @Test
+    void testPreloadFileModel() throws Exception {
+        ModelBuilder builder = new DefaultModelBuilderFactory().newInstance();
+        ModelCache cache = new MapModelCache();
+
+        ModelSource valid = new StringModelSource(BASE1);
+        assertTrue(builder.preloadFileModel(newRequest(valid, cache)));
+
+        ModelSource duplicate =
+                new StringModelSource(bom("duplicate", asList(), managed("lib", "1") + managed("lib", "2")));
+        assertFalse(builder.preloadFileModel(newRequest(duplicate, cache)));
+        assertFalse(builder.preloadFileModel(newRequest(valid, null)));
+
+        // the problems of a POM which was not preloaded are still reported by its build
+        ModelBuildingException e =
+                assertThrows(ModelBuildingException.class, () -> builder.build(newRequest(duplicate, cache)));
+        assertTrue(e.getProblems().stream().anyMatch(p -> p.getMessage().contains("must be unique")));
+    }
+
+    private static ModelBuildingRequest newRequest(ModelSource source, ModelCache cache) {
+        return new DefaultModelBuildingRequest()
+                .setModelSource(source)
+                .setModelResolver(new BaseModelResolver())
+                .setModelCache(cache);
+    }
+
+    private static ModelBuildingRequest newDescriptorRequest(
+            ModelSource source, ModelCache cache, boolean descriptorBuilding) {
+        return new DefaultModelBuildingRequest()
+                .setDescriptorBuilding(descriptorBuilding)
+                .setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL)
+                .setModelSource(source)
+                .setModelResolver(new BaseModelResolver())
+                .setModelCache(cache);
+    }
+
+    private static String bom(String artifactId, List<String> imports, String managed) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<project>\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <groupId>thegroup</groupId>\n")
+                .append("  <artifactId>")
+                .append(artifactId)
+                .append("</artifactId>\n")
+                .append("  <version>1</version>\n")
+                .append("  <packaging>pom</packaging>\n")
+                .append("  <dependencyManagement>\n")
+                .append("    <dependencies>\n")
+                .append(managed);
+        for (String imported : imports) {
+            sb.append("      <dependency>\n")
+                    .append("        <groupId>thegroup</groupId>\n")
+                    .append("        <artifactId>")
+                    .append(imported)
+                    .append("</artifactId>\n")
+                    .append("        <version>1</version>\n")
+                    .append("        <type>pom</type>\n")
+                    .append("        <scope>import</scope>\n")
+                    .append("      </dependency>\n");
+        }
+        return sb.append("    </dependencies>\n")
+                .append("  </dependencyManagement>\n")
+                .append("</project>\n")
+                .toString();
+    }
+
+    private static String managed(String artifactId, String version) {
+        return "      <dependency>\n" + "        <groupId>thegroup</groupId>\n"
+                + "        <artifactId>" + artifactId + "</artifactId>\n"
+                + "        <version>" + version + "</version>\n"
+                + "      </dependency>\n";
+    }
+
+    static class ImportsResolver extends BaseModelResolver {
+        final Map<String, AtomicInteger> resolved = new ConcurrentHashMap<>();
+
+        @Override
+        public ModelSource resolveModel(org.apache.maven.model.Dependency dependency)
+                throws UnresolvableModelException {
+            String artifactId = dependency.getArtifactId();
+            resolved.computeIfAbsent(artifactId, k -> new AtomicInteger()).incrementAndGet();
+            switch (artifactId) {
+                case "bom-a":
+                    return new StringModelSource(bom(artifactId, asList("bom-shared"), managed("lib", "a")));
+                case "bom-b":
+                    return new StringModelSource(bom(artifactId, asList("bom-shared"), managed("lib", "b")));
+                case "bom-c":
+                    return new StringModelSource(bom(artifactId, asList(), managed("lib-c", "c")));
+                case "bom-shared":
+                    return new StringModelSource(bom(artifactId, asList(), managed("lib-shared", "shared")));
+            }
+            return null;
+        }
+    }
+
     static class BaseModelResolver implements ModelResolver {
         @Override
         public ModelSource resolveModel(String groupId, String artifactId, String version)
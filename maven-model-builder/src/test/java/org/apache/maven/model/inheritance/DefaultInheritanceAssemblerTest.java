@@ -31,6 +31,8 @@
 import org.xmlunit.matchers.CompareMatcher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -157,6 +159,23 @@ void testWithEmptyUrl() throws IOException {
         testInheritance("empty-urls", false);
     }
 
+    @Test
+    void testUnchangedSectionsAreShared() throws IOException {
+        Model parent = getModel("sharing-parent");
+        Model child = getModel("sharing-child");
+
+        Model assembled = assembler.assembleModelInheritance(child, parent, null, new SimpleProblemCollector());
+
+        assertSame(parent.getProperties(), assembled.getProperties());
+        assertSame(parent.getRepositories(), assembled.getRepositories());
+        assertSame(parent.getDependencyManagement(), assembled.getDependencyManagement());
+        assertSame(parent.getBuild().getPluginManagement(), assembled.getBuild().getPluginManagement());
+        assertEquals(2, assembled.getBuild().getPlugins().size());
+        assertSame(
+                parent.getBuild().getPlugins().get(0),
+                assembled.getBuild().getPlugins().get(0));
+    }
+
     public void testInheritance(String baseName) throws IOException {
         testInheritance(baseName, false);
         testInheritance(baseName, true);
@@ -18,8 +18,92 @@
  */
 package org.apache.maven.model.interpolation;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.MapModelCache;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.SimpleProblemCollector;
+import org.codehaus.plexus.interpolation.MapBasedValueSource;
+import org.codehaus.plexus.interpolation.StringSearchInterpolator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
 public class StringVisitorModelInterpolatorTest extends AbstractModelInterpolatorTest {
     protected ModelInterpolator createInterpolator() {
         return new StringVisitorModelInterpolator(null, null, bd -> true);
     }
+
+    @Test
+    void testTemplateMatchesStringSearchInterpolator() throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("a", "A");
+        properties.put("b", "B");
+        properties.put("", "empty");
+        properties.put("a${b", "nested");
+        StringSearchInterpolator interpolator = new StringSearchInterpolator();
+        interpolator.addValueSource(new MapBasedValueSource(properties));
+
+        List<String> inputs = Arrays.asList(
+                "${a}",
+                "x${a}y${b}z",
+                "${a}${b}",
+                "${}",
+                "${a",
+                "${a}${b",
+                "$${a}}",
+                "${a${b}}",
+                "{${a}}",
+                "$ {a}",
+                "}${a}{");
+        for (String input : inputs) {
+            String rendered =
+                    StringVisitorModelInterpolator.Template.parse(input).render(properties::get);
+            assertEquals(interpolator.interpolate(input), rendered, input);
+        }
+        assertNull(StringVisitorModelInterpolator.Template.parse("${a}${c}").render(properties::get));
+    }
+
+    @Test
+    void testTemplatesSharedAcrossModels() {
+        MapModelCache modelCache = new MapModelCache();
+        Properties userProperties = new Properties();
+        userProperties.setProperty("overridden", "user");
+        ModelBuildingRequest request =
+                new DefaultModelBuildingRequest().setModelCache(modelCache).setUserProperties(userProperties);
+        ModelInterpolator interpolator = createInterpolator();
+
+        for (String value : Arrays.asList("one", "two")) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put("value", value);
+            properties.put("overridden", "model");
+            properties.put("revision", "1." + value);
+            properties.put("nested", "${value}-${project.artifactId}");
+            Model model = Model.newBuilder()
+                    .artifactId("a-" + value)
+                    .version("${revision}")
+                    .properties(properties)
+                    .name("${value}/${overridden}")
+                    .description("${nested}")
+                    .inceptionYear("${project.version}")
+                    .build();
+
+            SimpleProblemCollector collector = new SimpleProblemCollector();
+            Model out = interpolator.interpolateModel(model, null, request, collector);
+
+            assertProblemFree(collector);
+            assertEquals(value + "/user", out.getName());
+            assertEquals(value + "-a-" + value, out.getDescription());
+            assertEquals("1." + value, out.getVersion());
+            assertEquals("1." + value, out.getInceptionYear());
+        }
+        assertEquals(1, modelCache.size());
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.model.profile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.api.model.Activation;
+import org.apache.maven.api.model.ActivationFile;
+import org.apache.maven.model.Profile;
+import org.apache.maven.model.building.ModelProblemCollector;
+import org.apache.maven.model.building.SimpleProblemCollector;
+import org.apache.maven.model.path.DefaultPathTranslator;
+import org.apache.maven.model.path.ProfileActivationFilePathInterpolator;
+import org.apache.maven.model.profile.activation.FileProfileActivator;
+import org.apache.maven.model.profile.activation.JdkVersionProfileActivator;
+import org.apache.maven.model.profile.activation.ProfileActivator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests {@link DefaultProfileSelector}.
+ */
+class DefaultProfileSelectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DefaultProfileSelector selector;
+
+    private DefaultProfileActivationContext context;
+
+    @BeforeEach
+    void setUp() {
+        selector = new DefaultProfileSelector()
+                .addProfileActivator(new FileProfileActivator(
+                        new ProfileActivationFilePathInterpolator(new DefaultPathTranslator(), bd -> true)))
+                .addProfileActivator(new JdkVersionProfileActivator());
+        context = new DefaultProfileActivationContext();
+        context.setProjectDirectory(tempDir.toFile());
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("java.version", "17.0.1");
+        context.setSystemProperties(systemProperties);
+        context.setActivationCache(new ConcurrentHashMap<>());
+    }
+
+    @Test
+    void testActivationCache() throws Exception {
+        Profile profile = newMissingProfile("${basedir}/later.txt");
+        assertActive(true, profile);
+
+        Files.createFile(tempDir.resolve("later.txt"));
+        // the outcome is remembered for the rest of the session
+        assertActive(true, newMissingProfile("${basedir}/later.txt"));
+
+        // but not for another project directory
+        Path other = Files.createDirectory(tempDir.resolve("other"));
+        Files.createFile(other.resolve("later.txt"));
+        context.setProjectDirectory(other.toFile());
+        assertActive(false, profile);
+
+        context.setProjectDirectory(tempDir.toFile());
+        context.setActivationCache(null);
+        assertActive(false, profile);
+    }
+
+    @Test
+    void testActivationCacheSharesFiles() throws Exception {
+        Path module1 = Files.createDirectory(tempDir.resolve("module1"));
+        Path module2 = Files.createDirectory(tempDir.resolve("module2"));
+        context.setProjectDirectory(module1.toFile());
+        assertActive(true, newMissingProfile("${basedir}/../shared.txt"));
+
+        // another module pointing to the same file reuses the outcome of the existence check
+        Files.createFile(tempDir.resolve("shared.txt"));
+        context.setProjectDirectory(module2.toFile());
+        assertActive(true, newMissingProfile("${basedir}/../shared.txt"));
+
+        // while a different file is checked
+        Files.createFile(module2.resolve("own.txt"));
+        assertActive(false, newMissingProfile("${basedir}/own.txt"));
+    }
+
+    @Test
+    void testActivationCacheKeepsProblems() {
+        // the java version is required to check the jdk activation
+        context.setSystemProperties(new Properties());
+        Profile profile = newJdkProfile("17");
+
+        for (int i = 0; i < 2; i++) {
+            SimpleProblemCollector problems = new SimpleProblemCollector();
+            selector.getActiveProfiles(Collections.singletonList(profile), context, problems);
+            assertEquals(1, problems.getErrors().size(), problems.getErrors().toString());
+        }
+    }
+
+    @Test
+    void testActivationCacheSkipsOtherActivators() {
+        AtomicInteger checks = new AtomicInteger();
+        selector.addProfileActivator(new ProfileActivator() {
+            @Override
+            public boolean isActive(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
+                checks.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public boolean presentInConfig(
+                    Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
+                return true;
+            }
+        });
+        Profile profile = newJdkProfile("17");
+
+        assertActive(true, profile);
+        assertActive(true, profile);
+        assertEquals(2, checks.get());
+    }
+
+    private void assertActive(boolean active, Profile profile) {
+        SimpleProblemCollector problems = new SimpleProblemCollector();
+        List<Profile> activeProfiles =
+                selector.getActiveProfiles(Collections.singletonList(profile), context, problems);
+        assertEquals(active, activeProfiles.contains(profile));
+        assertEquals(0, problems.getErrors().size(), problems.getErrors().toString());
+        assertEquals(0, problems.getWarnings().size(), problems.getWarnings().toString());
+    }
+
+    private static Profile newMissingProfile(String path) {
+        ActivationFile file = ActivationFile.newBuilder().missing(path).build();
+        return newProfile(Activation.newBuilder().file(file).build());
+    }
+
+    private static Profile newJdkProfile(String jdk) {
+        return newProfile(Activation.newBuilder().jdk(jdk).build());
+    }
+
+    private static Profile newProfile(Activation activation) {
+        return new Profile(org.apache.maven.api.model.Profile.newBuilder()
+                .id("test")
+                .activation(activation)
+                .build());
+    }
+}
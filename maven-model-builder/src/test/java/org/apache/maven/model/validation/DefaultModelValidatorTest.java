@@ -725,6 +725,20 @@ void testSelfReferencingDependencyInRawModel() throws Exception {
                 result.getFatals().get(0));
     }
 
+    @Test
+    void testSelfReferencingDependencyWithOtherProblemsInRawModel() throws Exception {
+        SimpleProblemCollector result = validateRaw("raw-model/self-referencing-with-other-problems.xml");
+
+        assertViolations(result, 1, 0, 1);
+
+        assertEquals(
+                "'dependencies.dependency[com.example.group:testinvalidpom:0.0.1-SNAPSHOT]' for com.example.group:testinvalidpom:0.0.1-SNAPSHOT is referencing itself.",
+                result.getFatals().get(0));
+        assertContains(
+                result.getWarnings().get(0),
+                "'dependencies.dependency.version' for com.example.group:other:jar is either LATEST or RELEASE");
+    }
+
     @Test
     void testSelfReferencingDependencyWithClassifierInRawModel() throws Exception {
         SimpleProblemCollector result = validateRaw("raw-model/self-referencing-classifier.xml");
@@ -816,6 +830,15 @@ void repositoryWithBasedirExpression() throws Exception {
         assertViolations(result, 0, 0, 0);
     }
 
+    @Test
+    void repositoryWithUnclosedExpressions() throws Exception {
+        SimpleProblemCollector result = validateRaw("raw-model/repository-with-expressions.xml");
+        assertViolations(result, 0, 1, 0);
+        assertEquals(
+                "'repositories.repository.[nested].url' contains an expression but should be a constant.",
+                result.getErrors().get(0));
+    }
+
     @Test
     void profileActivationWithAllowedExpression() throws Exception {
         SimpleProblemCollector result = validateRaw("raw-model/profile-activation-file-with-allowed-expressions.xml");
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringInternerTest {
+
+    @Test
+    void testIntern() {
+        String first = new String("org.apache.maven.interner.test");
+        String second = new String("org.apache.maven.interner.test");
+
+        assertSame(first, StringInterner.intern(first));
+        assertSame(first, StringInterner.intern(second));
+        assertSame(first, StringInterner.intern(first));
+        assertNull(StringInterner.intern(null));
+        assertEquals("", StringInterner.intern(""));
+    }
+
+    @Test
+    void testMetrics() {
+        String first = new String("org.apache.maven.interner.metrics");
+        String second = new String("org.apache.maven.interner.metrics");
+        StringInterner.intern(first);
+
+        long duplicates = StringInterner.getDuplicates();
+        long bytesSaved = StringInterner.getBytesSaved();
+        StringInterner.intern(first);
+        StringInterner.intern(second);
+
+        assertTrue(StringInterner.getDuplicates() >= duplicates + 1);
+        assertTrue(StringInterner.getBytesSaved() >= bytesSaved + 2 * second.length());
+    }
+}
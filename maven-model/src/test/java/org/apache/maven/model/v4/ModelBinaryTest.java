@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.model.v4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.maven.api.model.InputLocation;
+import org.apache.maven.api.model.InputSource;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.xml.XmlNode;
+import org.apache.maven.internal.xml.XmlNodeImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelBinaryTest {
+
+    @Test
+    void testRoundtrip() throws Exception {
+        Model model = readPom().withPomFile(Paths.get("pom.xml"));
+
+        Model copy = fromBinary(toBinary(model, true, true), true);
+
+        assertEquals(toXml(model), toXml(copy));
+        assertEquals(model.getPomFile(), copy.getPomFile());
+        assertEquals(model.getModelEncoding(), copy.getModelEncoding());
+        assertEquals(model.getNamespaceUri(), copy.getNamespaceUri());
+    }
+
+    @Test
+    void testLocations() throws Exception {
+        Model model = readPom();
+
+        Model copy = fromBinary(toBinary(model, true, true), true);
+
+        InputLocation location = copy.getBuild().getPlugins().get(0).getLocation("artifactId");
+        InputLocation expected = model.getBuild().getPlugins().get(0).getLocation("artifactId");
+        assertNotNull(location);
+        assertEquals(expected.getLineNumber(), location.getLineNumber());
+        assertEquals(expected.getColumnNumber(), location.getColumnNumber());
+        assertEquals("test:pom.xml", location.getSource().getModelId());
+        assertSame(location.getSource(), copy.getLocation("").getSource());
+
+        assertNull(fromBinary(toBinary(model, true, false), true).getLocation(""));
+        assertNull(fromBinary(toBinary(model, true, true), false).getLocation(""));
+    }
+
+    @Test
+    void testInterning() throws Exception {
+        Model model = readPom();
+
+        byte[] interned = toBinary(model, true, false);
+        byte[] inline = toBinary(model, false, false);
+
+        assertTrue(interned.length < inline.length);
+        assertEquals(toXml(fromBinary(interned, true)), toXml(fromBinary(inline, true)));
+        Model copy = fromBinary(interned, true);
+        assertSame(
+                copy.getDependencies().get(0).getGroupId(),
+                copy.getDependencies().get(1).getGroupId());
+    }
+
+    @Test
+    void testNotABinaryModel() {
+        assertThrows(StreamCorruptedException.class, () -> new MavenBinaryReader()
+                .read(new ByteArrayInputStream("<project/>".getBytes())));
+    }
+
+    @Test
+    void testDom() throws Exception {
+        XmlNode goal = new XmlNodeImpl("goal", "run", Collections.singletonMap("combine.self", "override"), null, null);
+        XmlNode dom = new XmlNodeImpl("configuration", null, null, Arrays.asList(goal, goal), null);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new MavenBinaryWriter().writeDom(baos, dom);
+        byte[] bytes = baos.toByteArray();
+
+        XmlNode copy = new MavenBinaryReader().readDom(new ByteArrayInputStream(bytes));
+        assertEquals(dom, copy);
+        assertSame(
+                copy.getChildren().get(0).getName(), copy.getChildren().get(1).getName());
+        assertThrows(
+                StreamCorruptedException.class, () -> new MavenBinaryReader().read(new ByteArrayInputStream(bytes)));
+    }
+
+    private Model readPom() throws Exception {
+        try (InputStream is = getClass().getResourceAsStream("/xml/pom.xml")) {
+            return new MavenStaxReader().read(is, true, new InputSource("test:pom.xml", "pom.xml"));
+        }
+    }
+
+    private byte[] toBinary(Model model, boolean intern, boolean locations) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        MavenBinaryWriter writer = new MavenBinaryWriter();
+        writer.setInternStrings(intern);
+        writer.setAddLocationInformation(locations);
+        writer.write(baos, model);
+        return baos.toByteArray();
+    }
+
+    private Model fromBinary(byte[] bytes, boolean locations) throws IOException {
+        MavenBinaryReader reader = new MavenBinaryReader();
+        reader.setAddLocationInformation(locations);
+        return reader.read(new ByteArrayInputStream(bytes));
+    }
+
+    private String toXml(Model model) throws Exception {
+        StringWriter sw = new StringWriter();
+        MavenStaxWriter writer = new MavenStaxWriter();
+        writer.setAddLocationInformation(true);
+        writer.write(sw, model);
+        return sw.toString();
+    }
+}
@@ -23,6 +23,7 @@
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -34,6 +35,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class ModelXmlTest {
 
@@ -86,6 +88,44 @@ void testNamespaceInXmlNode() throws XMLStreamException {
         assertFalse(config.isEmpty());
     }
 
+    @Test
+    void testSkippedElements() throws XMLStreamException {
+        String xml = "<project>\n"
+                + "  <artifactId>test</artifactId>\n"
+                + "  <build>\n"
+                + "    <plugins>\n"
+                + "      <plugin>\n"
+                + "        <configuration><build><nested/></build></configuration>\n"
+                + "      </plugin>\n"
+                + "    </plugins>\n"
+                + "  </build>\n"
+                + "  <profiles>\n"
+                + "    <profile>\n"
+                + "      <id>p</id>\n"
+                + "      <build><defaultGoal>install</defaultGoal></build>\n"
+                + "      <dependencies><dependency><artifactId>dep</artifactId></dependency></dependencies>\n"
+                + "    </profile>\n"
+                + "  </profiles>\n"
+                + "  <reporting><plugins><plugin/></plugins></reporting>\n"
+                + "  <dependencies><dependency><artifactId>dep</artifactId></dependency></dependencies>\n"
+                + "</project>";
+
+        MavenStaxReader reader = new MavenStaxReader();
+        reader.setSkippedElements(Arrays.asList("build", "reporting"));
+        Model model = reader.read(new StringReader(xml));
+
+        assertEquals("test", model.getArtifactId());
+        assertNull(model.getBuild());
+        assertNull(model.getReporting());
+        assertNull(model.getProfiles().get(0).getBuild());
+        assertEquals(1, model.getProfiles().get(0).getDependencies().size());
+        assertEquals("dep", model.getDependencies().get(0).getArtifactId());
+
+        Model full = fromXml(xml);
+        assertNotNull(full.getBuild());
+        assertNotNull(full.getReporting());
+    }
+
     String toXml(Model model) throws IOException, XMLStreamException {
         StringWriter sw = new StringWriter();
         MavenStaxWriter writer = new MavenStaxWriter();
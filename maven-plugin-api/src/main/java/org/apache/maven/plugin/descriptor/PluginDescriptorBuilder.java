@@ -23,9 +23,13 @@
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.StreamCorruptedException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +38,8 @@
 import org.apache.maven.api.xml.XmlNode;
 import org.apache.maven.internal.xml.XmlNodeBuilder;
 import org.apache.maven.internal.xml.XmlPlexusConfiguration;
+import org.apache.maven.plugin.descriptor.io.PluginDescriptorBinaryReader;
+import org.apache.maven.plugin.descriptor.io.PluginDescriptorBinaryWriter;
 import org.apache.maven.plugin.descriptor.io.PluginDescriptorStaxReader;
 import org.codehaus.plexus.component.repository.ComponentDependency;
 import org.codehaus.plexus.component.repository.ComponentRequirement;
@@ -47,6 +53,16 @@ public class PluginDescriptorBuilder {
     public static final String PLUGIN_2_0_0 = "http://maven.apache.org/PLUGIN/2.0.0";
     private static final int BUFFER_SIZE = 8192;
 
+    /**
+     * The kind of a parsed {@value #PLUGIN_2_0_0} document.
+     */
+    private static final int PARSED_DESCRIPTOR = 1;
+
+    /**
+     * The kind of a parsed legacy document, held as a tree of nodes.
+     */
+    private static final int PARSED_LEGACY = 2;
+
     public interface StreamSupplier {
         InputStream open() throws IOException;
     }
@@ -103,6 +119,61 @@ public PluginDescriptor build(StreamSupplier inputSupplier) throws PlexusConfigu
     }
 
     public PluginDescriptor build(StreamSupplier inputSupplier, String source) throws PlexusConfigurationException {
+        return read(inputSupplier, (nsUri, xsr) -> build(source, nsUri, xsr));
+    }
+
+    /**
+     * Parses the plugin descriptor document supplied by the given stream, without building the descriptor, and writes
+     * the parsed document to the given output in a compact binary form. The document can then be kept, e.g. in a
+     * cache, and built into a descriptor with {@link #buildParsed(InputStream, String)} without parsing it again.
+     *
+     * @param inputSupplier the supplier of the plugin descriptor document
+     * @param output the stream to write the parsed document to, which is flushed but not closed
+     * @throws PlexusConfigurationException if the document cannot be parsed or written
+     * @since 4.0.0
+     */
+    public void parse(StreamSupplier inputSupplier, OutputStream output) throws PlexusConfigurationException {
+        read(inputSupplier, (nsUri, xsr) -> {
+            DataOutputStream out = new DataOutputStream(output);
+            if (PLUGIN_2_0_0.equals(nsUri)) {
+                out.writeByte(PARSED_DESCRIPTOR);
+                new PluginDescriptorBinaryWriter().write(out, new PluginDescriptorStaxReader().read(xsr, true));
+            } else {
+                out.writeByte(PARSED_LEGACY);
+                new PluginDescriptorBinaryWriter().writeDom(out, XmlNodeBuilder.build(xsr, true, null));
+            }
+            out.flush();
+            return null;
+        });
+    }
+
+    /**
+     * Builds a plugin descriptor from a document written by {@link #parse(StreamSupplier, OutputStream)}.
+     *
+     * @param input the stream holding the parsed document, which is left open
+     * @param source the location of the plugin descriptor, may be {@code null}
+     * @return the plugin descriptor
+     * @throws IOException if the stream does not hold a parsed document
+     * @throws PlexusConfigurationException if the document is not a valid plugin descriptor
+     * @since 4.0.0
+     */
+    public PluginDescriptor buildParsed(InputStream input, String source)
+            throws IOException, PlexusConfigurationException {
+        DataInputStream in = new DataInputStream(input);
+        int kind = in.readUnsignedByte();
+        if (kind == PARSED_DESCRIPTOR) {
+            return new PluginDescriptor(new PluginDescriptorBinaryReader().read(in));
+        } else if (kind == PARSED_LEGACY) {
+            return build(new PluginDescriptorBinaryReader().readDom(in), source);
+        }
+        throw new StreamCorruptedException("Unexpected parsed plugin descriptor kind " + kind);
+    }
+
+    /**
+     * Reads the plugin descriptor document supplied by the given stream, once to find its namespace and once more to
+     * let the handler parse it.
+     */
+    private <T> T read(StreamSupplier inputSupplier, DocumentHandler<T> handler) throws PlexusConfigurationException {
         try (BufferedInputStream bis = new BufferedInputStream(inputSupplier.open(), BUFFER_SIZE)) {
             bis.mark(BUFFER_SIZE);
             XMLStreamReader xsr = WstxInputFactory.newFactory().createXMLStreamReader(bis);
@@ -110,13 +181,19 @@ public PluginDescriptor build(StreamSupplier inputSupplier, String source) throw
             String nsUri = xsr.getNamespaceURI();
             try (BufferedInputStream bis2 = reset(inputSupplier, bis)) {
                 xsr = WstxInputFactory.newFactory().createXMLStreamReader(bis2);
-                return build(source, nsUri, xsr);
+                return handler.handle(nsUri, xsr);
             }
         } catch (XMLStreamException | IOException e) {
             throw new PlexusConfigurationException(e.getMessage(), e);
         }
     }
 
+    @FunctionalInterface
+    private interface DocumentHandler<T> {
+        T handle(String nsUri, XMLStreamReader xsr)
+                throws XMLStreamException, IOException, PlexusConfigurationException;
+    }
+
     private static BufferedInputStream reset(StreamSupplier inputSupplier, BufferedInputStream bis) throws IOException {
         try {
             bis.reset();
@@ -143,11 +220,14 @@ private PluginDescriptor build(String source, String nsUri, XMLStreamReader xsr)
             return new PluginDescriptor(pd);
         } else {
             XmlNode node = XmlNodeBuilder.build(xsr, true, null);
-            PlexusConfiguration cfg = XmlPlexusConfiguration.toPlexusConfiguration(node);
-            return build(source, cfg);
+            return build(node, source);
         }
     }
 
+    private PluginDescriptor build(XmlNode node, String source) throws PlexusConfigurationException {
+        return build(source, XmlPlexusConfiguration.toPlexusConfiguration(node));
+    }
+
     private PluginDescriptor build(String source, PlexusConfiguration c) throws PlexusConfigurationException {
         PluginDescriptor pluginDescriptor = new PluginDescriptor();
 
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.repository.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class of the on-disk caches of data derived from the files of the local repository, like the
+ * {@link PersistentModelCache}. Each entry mirrors the path of its file below the local repository and records the
+ * size, last modification time and checksum of the file, so that an entry is only reused while the file is unchanged.
+ * Entries are replaced atomically, unreadable or stale entries are simply ignored. <strong>Warning:</strong> This is
+ * an internal class that is only public for technical reasons, it is not part of the public API. In particular, this
+ * class can be changed or deleted without prior notice.
+ *
+ * @param <T> the type of the data held by the entries
+ * @since 4.0.0
+ */
+public abstract class AbstractPersistentCache<T> {
+
+    private static final String EXTENSION = ".bin";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Path localRepository;
+
+    private final Path directory;
+
+    private final int magic;
+
+    private final int formatVersion;
+
+    protected AbstractPersistentCache(Path localRepository, Path directory, int magic, int formatVersion) {
+        this.localRepository = normalize(localRepository);
+        this.directory = directory;
+        this.magic = magic;
+        this.formatVersion = formatVersion;
+    }
+
+    /**
+     * Gets the local repository of the session, provided the cache enabled by the given configuration key is on.
+     *
+     * @param session the repository session, may be {@code null}
+     * @param key the key in the configuration of the session that enables the cache
+     * @return the absolute path of the local repository, or {@code null} if the cache is not enabled
+     */
+    protected static Path getLocalRepository(RepositorySystemSession session, String key) {
+        if (session == null || session.getLocalRepository() == null || !ConfigUtils.getBoolean(session, false, key)) {
+            return null;
+        }
+        return session.getLocalRepository().getBasedir().toPath().toAbsolutePath();
+    }
+
+    /**
+     * Tells whether the given file lives in the local repository, and so may have an entry.
+     */
+    protected boolean isInLocalRepository(Path file) {
+        return normalize(file).startsWith(localRepository);
+    }
+
+    /**
+     * Gets the entry of the given file of the local repository.
+     */
+    public Path getEntry(Path file) {
+        return directory.resolve(localRepository.relativize(normalize(file)) + EXTENSION);
+    }
+
+    /**
+     * Reads the data of the entry of the given file, provided the entry was written for the file as it is now. When the
+     * file was only touched, which the checksum tells, the entry is rewritten with the new stamp of the file so that
+     * the following reads do not need to compute the checksum again.
+     *
+     * @param file the file of the local repository
+     * @param stamp the current stamp of the file
+     * @param checksum computes the current checksum of the file, only called when its modification time changed
+     * @return the data of the entry, or {@code null} if there is no usable entry
+     */
+    protected T read(Path file, Stamp stamp, Checksum checksum) {
+        Path entry = getEntry(file);
+        T data;
+        long entryChecksum;
+        boolean touched;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (in.readInt() != magic || in.readInt() != formatVersion) {
+                return null;
+            }
+            long size = in.readLong();
+            long lastModified = in.readLong();
+            entryChecksum = in.readLong();
+            if (size != stamp.size) {
+                return null;
+            }
+            touched = lastModified != stamp.lastModified;
+            if (touched && entryChecksum != checksum.compute()) {
+                return null;
+            }
+            data = readData(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Ignoring unreadable cache entry {}: {}", entry, e.toString());
+            return null;
+        }
+        if (touched) {
+            write(file, stamp, entryChecksum, data);
+        }
+        return data;
+    }
+
+    /**
+     * Atomically writes the entry of the given file. Failures are only logged, the entry being written again later.
+     *
+     * @param file the file of the local repository
+     * @param stamp the stamp of the file the data was derived from
+     * @param checksum the checksum of the file the data was derived from
+     * @param data the data to write
+     */
+    protected void write(Path file, Stamp stamp, long checksum, T data) {
+        Path entry = getEntry(file);
+        Path tmp = null;
+        try {
+            Files.createDirectories(entry.getParent());
+            tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(magic);
+                out.writeInt(formatVersion);
+                out.writeLong(stamp.size);
+                out.writeLong(stamp.lastModified);
+                out.writeLong(checksum);
+                writeData(out, data);
+            }
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Unable to write cache entry {}: {}", entry, e.toString());
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    protected abstract T readData(DataInputStream in) throws IOException;
+
+    protected abstract void writeData(DataOutputStream out, T data) throws IOException;
+
+    protected static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Computes the checksum of a file of the local repository.
+     */
+    @FunctionalInterface
+    protected interface Checksum {
+        long compute() throws IOException;
+    }
+
+    /**
+     * The size and last modification time of a file of the local repository.
+     */
+    protected static final class Stamp {
+        private final long size;
+
+        private final long lastModified;
+
+        private Stamp(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public static Stamp of(Path file) throws IOException {
+            return new Stamp(Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        }
+    }
+}
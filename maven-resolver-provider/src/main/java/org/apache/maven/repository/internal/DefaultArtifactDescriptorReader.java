@@ -192,10 +192,12 @@ private Model loadPom(
             }
 
             try {
-                ModelBuildingRequest modelRequest = new DefaultModelBuildingRequest();
+                DefaultModelBuildingRequest modelRequest = new DefaultModelBuildingRequest();
                 modelRequest.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL);
                 modelRequest.setProcessPlugins(false);
                 modelRequest.setTwoPhaseBuilding(false);
+                // a custom delegate may look at any part of the model, the default one only needs the descriptor
+                modelRequest.setDescriptorBuilding(!hasCustomDelegate(session));
                 // This merge is on purpose because otherwise user properties would override model
                 // properties in dependencies the user does not know. See MNG-7563 for details.
                 modelRequest.setSystemProperties(
@@ -252,6 +254,10 @@ private Model loadPom(
         }
     }
 
+    private boolean hasCustomDelegate(RepositorySystemSession session) {
+        return session.getConfigProperties().get(ArtifactDescriptorReaderDelegate.class.getName()) != null;
+    }
+
     private boolean withinSameGav(Artifact a1, Artifact a2) {
         return Objects.equals(a1.getGroupId(), a2.getGroupId())
                 && Objects.equals(a1.getArtifactId(), a2.getArtifactId())
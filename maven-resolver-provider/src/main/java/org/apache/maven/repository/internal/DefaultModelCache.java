@@ -37,6 +37,8 @@ public class DefaultModelCache implements ModelCache {
 
     private final Map<Object, Supplier<?>> cache;
 
+    private final PersistentModelCache persistentCache;
+
     public static ModelCache newInstance(RepositorySystemSession session) {
         Map<Object, Supplier<?>> cache;
         if (session.getCache() == null) {
@@ -48,11 +50,12 @@ public static ModelCache newInstance(RepositorySystemSession session) {
                 session.getCache().put(session, KEY, cache);
             }
         }
-        return new DefaultModelCache(cache);
+        return new DefaultModelCache(cache, PersistentModelCache.newInstance(session));
     }
 
-    private DefaultModelCache(Map<Object, Supplier<?>> cache) {
+    private DefaultModelCache(Map<Object, Supplier<?>> cache, PersistentModelCache persistentCache) {
         this.cache = cache;
+        this.persistentCache = persistentCache;
     }
 
     public Object get(Source path, String tag) {
@@ -90,9 +93,17 @@ public Object computeIfAbsent(
 
     @Override
     public Object computeIfAbsent(Source path, String tag, Supplier<Supplier<?>> data) {
+        if (persistentCache != null && persistentCache.accepts(path, tag)) {
+            return computeIfAbsent(new SourceCacheKey(path, tag), () -> persistentCache.computeIfAbsent(path, data));
+        }
         return computeIfAbsent(new SourceCacheKey(path, tag), data);
     }
 
+    @Override
+    public Object computeIfAbsent(String tag, Supplier<Supplier<?>> data) {
+        return computeIfAbsent(new TagCacheKey(tag), data);
+    }
+
     protected Object computeIfAbsent(Object key, Supplier<Supplier<?>> data) {
         Supplier<?> s = cache.computeIfAbsent(key, k -> data.get());
         return s != null ? s.get() : null;
@@ -190,4 +201,34 @@ public int hashCode() {
             return hash;
         }
     }
+
+    private static final class TagCacheKey {
+        private final String tag;
+
+        TagCacheKey(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public String toString() {
+            return "TagCacheKey{" + "tag='" + tag + '\'' + '}';
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (null == obj || !getClass().equals(obj.getClass())) {
+                return false;
+            }
+            TagCacheKey that = (TagCacheKey) obj;
+            return Objects.equals(this.tag, that.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(tag);
+        }
+    }
 }
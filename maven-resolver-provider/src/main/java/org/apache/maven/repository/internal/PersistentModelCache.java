@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.repository.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.building.Source;
+import org.apache.maven.model.building.ArtifactModelSource;
+import org.apache.maven.model.v4.MavenBinaryReader;
+import org.apache.maven.model.v4.MavenBinaryWriter;
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * An on-disk store of the file models read from the local repository, used by {@link DefaultModelCache} to avoid
+ * parsing the same third-party POMs over and over across invocations. Each entry mirrors the path of its POM below
+ * the local repository and records the size, last modification time and checksum of the POM it was read from, so
+ * that an entry is only reused while the POM is unchanged.
+ *
+ * @since 4.0.0
+ */
+final class PersistentModelCache extends AbstractPersistentCache<Model> {
+
+    /**
+     * The key in the repository session's configuration to enable the persistent model cache.
+     */
+    static final String PERSISTENT_MODEL_CACHE = "maven.modelCache.persistent";
+
+    /**
+     * The directory, relative to the local repository, holding the cache entries.
+     */
+    static final String CACHE_DIRECTORY = ".cache/maven-model-cache";
+
+    /**
+     * The name of the model builder cache tag for file models.
+     */
+    static final String FILE_TAG = "file";
+
+    private static final int MAGIC = 0x4d4d4331;
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    static PersistentModelCache newInstance(RepositorySystemSession session) {
+        Path basedir = getLocalRepository(session, PERSISTENT_MODEL_CACHE);
+        return basedir != null ? new PersistentModelCache(basedir, basedir.resolve(CACHE_DIRECTORY)) : null;
+    }
+
+    PersistentModelCache(Path localRepository, Path directory) {
+        super(localRepository, directory, MAGIC, FORMAT_VERSION);
+    }
+
+    /**
+     * Tells whether the given cache record can be persisted, i.e. whether it is the file model of a POM living in the
+     * local repository. Reactor POMs are left alone as they change frequently and must always report their problems.
+     */
+    boolean accepts(Source source, String tag) {
+        return FILE_TAG.equals(tag) && source instanceof ArtifactModelSource && isInLocalRepository(getPath(source));
+    }
+
+    Supplier<?> computeIfAbsent(Source source, Supplier<Supplier<?>> data) {
+        Path pom = getPath(source);
+
+        Stamp stamp;
+        try {
+            stamp = Stamp.of(pom);
+        } catch (IOException e) {
+            return data.get();
+        }
+
+        Model model = read(pom, stamp, () -> checksum(pom));
+        if (model != null) {
+            return () -> model;
+        }
+
+        Supplier<?> supplier = data.get();
+        AtomicBoolean written = new AtomicBoolean();
+        return () -> {
+            Object result = supplier.get();
+            if (result instanceof Model && written.compareAndSet(false, true)) {
+                try {
+                    write(pom, stamp, checksum(pom), (Model) result);
+                } catch (IOException e) {
+                    // the POM vanished, there is nothing worth caching
+                }
+            }
+            return result;
+        };
+    }
+
+    @Override
+    protected Model readData(DataInputStream in) throws IOException {
+        return new MavenBinaryReader().read(in);
+    }
+
+    @Override
+    protected void writeData(DataOutputStream out, Model model) throws IOException {
+        new MavenBinaryWriter().write(out, model);
+    }
+
+    private static Path getPath(Source source) {
+        return normalize(((ArtifactModelSource) source).getFile().toPath());
+    }
+
+    static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int n; (n = in.read(buffer)) >= 0; ) {
+                crc.update(buffer, 0, n);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.repository.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.maven.api.model.Dependency;
+import org.apache.maven.api.model.DependencyManagement;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.model.building.ArtifactModelSource;
+import org.apache.maven.model.building.FileModelSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentModelCacheTest {
+
+    @TempDir
+    Path localRepository;
+
+    private Path pom;
+
+    private ArtifactModelSource source;
+
+    private AtomicInteger reads;
+
+    @BeforeEach
+    void setup() throws Exception {
+        pom = localRepository.resolve("org/apache/test/1.0/test-1.0.pom");
+        Files.createDirectories(pom.getParent());
+        Files.write(pom, "<project/>".getBytes(StandardCharsets.UTF_8));
+        source = new ArtifactModelSource(pom.toFile(), "org.apache", "test", "1.0");
+        reads = new AtomicInteger();
+    }
+
+    private PersistentModelCache newCache() {
+        return new PersistentModelCache(localRepository, localRepository.resolve(PersistentModelCache.CACHE_DIRECTORY));
+    }
+
+    private Object get(PersistentModelCache cache) {
+        return cache.computeIfAbsent(source, () -> () -> {
+                    reads.incrementAndGet();
+                    return Model.newBuilder()
+                            .groupId("org.apache")
+                            .artifactId("test")
+                            .version("1.0")
+                            .pomFile(pom)
+                            .dependencyManagement(DependencyManagement.newBuilder()
+                                    .dependencies(Collections.singletonList(Dependency.newBuilder()
+                                            .groupId("org.apache")
+                                            .artifactId("dep")
+                                            .version("2.0")
+                                            .build()))
+                                    .build())
+                            .build();
+                })
+                .get();
+    }
+
+    @Test
+    void testAccepts() {
+        PersistentModelCache cache = newCache();
+        assertTrue(cache.accepts(source, PersistentModelCache.FILE_TAG));
+        assertFalse(cache.accepts(source, "raw"));
+        assertFalse(cache.accepts(new FileModelSource(pom.toFile()), PersistentModelCache.FILE_TAG));
+        assertFalse(cache.accepts(
+                new ArtifactModelSource(
+                        localRepository.getParent().resolve("test-1.0.pom").toFile(), "org.apache", "test", "1.0"),
+                PersistentModelCache.FILE_TAG));
+    }
+
+    @Test
+    void testReuseAcrossInstances() {
+        Model first = (Model) get(newCache());
+        assertEquals(1, reads.get());
+        assertTrue(Files.isRegularFile(newCache().getEntry(pom)));
+
+        Model second = (Model) get(newCache());
+        assertEquals(1, reads.get());
+        assertNotSame(first, second);
+        assertEquals("test", second.getArtifactId());
+        assertEquals(pom, second.getPomFile());
+        assertEquals(
+                "dep", second.getDependencyManagement().getDependencies().get(0).getArtifactId());
+    }
+
+    @Test
+    void testTouchedButUnchangedPom() throws Exception {
+        get(newCache());
+        FileTime touched = FileTime.fromMillis(Files.getLastModifiedTime(pom).toMillis() - 60_000);
+        Files.setLastModifiedTime(pom, touched);
+
+        get(newCache());
+        assertEquals(1, reads.get());
+
+        // the entry now records the new time of the POM, so that its checksum is not needed anymore
+        Files.write(pom, "<projekt/>".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(pom, touched);
+        get(newCache());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testChangedPom() throws Exception {
+        get(newCache());
+        Files.write(pom, "<project></project>".getBytes(StandardCharsets.UTF_8));
+
+        get(newCache());
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testCorruptEntry() throws Exception {
+        get(newCache());
+        Files.write(newCache().getEntry(pom), new byte[] {1, 2, 3});
+
+        get(newCache());
+        assertEquals(2, reads.get());
+
+        get(newCache());
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testSupplierIsNotCachedOnHit() {
+        PersistentModelCache cache = newCache();
+        get(cache);
+        Supplier<?> supplier = cache.computeIfAbsent(source, () -> {
+            throw new AssertionError("should not be called");
+        });
+        assertSame(supplier.get(), supplier.get());
+    }
+}